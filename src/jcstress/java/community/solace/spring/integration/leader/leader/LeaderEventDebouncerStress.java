@@ -0,0 +1,97 @@
+package community.solace.spring.integration.leader.leader;
+
+import org.openjdk.jcstress.annotations.Actor;
+import org.openjdk.jcstress.annotations.Arbiter;
+import org.openjdk.jcstress.annotations.Description;
+import org.openjdk.jcstress.annotations.JCStressTest;
+import org.openjdk.jcstress.annotations.Outcome;
+import org.openjdk.jcstress.annotations.State;
+import org.openjdk.jcstress.infra.results.III_Result;
+import org.springframework.integration.leader.Context;
+import org.springframework.integration.leader.event.LeaderEventPublisher;
+import org.springframework.scheduling.concurrent.ConcurrentTaskScheduler;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.openjdk.jcstress.annotations.Expect.ACCEPTABLE;
+import static org.openjdk.jcstress.annotations.Expect.ACCEPTABLE_INTERESTING;
+import static org.openjdk.jcstress.annotations.Expect.FORBIDDEN;
+
+/**
+ * Granted and revoked events of the same group are published concurrently.
+ * The last scheduled event must always be published, and no task of the group must be left pending.
+ * <p>
+ * All samples share one scheduler. Once a marker task scheduled by the arbiter has run,
+ * all tasks scheduled by the actors have run as well.
+ */
+@JCStressTest
+@Description("The debouncer publishes the final state of a group.")
+@Outcome(id = "1, 1, 0", expect = ACCEPTABLE, desc = "Debounced, granted was the last event.")
+@Outcome(id = "1, 2, 0", expect = ACCEPTABLE, desc = "Debounced, revoked was the last event.")
+@Outcome(id = {"2, 1, 0", "2, 2, 0"}, expect = ACCEPTABLE_INTERESTING, desc = "The first event was already running when the second was scheduled.")
+@Outcome(expect = FORBIDDEN, desc = "An event got lost, or a pending task was leaked.")
+@State
+public class LeaderEventDebouncerStress {
+
+    private static final ScheduledExecutorService SCHEDULER = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "leader-event-debouncer-stress");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final RecordingPublisher publisher = new RecordingPublisher();
+    private final LeaderEventDebouncer debouncer = new LeaderEventDebouncer(publisher, Duration.ZERO, new ConcurrentTaskScheduler(SCHEDULER));
+
+    @Actor
+    public void granted() {
+        debouncer.publishOnGranted(this, null, "stress");
+    }
+
+    @Actor
+    public void revoked() {
+        debouncer.publishOnRevoked(this, null, "stress");
+    }
+
+    @Arbiter
+    public void arbiter(III_Result r) {
+        try {
+            SCHEDULER.schedule(() -> {
+            }, 0, TimeUnit.MILLISECONDS).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e);
+        }
+        r.r1 = publisher.count.get();
+        r.r2 = publisher.last;
+        r.r3 = debouncer.getPendingCount();
+    }
+
+    private static class RecordingPublisher implements LeaderEventPublisher {
+        private final AtomicInteger count = new AtomicInteger();
+        private volatile int last;
+
+        @Override
+        public void publishOnGranted(Object source, Context context, String role) {
+            count.incrementAndGet();
+            last = 1;
+        }
+
+        @Override
+        public void publishOnRevoked(Object source, Context context, String role) {
+            count.incrementAndGet();
+            last = 2;
+        }
+
+        @Override
+        public void publishOnFailedToAcquire(Object source, Context context, String role) {
+            count.incrementAndGet();
+            last = 3;
+        }
+    }
+}
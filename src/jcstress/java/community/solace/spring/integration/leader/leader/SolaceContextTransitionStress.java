@@ -0,0 +1,50 @@
+package community.solace.spring.integration.leader.leader;
+
+import org.openjdk.jcstress.annotations.Actor;
+import org.openjdk.jcstress.annotations.Arbiter;
+import org.openjdk.jcstress.annotations.Description;
+import org.openjdk.jcstress.annotations.JCStressTest;
+import org.openjdk.jcstress.annotations.Outcome;
+import org.openjdk.jcstress.annotations.State;
+import org.openjdk.jcstress.infra.results.III_Result;
+import org.springframework.integration.leader.DefaultCandidate;
+
+import static org.openjdk.jcstress.annotations.Expect.ACCEPTABLE;
+import static org.openjdk.jcstress.annotations.Expect.FORBIDDEN;
+
+/**
+ * Two threads race to move a standby {@link SolaceContext}, one to leader and one to yielding.
+ * Exactly one transition must win, and the final state must be the one of the winner.
+ */
+@JCStressTest
+@Description("Competing transitions of a SolaceContext are atomic.")
+@Outcome(id = "1, 0, 1", expect = ACCEPTABLE, desc = "Granted wins.")
+@Outcome(id = "0, 1, 0", expect = ACCEPTABLE, desc = "Yield wins.")
+@Outcome(expect = FORBIDDEN, desc = "Both or none of the transitions won, or the state does not match the winner.")
+@State
+public class SolaceContextTransitionStress {
+
+    private final SolaceContext context = newStandbyContext();
+
+    @Actor
+    public void granted(III_Result r) {
+        r.r1 = context.transition(LeaderState.STANDBY, LeaderState.LEADER) ? 1 : 0;
+    }
+
+    @Actor
+    public void yielding(III_Result r) {
+        r.r2 = context.transition(LeaderState.STANDBY, LeaderState.YIELDING) ? 1 : 0;
+    }
+
+    @Arbiter
+    public void arbiter(III_Result r) {
+        r.r3 = context.isLeader() ? 1 : 0;
+    }
+
+    static SolaceContext newStandbyContext() {
+        SolaceContext context = new SolaceContext(new DefaultCandidate("stress", "stress"), null, Runnable::run, false);
+        context.transition(LeaderState.NOT_JOINED, LeaderState.JOINING);
+        context.transition(LeaderState.JOINING, LeaderState.STANDBY);
+        return context;
+    }
+}
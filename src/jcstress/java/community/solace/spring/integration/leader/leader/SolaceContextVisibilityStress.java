@@ -0,0 +1,38 @@
+package community.solace.spring.integration.leader.leader;
+
+import org.openjdk.jcstress.annotations.Actor;
+import org.openjdk.jcstress.annotations.Description;
+import org.openjdk.jcstress.annotations.JCStressTest;
+import org.openjdk.jcstress.annotations.Outcome;
+import org.openjdk.jcstress.annotations.State;
+import org.openjdk.jcstress.infra.results.II_Result;
+
+import static org.openjdk.jcstress.annotations.Expect.ACCEPTABLE;
+import static org.openjdk.jcstress.annotations.Expect.FORBIDDEN;
+
+/**
+ * A reader observing the leadership granted by another thread must not observe an older state afterwards,
+ * neither through {@link SolaceContext#isLeader()} nor through the gauge value.
+ */
+@JCStressTest
+@Description("A granted leadership stays visible to the reader.")
+@Outcome(id = "0, 0", expect = ACCEPTABLE, desc = "Read before the grant.")
+@Outcome(id = "0, 1", expect = ACCEPTABLE, desc = "Granted between the reads.")
+@Outcome(id = "1, 1", expect = ACCEPTABLE, desc = "Read after the grant.")
+@Outcome(id = "1, 0", expect = FORBIDDEN, desc = "The gauge went back to standby after the leadership was observed.")
+@State
+public class SolaceContextVisibilityStress {
+
+    private final SolaceContext context = SolaceContextTransitionStress.newStandbyContext();
+
+    @Actor
+    public void granted() {
+        context.moveTo(LeaderState.LEADER);
+    }
+
+    @Actor
+    public void reader(II_Result r) {
+        r.r1 = context.isLeader() ? 1 : 0;
+        r.r2 = (int) context.getGaugeValue();
+    }
+}
@@ -0,0 +1,90 @@
+package community.solace.spring.integration.leader.leader;
+
+import community.solace.spring.integration.leader.queue.LeaderStateIndicator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jcstress.annotations.Actor;
+import org.openjdk.jcstress.annotations.Arbiter;
+import org.openjdk.jcstress.annotations.Description;
+import org.openjdk.jcstress.annotations.JCStressTest;
+import org.openjdk.jcstress.annotations.Outcome;
+import org.openjdk.jcstress.annotations.State;
+import org.openjdk.jcstress.infra.results.LI_Result;
+
+import java.util.function.Consumer;
+
+import static org.openjdk.jcstress.annotations.Expect.ACCEPTABLE;
+import static org.openjdk.jcstress.annotations.Expect.ACCEPTABLE_INTERESTING;
+import static org.openjdk.jcstress.annotations.Expect.FORBIDDEN;
+
+/**
+ * The leader yields while the broker delivers a flow event of the group.
+ * Whatever the interleaving, the group must end up joined with a bound flow.
+ */
+@JCStressTest
+@Description("Yield racing with a flow event leaves the group joined and bound.")
+@Outcome(id = "STANDBY, 1", expect = ACCEPTABLE, desc = "The flow event was applied before the yield, or dropped while yielding.")
+@Outcome(id = "LEADER, 1", expect = ACCEPTABLE_INTERESTING, desc = "The flow event re-granted the leadership during or after the yield.")
+@Outcome(expect = FORBIDDEN, desc = "The group failed, left the group or lost its flow.")
+@State
+public class YieldFlowEventStress {
+
+    private final FakeLeaderStateIndicator indicator = new FakeLeaderStateIndicator();
+    private final SolaceLeaderInitiator initiator = new SolaceLeaderInitiator(
+            (roleName, eventHandler, onError) -> {
+                indicator.eventHandler = eventHandler;
+                return indicator;
+            },
+            anonymousGroupsConfig(),
+            null,
+            new SimpleMeterRegistry()
+    );
+    private final SolaceContext context;
+
+    public YieldFlowEventStress() {
+        initiator.joinGroup("stress");
+        context = (SolaceContext) initiator.getContext("stress");
+        indicator.eventHandler.accept(true);
+    }
+
+    static SolaceLeaderConfig anonymousGroupsConfig() {
+        SolaceLeaderConfig config = new SolaceLeaderConfig();
+        config.setPermitAnonymousGroups(true);
+        return config;
+    }
+
+    @Actor
+    public void yieldLeadership() {
+        initiator.yieldLeaderShip("stress");
+    }
+
+    @Actor
+    public void flowEvent() {
+        indicator.eventHandler.accept(true);
+    }
+
+    @Arbiter
+    public void arbiter(LI_Result r) {
+        r.r1 = context.getState();
+        r.r2 = indicator.bound ? 1 : 0;
+    }
+
+    private static class FakeLeaderStateIndicator implements LeaderStateIndicator {
+        private volatile Consumer<Boolean> eventHandler;
+        private volatile boolean bound;
+
+        @Override
+        public void start(String candidateName) {
+            bound = true;
+        }
+
+        @Override
+        public void stop() {
+            bound = false;
+        }
+
+        @Override
+        public boolean isActive() {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package community.solace.spring.integration.leader.queue;
+
+import com.solacesystems.jcsmp.ConsumerFlowProperties;
+import com.solacesystems.jcsmp.FlowEvent;
+import com.solacesystems.jcsmp.FlowEventArgs;
+import com.solacesystems.jcsmp.FlowEventHandler;
+import com.solacesystems.jcsmp.FlowReceiver;
+import com.solacesystems.jcsmp.JCSMPException;
+import com.solacesystems.jcsmp.JCSMPSession;
+import org.openjdk.jcstress.annotations.Actor;
+import org.openjdk.jcstress.annotations.Arbiter;
+import org.openjdk.jcstress.annotations.Description;
+import org.openjdk.jcstress.annotations.JCStressTest;
+import org.openjdk.jcstress.annotations.Outcome;
+import org.openjdk.jcstress.annotations.State;
+import org.openjdk.jcstress.infra.results.ZZ_Result;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.openjdk.jcstress.annotations.Expect.ACCEPTABLE;
+import static org.openjdk.jcstress.annotations.Expect.FORBIDDEN;
+
+/**
+ * The JCSMP context thread delivers a flow active event, while the flow is stopped by another thread.
+ * A stopped flow must never be reported as active, even if the event was still in flight.
+ */
+@JCStressTest
+@Description("A late flow event does not activate a stopped flow.")
+@Outcome(id = "false, true", expect = ACCEPTABLE, desc = "The event was delivered before the flow was stopped.")
+@Outcome(id = "false, false", expect = ACCEPTABLE, desc = "The late event was ignored.")
+@Outcome(id = {"true, true", "true, false"}, expect = FORBIDDEN, desc = "The stopped flow is reported as active.")
+@State
+public class SolaceLeaderViaQueueStopStress {
+
+    private final AtomicBoolean notified = new AtomicBoolean();
+    private final SolaceLeaderViaQueue leaderViaQueue;
+    private FlowEventHandler flowEventHandler;
+
+    public SolaceLeaderViaQueueStopStress() {
+        try {
+            JCSMPSession session = mock(JCSMPSession.class);
+            when(session.createFlow(any(), any(ConsumerFlowProperties.class), any(), any())).thenAnswer(invocation -> {
+                flowEventHandler = invocation.getArgument(3);
+                return mock(FlowReceiver.class);
+            });
+            leaderViaQueue = new SolaceLeaderViaQueue(session, "stress", active -> {
+                if (active) {
+                    notified.set(true);
+                }
+            }, e -> {
+            });
+            leaderViaQueue.start("stress");
+        } catch (JCSMPException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Actor
+    public void flowActive() {
+        flowEventHandler.handleEvent(this, new FlowEventArgs(FlowEvent.FLOW_ACTIVE, null, null, 0));
+    }
+
+    @Actor
+    public void stop() {
+        leaderViaQueue.stop();
+    }
+
+    @Arbiter
+    public void arbiter(ZZ_Result r) {
+        r.r1 = leaderViaQueue.isActive();
+        r.r2 = notified.get();
+    }
+}
@@ -1,11 +1,42 @@
 package community.solace.spring.integration.leader;
 
 import com.solacesystems.jcsmp.*;
-import community.solace.spring.integration.leader.aspect.LeaderAwareAspect;
+import community.solace.spring.integration.leader.aspect.LeaderAwareAdvisor;
+import community.solace.spring.integration.leader.aspect.LeaderInvocationBuffer;
+import community.solace.spring.integration.leader.discovery.LeaderAnnouncementTransport;
+import community.solace.spring.integration.leader.discovery.LeaderDiscovery;
+import community.solace.spring.integration.leader.discovery.SolaceLeaderAnnouncementTransport;
+import community.solace.spring.integration.leader.forward.LeaderInvocationForwarder;
+import community.solace.spring.integration.leader.forward.LeaderInvocationTransport;
+import community.solace.spring.integration.leader.forward.SolaceLeaderInvocationTransport;
+import community.solace.spring.integration.leader.journal.LeaderTransitionJournal;
 import community.solace.spring.integration.leader.leader.SolaceLeaderConfig;
+import community.solace.spring.integration.leader.leader.JoinGroupConfig;
+import community.solace.spring.integration.leader.listener.LeaderListenerAnnotationBeanPostProcessor;
+import community.solace.spring.integration.leader.listener.LeaderListenerRegistry;
+import community.solace.spring.integration.leader.leader.SolaceLeaderEndpoint;
 import community.solace.spring.integration.leader.leader.SolaceLeaderInitiator;
+import community.solace.spring.integration.leader.leader.SolaceLeaderManagement;
+import community.solace.spring.integration.leader.overload.LeaderOverloadMonitor;
+import community.solace.spring.integration.leader.overload.LeaderOverloadPolicy;
+import community.solace.spring.integration.leader.overload.MeterOverloadPolicy;
 import community.solace.spring.integration.leader.queue.LeaderStateIndicatorProvider;
+import community.solace.spring.integration.leader.queue.SolaceLeaderSessionPool;
 import community.solace.spring.integration.leader.queue.SolaceLeaderViaQueue;
+import community.solace.spring.integration.leader.queue.SolaceTopicDispatcher;
+import community.solace.spring.integration.leader.scheduling.InMemoryLeaderJobStore;
+import community.solace.spring.integration.leader.scheduling.LeaderJobScheduler;
+import community.solace.spring.integration.leader.scheduling.LeaderJobStore;
+import community.solace.spring.integration.leader.scheduling.LeaderScheduledAnnotationBeanPostProcessor;
+import community.solace.spring.integration.leader.scope.LeaderScope;
+import community.solace.spring.integration.leader.work.LeaderWorkRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.actuate.autoconfigure.endpoint.condition.ConditionalOnAvailableEndpoint;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -13,37 +44,198 @@ import org.springframework.boot.context.properties.EnableConfigurationProperties
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.context.annotation.Role;
 import org.springframework.lang.Nullable;
+import org.springframework.scheduling.TaskScheduler;
 import org.springframework.util.StringUtils;
 
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
-@Configuration
+@Configuration(proxyBeanMethods = false)
 @EnableConfigurationProperties(SolaceLeaderConfig.class)
+@ImportRuntimeHints(SolaceLeaderRuntimeHints.class)
 public class SolaceLeaderAutoConfiguration {
 
+    /**
+     * Name of an optional {@link TaskScheduler} bean, running the debounced leader events.
+     * Only used for these one-shot tasks, the periodic tasks of the overload monitor and the discovery run on their own threads.
+     */
+    public static final String LEADER_EVENT_SCHEDULER_BEAN_NAME = "solaceLeaderEventScheduler";
+
     @Bean
     @ConditionalOnMissingBean
-    public SolaceLeaderInitiator solaceLeaderInitiator(LeaderStateIndicatorProvider leaderStateIndicatorProvider, SolaceLeaderConfig solaceLeaderConfig, ApplicationContext appContext) {
-        return new SolaceLeaderInitiator(leaderStateIndicatorProvider, solaceLeaderConfig, appContext);
+    public SolaceLeaderInitiator solaceLeaderInitiator(LeaderStateIndicatorProvider leaderStateIndicatorProvider, SolaceLeaderConfig solaceLeaderConfig, ApplicationContext appContext,
+                                                       @Qualifier(LEADER_EVENT_SCHEDULER_BEAN_NAME) ObjectProvider<TaskScheduler> leaderEventScheduler,
+                                                       ObjectProvider<MeterRegistry> meterRegistry) {
+        SolaceLeaderInitiator initiator = new SolaceLeaderInitiator(leaderStateIndicatorProvider, solaceLeaderConfig, appContext,
+                meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+        leaderEventScheduler.ifAvailable(initiator::setLeaderEventScheduler);
+        return initiator;
     }
 
     @Bean
     @ConditionalOnMissingBean
-    public LeaderStateIndicatorProvider leaderStateIndicatorProvider(Optional<JCSMPSession> solaceSessionOptional) {
+    public LeaderStateIndicatorProvider leaderStateIndicatorProvider(Optional<JCSMPSession> solaceSessionOptional, Optional<SolaceLeaderSessionPool> sessionPoolOptional,
+                                                                     Optional<LeaderWorkRegistry> workRegistryOptional, SolaceLeaderConfig solaceLeaderConfig) {
         return (roleName, eventHandler, onError) -> {
-            JCSMPSession solaceSession = solaceSessionOptional.orElseThrow(() -> new IllegalStateException("Not valid solace session provided, configure solace host, vpn and credentials"));
+            JCSMPSession solaceSession = sessionPoolOptional
+                    .map(pool -> pool.getSession(roleName))
+                    .or(() -> solaceSessionOptional)
+                    .orElseThrow(() -> new IllegalStateException("Not valid solace session provided, configure solace host, vpn and credentials"));
 
             return new SolaceLeaderViaQueue(
                     solaceSession,
                     roleName,
                     eventHandler,
-                    onError
+                    onError,
+                    workRegistryOptional.map(registry -> registry.listenerFor(roleName)).orElse(null),
+                    solaceLeaderConfig.getWorkWindowSize()
             );
         };
     }
 
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(name = "spring.leader.work-enabled", havingValue = "true")
+    public LeaderWorkRegistry leaderWorkRegistry() {
+        return new LeaderWorkRegistry();
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnExpression("${spring.leader.session-pool-size:1} > 1")
+    public SolaceLeaderSessionPool solaceLeaderSessionPool(JCSMPProperties jcsmpProperties, @Nullable SolaceSessionOAuth2TokenProvider solaceSessionOAuth2TokenProvider, SolaceLeaderConfig solaceLeaderConfig) throws JCSMPException {
+        JCSMPProperties myJcsmpProperties = (JCSMPProperties) jcsmpProperties.clone();
+        myJcsmpProperties.setProperty(JCSMPProperties.CLIENT_NAME, computeUniqueClientName(myJcsmpProperties));
+        myJcsmpProperties.setProperty(JCSMPProperties.CLIENT_INFO_PROVIDER, new SolaceBinderClientInfoProvider());
+        return new SolaceLeaderSessionPool(
+                myJcsmpProperties,
+                solaceSessionOAuth2TokenProvider,
+                solaceLeaderConfig.getSessionPoolSize(),
+                solaceLeaderConfig.getSessionAssignments()
+        );
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnExpression("${spring.leader.discovery-enabled:false} or ${spring.leader.forwarding-enabled:false}")
+    public SolaceTopicDispatcher solaceTopicDispatcher(JCSMPProperties jcsmpProperties, @Nullable SolaceSessionOAuth2TokenProvider solaceSessionOAuth2TokenProvider) {
+        // A dedicated session, the direct producer and consumer of a session can not be shared with the application.
+        JCSMPProperties myJcsmpProperties = (JCSMPProperties) jcsmpProperties.clone();
+        myJcsmpProperties.setProperty(JCSMPProperties.CLIENT_NAME, computeUniqueClientName(myJcsmpProperties) + "-topics");
+        myJcsmpProperties.setProperty(JCSMPProperties.CLIENT_INFO_PROVIDER, new SolaceBinderClientInfoProvider());
+        return new SolaceTopicDispatcher(myJcsmpProperties, solaceSessionOAuth2TokenProvider);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(name = "spring.leader.discovery-enabled", havingValue = "true")
+    public LeaderAnnouncementTransport leaderAnnouncementTransport(SolaceTopicDispatcher solaceTopicDispatcher) {
+        return new SolaceLeaderAnnouncementTransport(solaceTopicDispatcher);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(name = "spring.leader.discovery-enabled", havingValue = "true")
+    public LeaderDiscovery leaderDiscovery(SolaceLeaderInitiator solaceLeaderInitiator, LeaderAnnouncementTransport leaderAnnouncementTransport, SolaceLeaderConfig solaceLeaderConfig) {
+        String instanceId = StringUtils.hasText(solaceLeaderConfig.getDiscoveryInstanceId())
+                ? solaceLeaderConfig.getDiscoveryInstanceId()
+                : UUID.randomUUID().toString();
+        return new LeaderDiscovery(solaceLeaderInitiator, leaderAnnouncementTransport, instanceId, solaceLeaderConfig.getDiscoveryMetadata(),
+                solaceLeaderConfig.getDiscoveryTtl(), null);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(name = "spring.leader.forwarding-enabled", havingValue = "true")
+    public LeaderInvocationTransport leaderInvocationTransport(SolaceTopicDispatcher solaceTopicDispatcher) {
+        return new SolaceLeaderInvocationTransport(solaceTopicDispatcher);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(name = "spring.leader.forwarding-enabled", havingValue = "true")
+    public LeaderInvocationForwarder leaderInvocationForwarder(SolaceLeaderInitiator solaceLeaderInitiator, LeaderInvocationTransport leaderInvocationTransport, SolaceLeaderConfig solaceLeaderConfig, ApplicationContext appContext) {
+        LeaderInvocationForwarder forwarder = new LeaderInvocationForwarder(
+                leaderInvocationTransport,
+                appContext,
+                solaceLeaderConfig.getForwardDeserializationFilter(),
+                solaceLeaderConfig.getForwardTimeout(),
+                solaceLeaderConfig.getForwardMaxBatchSize()
+        );
+        solaceLeaderInitiator.addStateListener(forwarder);
+        return forwarder;
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(name = "spring.leader.journal-directory")
+    public LeaderTransitionJournal leaderTransitionJournal(SolaceLeaderInitiator solaceLeaderInitiator, SolaceLeaderConfig solaceLeaderConfig) {
+        LeaderTransitionJournal journal = new LeaderTransitionJournal(
+                Path.of(solaceLeaderConfig.getJournalDirectory()),
+                computeJournalNode(solaceLeaderConfig),
+                solaceLeaderConfig.getJournalSegmentSize(),
+                solaceLeaderConfig.getJournalSegments()
+        );
+        solaceLeaderInitiator.addStateListener(journal);
+        return journal;
+    }
+
+    /**
+     * The name of the node has to survive restarts, the journal continues with the segments written before.
+     */
+    private String computeJournalNode(SolaceLeaderConfig solaceLeaderConfig) {
+        if (StringUtils.hasText(solaceLeaderConfig.getJournalNode())) {
+            return solaceLeaderConfig.getJournalNode();
+        }
+        if (StringUtils.hasText(solaceLeaderConfig.getDiscoveryInstanceId())) {
+            return solaceLeaderConfig.getDiscoveryInstanceId();
+        }
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "localhost";
+        }
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(name = "spring.leader.overload-yield-enabled", havingValue = "true")
+    public LeaderOverloadPolicy leaderOverloadPolicy(SolaceLeaderConfig solaceLeaderConfig, ObjectProvider<MeterRegistry> meterRegistry) {
+        return new MeterOverloadPolicy(meterRegistry.getIfAvailable(() -> Metrics.globalRegistry), solaceLeaderConfig.getOverloadThresholds());
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(name = "spring.leader.overload-yield-enabled", havingValue = "true")
+    public LeaderOverloadMonitor leaderOverloadMonitor(SolaceLeaderInitiator solaceLeaderInitiator, LeaderOverloadPolicy leaderOverloadPolicy, SolaceLeaderConfig solaceLeaderConfig) {
+        List<JoinGroupConfig> joinGroups = solaceLeaderConfig.getJoinGroups() == null ? List.of() : solaceLeaderConfig.getJoinGroups();
+        Set<String> groups = joinGroups.stream()
+                .filter(JoinGroupConfig::getYieldOnOverload)
+                .map(JoinGroupConfig::getGroupName)
+                .collect(Collectors.toSet());
+        return new LeaderOverloadMonitor(
+                solaceLeaderInitiator,
+                leaderOverloadPolicy,
+                groups,
+                solaceLeaderConfig.getOverloadRecoveryRatio(),
+                solaceLeaderConfig.getOverloadWindow(),
+                solaceLeaderConfig.getOverloadMinTenure(),
+                solaceLeaderConfig.getOverloadCheckInterval(),
+                solaceLeaderConfig.getOverloadYieldCooldown(),
+                solaceLeaderConfig.getOverloadYieldTimeout(),
+                null
+        );
+    }
+
     /**
      * Creates a unique client name to create a JCSMP session.
      * Otherwise, no connection to the broker can be established if the application also creates a JCSMP session,
@@ -59,8 +251,70 @@ public class SolaceLeaderAutoConfiguration {
 
     @Bean
     @ConditionalOnMissingBean
-    public LeaderAwareAspect leaderAwareAspect() {
-        return new LeaderAwareAspect();
+    @ConditionalOnAvailableEndpoint
+    public SolaceLeaderEndpoint solaceLeaderEndpoint(SolaceLeaderInitiator solaceLeaderInitiator) {
+        return new SolaceLeaderEndpoint(solaceLeaderInitiator);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public SolaceLeaderManagement solaceLeaderManagement(SolaceLeaderInitiator solaceLeaderInitiator) {
+        return new SolaceLeaderManagement(solaceLeaderInitiator);
+    }
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    @ConditionalOnMissingBean(type = "community.solace.spring.integration.leader.aspect.LeaderAwareAspect")
+    public static LeaderAwareAdvisor leaderAwareAdvisor() {
+        return new LeaderAwareAdvisor();
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public LeaderInvocationBuffer leaderInvocationBuffer(SolaceLeaderInitiator solaceLeaderInitiator, SolaceLeaderConfig solaceLeaderConfig) {
+        LeaderInvocationBuffer buffer = new LeaderInvocationBuffer(
+                solaceLeaderConfig.getDeferCapacity(),
+                solaceLeaderConfig.getDeferTimeout(),
+                solaceLeaderConfig.getDeferOverflow()
+        );
+        solaceLeaderInitiator.addStateListener(buffer);
+        return buffer;
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public static LeaderScope leaderScope() {
+        return new LeaderScope();
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public LeaderListenerRegistry leaderListenerRegistry(SolaceLeaderInitiator solaceLeaderInitiator) {
+        return new LeaderListenerRegistry(solaceLeaderInitiator);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public static LeaderListenerAnnotationBeanPostProcessor leaderListenerAnnotationBeanPostProcessor() {
+        return new LeaderListenerAnnotationBeanPostProcessor();
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public LeaderJobStore leaderJobStore() {
+        return new InMemoryLeaderJobStore();
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public LeaderJobScheduler leaderJobScheduler(SolaceLeaderInitiator solaceLeaderInitiator, LeaderJobStore leaderJobStore) {
+        return new LeaderJobScheduler(solaceLeaderInitiator, leaderJobStore);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public static LeaderScheduledAnnotationBeanPostProcessor leaderScheduledAnnotationBeanPostProcessor() {
+        return new LeaderScheduledAnnotationBeanPostProcessor();
     }
 
 
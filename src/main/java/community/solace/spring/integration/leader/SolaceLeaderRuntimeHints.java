@@ -0,0 +1,46 @@
+package community.solace.spring.integration.leader;
+
+import community.solace.spring.integration.leader.forward.LeaderForwardingException;
+import community.solace.spring.integration.leader.forward.LeaderInvocation;
+import community.solace.spring.integration.leader.forward.LeaderInvocationResult;
+import community.solace.spring.integration.leader.leader.LeaderGroupStatus;
+import community.solace.spring.integration.leader.leader.SolaceLeaderConfig;
+import community.solace.spring.integration.leader.leader.SolaceLeaderInitiator;
+import community.solace.spring.integration.leader.leader.SolaceLeaderMXBean;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.boot.context.properties.bind.BindableRuntimeHintsRegistrar;
+
+import java.util.ArrayList;
+
+/**
+ * Reflection and serialization hints for Spring AOT and native images.
+ * Methods annotated with {@code @LeaderAware} or {@code @LeaderScheduled} are registered by Spring itself, see {@code @Reflective}.
+ */
+class SolaceLeaderRuntimeHints implements RuntimeHintsRegistrar {
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        BindableRuntimeHintsRegistrar.forTypes(SolaceLeaderConfig.class).registerHints(hints, classLoader);
+
+        // Handed over to JCSMP as client info provider.
+        hints.reflection().registerType(SolaceBinderClientInfoProvider.class,
+                MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS);
+        // Exported via JMX by its @ManagedAttribute and @ManagedOperation methods.
+        hints.reflection().registerType(SolaceLeaderInitiator.class, MemberCategory.INVOKE_PUBLIC_METHODS);
+        // Introspected by the MXBean mapping to open types.
+        hints.reflection().registerType(SolaceLeaderMXBean.class, MemberCategory.INVOKE_PUBLIC_METHODS);
+        hints.reflection().registerType(LeaderGroupStatus.class,
+                MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS);
+
+        // Forwarded invocations, the types of the arguments and results have to be registered by the application.
+        hints.serialization()
+                .registerType(LeaderInvocation.class)
+                .registerType(LeaderInvocationResult.class)
+                .registerType(LeaderForwardingException.class)
+                .registerType(ArrayList.class)
+                .registerType(Object[].class)
+                .registerType(String[].class);
+    }
+}
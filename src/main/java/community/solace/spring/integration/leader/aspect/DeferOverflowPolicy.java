@@ -0,0 +1,15 @@
+package community.solace.spring.integration.leader.aspect;
+
+/**
+ * What happens to a {@link FollowerMode#DEFER deferred} invocation if the buffer of the group is full.
+ */
+public enum DeferOverflowPolicy {
+    /**
+     * The new invocation is rejected with a {@link java.util.concurrent.RejectedExecutionException}.
+     */
+    REJECT,
+    /**
+     * The oldest buffered invocation is discarded to make room for the new one.
+     */
+    DROP_OLDEST
+}
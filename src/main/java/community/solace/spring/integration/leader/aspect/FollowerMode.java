@@ -0,0 +1,22 @@
+package community.solace.spring.integration.leader.aspect;
+
+/**
+ * What a {@link LeaderAware} method does if this process is not the leader of the group.
+ */
+public enum FollowerMode {
+    /**
+     * The method is not executed and returns null.
+     */
+    SKIP,
+    /**
+     * The invocation is forwarded to the leader and its result is returned.
+     * Requires {@code spring.leader.forwarding-enabled=true}, arguments and results have to be serializable.
+     */
+    FORWARD,
+    /**
+     * The invocation is buffered and runs as soon as this process becomes the leader.
+     * Methods returning a {@link java.util.concurrent.CompletableFuture} receive a future completing when it ran,
+     * all others return null immediately.
+     */
+    DEFER
+}
@@ -5,6 +5,8 @@ import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 
+import org.springframework.aot.hint.annotation.Reflective;
+
 /**
  * if the {@link LeaderAware} annotation is present at a method declaration,  
  * the method is only executed if the specified {@link #value()} is a leader.
@@ -12,6 +14,7 @@ import java.lang.annotation.Target;
  */
 @Target(ElementType.METHOD)
 @Retention(RetentionPolicy.RUNTIME)
+@Reflective
 public @interface LeaderAware {
 
     /**
@@ -24,4 +27,14 @@ public @interface LeaderAware {
      * Example:  process.name
      */
     String configValue() default "";
-}
\ No newline at end of file
+
+    /**
+     * What happens if this process is not the leader, skips the method by default.
+     */
+    FollowerMode onFollower() default FollowerMode.SKIP;
+
+    /**
+     * How long to wait for the leader when forwarding, e.g. "2s". Defaults to spring.leader.forward-timeout.
+     */
+    String forwardTimeout() default "";
+}
@@ -0,0 +1,37 @@
+package community.solace.spring.integration.leader.aspect;
+
+import org.aopalliance.aop.Advice;
+
+import org.springframework.aop.Pointcut;
+import org.springframework.aop.support.AbstractPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.BeansException;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationContextAware;
+
+/**
+ * Applies the {@link LeaderAwareMethodInterceptor} to all methods annotated with {@link LeaderAware},
+ * or implementing an annotated interface method.
+ * <p>
+ * A plain Spring AOP advisor: it neither requires AspectJ nor load-time weaving, and works with Spring AOT and native images.
+ */
+public class LeaderAwareAdvisor extends AbstractPointcutAdvisor implements ApplicationContextAware {
+
+	private final Pointcut pointcut = new AnnotationMatchingPointcut(null, LeaderAware.class, true);
+	private final LeaderAwareMethodInterceptor interceptor = new LeaderAwareMethodInterceptor();
+
+	@Override
+	public Pointcut getPointcut() {
+		return pointcut;
+	}
+
+	@Override
+	public Advice getAdvice() {
+		return interceptor;
+	}
+
+	@Override
+	public void setApplicationContext(ApplicationContext applicationContext) throws BeansException {
+		interceptor.setApplicationContext(applicationContext);
+	}
+}
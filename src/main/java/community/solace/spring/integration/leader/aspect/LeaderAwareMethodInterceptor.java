@@ -0,0 +1,140 @@
+package community.solace.spring.integration.leader.aspect;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import community.solace.spring.integration.leader.forward.LeaderForwardingException;
+import community.solace.spring.integration.leader.forward.LeaderInvocationForwarder;
+import community.solace.spring.integration.leader.leader.SolaceLeaderInitiator;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.aop.ProxyMethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.BeansException;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationContextAware;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.env.Environment;
+import org.springframework.integration.leader.Context;
+import org.springframework.util.StringUtils;
+
+/**
+ * Executes {@link LeaderAware} methods only on the leader of the group, see {@link LeaderAwareAdvisor}.
+ */
+public class LeaderAwareMethodInterceptor implements MethodInterceptor, ApplicationContextAware {
+
+	private static final Log logger = LogFactory.getLog(LeaderAwareMethodInterceptor.class);
+
+	private ApplicationContext applicationContext;
+
+	@Override
+	public Object invoke(MethodInvocation invocation) throws Throwable {
+		Method method = invocation.getMethod();
+		if (invocation.getThis() != null) {
+			method = AopUtils.getMostSpecificMethod(method, AopUtils.getTargetClass(invocation.getThis()));
+		}
+
+		if (invocation instanceof ProxyMethodInvocation proxyInvocation) {
+			// A deferred invocation proceeds later, on another thread, with a clone taken while this one is still current.
+			return invoke(method, proxyInvocation.getProxy(), invocation.getArguments(), invocation.toString(),
+					invocation::proceed, () -> proxyInvocation.invocableClone()::proceed);
+		}
+		return invoke(method, invocation.getThis(), invocation.getArguments(), invocation.toString(),
+				invocation::proceed, () -> invocation::proceed);
+	}
+
+	/**
+	 * @param proxy       the bean the method was invoked on.
+	 * @param description describes the invocation in log messages.
+	 * @param proceed     proceeds with the invocation on the calling thread.
+	 * @param deferred    only called to defer the invocation, the returned one is called later and on another thread.
+	 */
+	Object invoke(Method method, Object proxy, Object[] args, String description, LeaderInvocationBuffer.DeferredInvocation proceed,
+			Supplier<LeaderInvocationBuffer.DeferredInvocation> deferred) throws Throwable {
+		// Also finds the annotation of an interface method, the method is the one of the target class.
+		LeaderAware leaderAware = AnnotatedElementUtils.findMergedAnnotation(method, LeaderAware.class);
+		if (leaderAware == null) {
+			return proceed.proceed();
+		}
+		String role = leaderAware.value();
+
+		if (!StringUtils.hasText(role)) {
+			String configEnvPath = leaderAware.configValue();
+			Environment environment  = applicationContext.getBean(Environment.class);
+
+			role = environment.getRequiredProperty(configEnvPath);
+		}
+
+		SolaceLeaderInitiator leaderInitiator = applicationContext.getBean(SolaceLeaderInitiator.class);
+
+		Context context = leaderInitiator.getContext(role);
+		if (context != null && context.isLeader()) {
+			return proceed.proceed();
+		}
+
+		if (leaderAware.onFollower() == FollowerMode.FORWARD) {
+			return forward(method, proxy, args, description, leaderAware, role);
+		}
+
+		if (leaderAware.onFollower() == FollowerMode.DEFER) {
+			return defer(method, description, role, deferred.get());
+		}
+
+		if (context == null) {
+			if (!leaderInitiator.hasJoinGroupsConfig(role)) {
+				logger.warn("LeaderAware: " + description + " group: '" + role + "' not jet joined and no configuration found!");
+			}
+			return null;
+		}
+
+		logger.debug("LeaderAware: " + description + " group: '" + role + "' is not the leader");
+		return null;
+	}
+
+	private Object forward(Method method, Object proxy, Object[] args, String description, LeaderAware leaderAware, String role) throws Throwable {
+		if (LeaderInvocationForwarder.isForwardedInvocation()) {
+			// Never forward again, the leadership changed while the invocation was on its way.
+			throw new LeaderForwardingException("Forwarded invocation of " + description + " but group '" + role + "' is not the leader anymore");
+		}
+
+		LeaderInvocationForwarder forwarder = applicationContext.getBeanProvider(LeaderInvocationForwarder.class).getIfAvailable();
+		if (forwarder == null) {
+			throw new IllegalStateException("LeaderAware: " + description + " requires forwarding, set spring.leader.forwarding-enabled=true");
+		}
+
+		Duration timeout = StringUtils.hasText(leaderAware.forwardTimeout())
+				? DurationStyle.detectAndParse(leaderAware.forwardTimeout())
+				: null;
+
+		logger.debug("LeaderAware: " + description + " group: '" + role + "' is not the leader, forward to the leader");
+		return forwarder.forward(role, proxy, method, args, timeout);
+	}
+
+	private Object defer(Method method, String description, String role, LeaderInvocationBuffer.DeferredInvocation proceed) {
+		LeaderInvocationBuffer buffer = applicationContext.getBean(LeaderInvocationBuffer.class);
+
+		logger.debug("LeaderAware: " + description + " group: '" + role + "' is not the leader, defer until leader");
+		CompletableFuture<Object> result = buffer.defer(role, proceed);
+		if (method.getReturnType() != Object.class && method.getReturnType().isAssignableFrom(CompletableFuture.class)) {
+			return result;
+		}
+
+		result.whenComplete((value, e) -> {
+			if (e != null) {
+				logger.warn("LeaderAware: deferred " + description + " group: '" + role + "' failed", e);
+			}
+		});
+		return null;
+	}
+
+	@Override
+	public void setApplicationContext(ApplicationContext applicationContext) throws BeansException {
+		this.applicationContext = applicationContext;
+	}
+}
@@ -0,0 +1,222 @@
+package community.solace.spring.integration.leader.aspect;
+
+import community.solace.spring.integration.leader.leader.LeaderState;
+import community.solace.spring.integration.leader.leader.LeaderStateListener;
+import community.solace.spring.integration.leader.leader.SolaceContext;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Buffers invocations of {@code @LeaderAware(onFollower = DEFER)} methods while this process is not the leader
+ * and runs them in order as soon as the leadership of the group is granted.
+ * <p>
+ * Each group has a bounded buffer. Invocations not run within the timeout are discarded.
+ * The buffer of a group is drained by a single task, while the leadership lasts.
+ */
+public class LeaderInvocationBuffer implements LeaderStateListener, DisposableBean {
+
+    private static final Log logger = LogFactory.getLog(LeaderInvocationBuffer.class);
+
+    private final int capacity;
+    private final Duration timeout;
+    private final DeferOverflowPolicy overflowPolicy;
+    private final Executor executor;
+    private final Map<String, RoleBuffer> buffers = new ConcurrentHashMap<>();
+    private final Map<String, SolaceContext> leaderships = new ConcurrentHashMap<>();
+
+    public LeaderInvocationBuffer(int capacity, Duration timeout, DeferOverflowPolicy overflowPolicy) {
+        this(capacity, timeout, overflowPolicy, Executors.newCachedThreadPool(threadFactory()));
+    }
+
+    LeaderInvocationBuffer(int capacity, Duration timeout, DeferOverflowPolicy overflowPolicy, Executor executor) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("spring.leader.defer-capacity must be at least 1");
+        }
+        this.capacity = capacity;
+        this.timeout = timeout;
+        this.overflowPolicy = overflowPolicy;
+        this.executor = executor;
+    }
+
+    /**
+     * Buffers the invocation until this process is the leader of the group.
+     *
+     * @return completes with the result of the invocation. If the invocation returns a {@link CompletionStage},
+     * with the result of that stage. Completes exceptionally with a {@link java.util.concurrent.TimeoutException}
+     * if not run within the timeout, or with a {@link CancellationException} if discarded.
+     * @throws RejectedExecutionException if the buffer of the group is full and the overflow policy is REJECT.
+     */
+    public CompletableFuture<Object> defer(String role, DeferredInvocation invocation) {
+        Deferred deferred = new Deferred(invocation, new CompletableFuture<>());
+        deferred.result.orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS);
+
+        RoleBuffer buffer = buffers.computeIfAbsent(role, RoleBuffer::new);
+        buffer.add(deferred);
+        if (leaderships.containsKey(role)) {
+            // Granted between the leadership check of the caller and now.
+            buffer.scheduleDrain();
+        }
+        return deferred.result;
+    }
+
+    /**
+     * @return the number of invocations buffered for the group.
+     */
+    public int getBufferedCount(String role) {
+        RoleBuffer buffer = buffers.get(role);
+        return buffer == null ? 0 : buffer.size();
+    }
+
+    @Override
+    public void onStateChanged(SolaceContext context, LeaderState from, LeaderState to) {
+        String role = context.getRole();
+        if (to == LeaderState.LEADER) {
+            leaderships.put(role, context);
+            RoleBuffer buffer = buffers.get(role);
+            if (buffer != null) {
+                buffer.scheduleDrain();
+            }
+        } else if (from == LeaderState.LEADER) {
+            leaderships.remove(role);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (executor instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+        buffers.values().forEach(RoleBuffer::discardAll);
+    }
+
+    private static CustomizableThreadFactory threadFactory() {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("solace-leader-defer-");
+        threadFactory.setDaemon(true);
+        return threadFactory;
+    }
+
+    /**
+     * The proceeding of an intercepted method.
+     */
+    @FunctionalInterface
+    public interface DeferredInvocation {
+        Object proceed() throws Throwable;
+    }
+
+    private record Deferred(DeferredInvocation invocation, CompletableFuture<Object> result) {
+
+        void run() {
+            try {
+                Object value = invocation.proceed();
+                if (value instanceof CompletionStage<?> stage) {
+                    stage.whenComplete((v, e) -> {
+                        if (e != null) {
+                            result.completeExceptionally(e);
+                        } else {
+                            result.complete(v);
+                        }
+                    });
+                } else {
+                    result.complete(value);
+                }
+            } catch (Throwable e) {
+                result.completeExceptionally(e);
+            }
+        }
+    }
+
+    private class RoleBuffer {
+        private final String role;
+        private final Deque<Deferred> queue = new ArrayDeque<>();
+        private boolean draining;
+
+        private RoleBuffer(String role) {
+            this.role = role;
+        }
+
+        private void add(Deferred deferred) {
+            Deferred dropped = null;
+            synchronized (this) {
+                if (queue.size() >= capacity) {
+                    // Timed out invocations are done already and make room.
+                    queue.removeIf(d -> d.result.isDone());
+                }
+                if (queue.size() >= capacity) {
+                    if (overflowPolicy == DeferOverflowPolicy.REJECT) {
+                        throw new RejectedExecutionException("Deferred invocations of group " + role + " exceed spring.leader.defer-capacity=" + capacity);
+                    }
+                    dropped = queue.poll();
+                }
+                queue.add(deferred);
+            }
+            if (dropped != null) {
+                dropped.result.completeExceptionally(new CancellationException("Discarded, deferred invocations of group " + role + " exceed spring.leader.defer-capacity=" + capacity));
+            }
+        }
+
+        private synchronized int size() {
+            return queue.size();
+        }
+
+        private void scheduleDrain() {
+            synchronized (this) {
+                if (draining || queue.isEmpty()) {
+                    return;
+                }
+                draining = true;
+            }
+            try {
+                executor.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                synchronized (this) {
+                    draining = false;
+                }
+                logger.warn("Unable to run the deferred invocations of group " + role, e);
+            }
+        }
+
+        private void drain() {
+            while (true) {
+                Deferred next;
+                synchronized (this) {
+                    SolaceContext context = leaderships.get(role);
+                    if (context == null || !context.isLeader() || queue.isEmpty()) {
+                        draining = false;
+                        return;
+                    }
+                    next = queue.poll();
+                }
+                if (!next.result.isDone()) {
+                    next.run();
+                }
+            }
+        }
+
+        private void discardAll() {
+            List<Deferred> discarded;
+            synchronized (this) {
+                discarded = new ArrayList<>(queue);
+                queue.clear();
+            }
+            discarded.forEach(d -> d.result.completeExceptionally(new CancellationException("Discarded on shutdown")));
+        }
+    }
+}
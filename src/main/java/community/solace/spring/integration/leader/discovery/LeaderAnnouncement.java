@@ -0,0 +1,97 @@
+package community.solace.spring.integration.leader.discovery;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Message exchanged between the {@link LeaderDiscovery} of all nodes.
+ *
+ * @param type       what happened.
+ * @param role       the leader group, empty for a {@link Type#QUERY}.
+ * @param instanceId the sender.
+ * @param epoch      epoch of the leadership, 0 for a {@link Type#QUERY}.
+ * @param metadata   endpoint metadata of the sender.
+ */
+public record LeaderAnnouncement(Type type, String role, String instanceId, long epoch, Map<String, String> metadata) {
+
+    private static final String METADATA_PREFIX = "metadata.";
+
+    public enum Type {
+        /**
+         * The sender became the leader of the role.
+         */
+        ANNOUNCE,
+        /**
+         * The sender is not the leader of the role anymore.
+         */
+        RESIGN,
+        /**
+         * The sender joined the cluster, all leaders are asked to announce themselves again.
+         */
+        QUERY
+    }
+
+    static LeaderAnnouncement announce(LeaderInfo info) {
+        return new LeaderAnnouncement(Type.ANNOUNCE, info.role(), info.instanceId(), info.epoch(), info.metadata());
+    }
+
+    static LeaderAnnouncement resign(LeaderInfo info) {
+        return new LeaderAnnouncement(Type.RESIGN, info.role(), info.instanceId(), info.epoch(), Map.of());
+    }
+
+    static LeaderAnnouncement query(String instanceId) {
+        return new LeaderAnnouncement(Type.QUERY, "", instanceId, 0, Map.of());
+    }
+
+    LeaderInfo toLeaderInfo() {
+        return new LeaderInfo(role, instanceId, metadata, epoch);
+    }
+
+    /**
+     * @return the announcement in the properties file format.
+     */
+    public String encode() {
+        Properties properties = new Properties();
+        properties.setProperty("type", type.name());
+        properties.setProperty("role", role);
+        properties.setProperty("instanceId", instanceId);
+        properties.setProperty("epoch", Long.toString(epoch));
+        metadata.forEach((key, value) -> properties.setProperty(METADATA_PREFIX + key, value));
+
+        StringWriter writer = new StringWriter();
+        try {
+            properties.store(writer, null);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return writer.toString();
+    }
+
+    public static LeaderAnnouncement decode(String text) {
+        Properties properties = new Properties();
+        try {
+            properties.load(new StringReader(text));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        Map<String, String> metadata = new HashMap<>();
+        for (String key : properties.stringPropertyNames()) {
+            if (key.startsWith(METADATA_PREFIX)) {
+                metadata.put(key.substring(METADATA_PREFIX.length()), properties.getProperty(key));
+            }
+        }
+        return new LeaderAnnouncement(
+                Type.valueOf(properties.getProperty("type")),
+                properties.getProperty("role", ""),
+                properties.getProperty("instanceId"),
+                Long.parseLong(properties.getProperty("epoch", "0")),
+                metadata
+        );
+    }
+}
@@ -0,0 +1,15 @@
+package community.solace.spring.integration.leader.discovery;
+
+import java.util.function.Consumer;
+
+/**
+ * Delivers {@link LeaderAnnouncement}s to the {@link LeaderDiscovery} of all nodes, including the sender.
+ */
+public interface LeaderAnnouncementTransport {
+
+    void start(Consumer<LeaderAnnouncement> listener);
+
+    void publish(LeaderAnnouncement announcement);
+
+    void stop();
+}
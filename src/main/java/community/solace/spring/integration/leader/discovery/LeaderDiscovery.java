@@ -0,0 +1,251 @@
+package community.solace.spring.integration.leader.discovery;
+
+import community.solace.spring.integration.leader.leader.LeaderState;
+import community.solace.spring.integration.leader.leader.LeaderStateListener;
+import community.solace.spring.integration.leader.leader.SolaceContext;
+import community.solace.spring.integration.leader.leader.SolaceLeaderInitiator;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.concurrent.ConcurrentTaskScheduler;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+
+/**
+ * Local cache of the leaders of all groups in the cluster, updated by push.
+ * <p>
+ * On grant the leader announces its identity, metadata and epoch to all nodes, on revoke it resigns.
+ * A starting node queries the current leaders once. Lookups are answered from the cache without any round trip.
+ * The announcements are published from a dedicated thread, not the JCSMP context thread delivering the flow events.
+ * <p>
+ * A crashed leader never resigns, so every leader announces itself again three times per time to live.
+ * A leader not announced within the time to live is dropped from the cache.
+ */
+public class LeaderDiscovery implements LeaderStateListener, SmartLifecycle, DisposableBean {
+
+    private static final Log logger = LogFactory.getLog(LeaderDiscovery.class);
+    private static final Duration DEFAULT_TTL = Duration.ofSeconds(30);
+
+    private final SolaceLeaderInitiator leaderInitiator;
+    private final LeaderAnnouncementTransport transport;
+    private final String instanceId;
+    private final Map<String, String> metadata;
+    private final Executor publisher;
+    /**
+     * Zero to keep the leaders until they resign.
+     */
+    private final Duration ttl;
+    private final TaskScheduler scheduler;
+    private final Map<String, CachedLeader> leaders = new ConcurrentHashMap<>();
+    /**
+     * Highest epoch seen per group, kept after the leader resigned.
+     */
+    private final Map<String, Long> lastEpochs = new ConcurrentHashMap<>();
+    /**
+     * Groups this process is the leader of.
+     */
+    private final Map<String, LeaderInfo> ownLeaderships = new ConcurrentHashMap<>();
+    private volatile ScheduledFuture<?> nextAnnouncement;
+    private volatile boolean running;
+
+    public LeaderDiscovery(SolaceLeaderInitiator leaderInitiator, LeaderAnnouncementTransport transport,
+                           String instanceId, Map<String, String> metadata) {
+        this(leaderInitiator, transport, instanceId, metadata, DEFAULT_TTL, null);
+    }
+
+    /**
+     * @param ttl       how long a leader is kept without being announced again, zero to keep it until it resigns.
+     * @param scheduler schedules the announcements, or null to schedule them on the publishing thread.
+     */
+    public LeaderDiscovery(SolaceLeaderInitiator leaderInitiator, LeaderAnnouncementTransport transport,
+                           String instanceId, Map<String, String> metadata, Duration ttl, TaskScheduler scheduler) {
+        this(leaderInitiator, transport, instanceId, metadata, Executors.newSingleThreadScheduledExecutor(threadFactory()), ttl, scheduler);
+    }
+
+    LeaderDiscovery(SolaceLeaderInitiator leaderInitiator, LeaderAnnouncementTransport transport,
+                    String instanceId, Map<String, String> metadata, Executor publisher, Duration ttl, TaskScheduler scheduler) {
+        this.leaderInitiator = leaderInitiator;
+        this.transport = transport;
+        this.instanceId = instanceId;
+        this.metadata = Map.copyOf(metadata);
+        this.publisher = publisher;
+        this.ttl = ttl;
+        this.scheduler = scheduler != null ? scheduler : new ConcurrentTaskScheduler((ScheduledExecutorService) publisher);
+        // Registered early, so leaderships granted before start are announced on start.
+        leaderInitiator.addStateListener(this);
+    }
+
+    /**
+     * @return the last announced leader of the group, empty if unknown.
+     */
+    public Optional<LeaderInfo> getLeaderInfo(String role) {
+        CachedLeader cached = leaders.get(role);
+        if (cached == null || isExpired(cached)) {
+            return Optional.empty();
+        }
+        return Optional.of(cached.info());
+    }
+
+    /**
+     * @return the last announced leaders of all groups by group name.
+     */
+    public Map<String, LeaderInfo> getLeaders() {
+        Map<String, LeaderInfo> current = new HashMap<>();
+        leaders.forEach((role, cached) -> {
+            if (!isExpired(cached)) {
+                current.put(role, cached.info());
+            }
+        });
+        return Map.copyOf(current);
+    }
+
+    public String getInstanceId() {
+        return instanceId;
+    }
+
+    @Override
+    public void onStateChanged(SolaceContext context, LeaderState from, LeaderState to) {
+        String role = context.getRole();
+        if (to == LeaderState.LEADER) {
+            // Never go back in time, even if the clock of this node is behind the previous leader.
+            long previousEpoch = lastEpochs.getOrDefault(role, 0L);
+            LeaderInfo info = new LeaderInfo(role, instanceId, metadata, Math.max(System.currentTimeMillis(), previousEpoch + 1));
+            ownLeaderships.put(role, info);
+            update(info);
+            publish(LeaderAnnouncement.announce(info));
+        } else if (from == LeaderState.LEADER) {
+            LeaderInfo info = ownLeaderships.remove(role);
+            if (info != null) {
+                leaders.computeIfPresent(role, (r, known) -> known.info().equals(info) ? null : known);
+                publish(LeaderAnnouncement.resign(info));
+            }
+        }
+    }
+
+    void onAnnouncement(LeaderAnnouncement announcement) {
+        switch (announcement.type()) {
+            case ANNOUNCE -> update(announcement.toLeaderInfo());
+            case RESIGN -> {
+                lastEpochs.merge(announcement.role(), announcement.epoch(), Math::max);
+                leaders.computeIfPresent(announcement.role(), (role, known) ->
+                        known.info().instanceId().equals(announcement.instanceId()) && known.info().epoch() == announcement.epoch() ? null : known);
+            }
+            case QUERY -> {
+                if (!instanceId.equals(announcement.instanceId())) {
+                    ownLeaderships.values().forEach(info -> publish(LeaderAnnouncement.announce(info)));
+                }
+            }
+        }
+    }
+
+    private void update(LeaderInfo info) {
+        lastEpochs.merge(info.role(), info.epoch(), Math::max);
+        // An expired leader is replaced even by an older one, it was announced again after all.
+        leaders.merge(info.role(), new CachedLeader(info, scheduler.getClock().instant()), (known, announced) ->
+                isExpired(known) || announced.info().equals(known.info()) || announced.info().isNewerThan(known.info()) ? announced : known);
+    }
+
+    private boolean isExpired(CachedLeader cached) {
+        return !ttl.isZero() && cached.announcedAt().plus(ttl).isBefore(scheduler.getClock().instant());
+    }
+
+    private void announceOwnLeaderships() {
+        ownLeaderships.values().forEach(info -> {
+            update(info);
+            publish(LeaderAnnouncement.announce(info));
+        });
+    }
+
+    private void scheduleAnnouncement() {
+        nextAnnouncement = scheduler.schedule(() -> {
+            if (!running) {
+                return;
+            }
+            try {
+                announceOwnLeaderships();
+            } finally {
+                if (running) {
+                    scheduleAnnouncement();
+                }
+            }
+        }, scheduler.getClock().instant().plus(ttl.dividedBy(3)));
+    }
+
+    private void publish(LeaderAnnouncement announcement) {
+        if (!running) {
+            return;
+        }
+
+        publisher.execute(() -> {
+            try {
+                transport.publish(announcement);
+            } catch (RuntimeException e) {
+                logger.error("Unable to publish " + announcement.type() + " of group " + announcement.role(), e);
+            }
+        });
+    }
+
+    @Override
+    public void start() {
+        transport.start(this::onAnnouncement);
+        running = true;
+        publish(LeaderAnnouncement.query(instanceId));
+        ownLeaderships.values().forEach(info -> publish(LeaderAnnouncement.announce(info)));
+        if (!ttl.isZero()) {
+            scheduleAnnouncement();
+        }
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        ScheduledFuture<?> announcement = nextAnnouncement;
+        if (announcement != null) {
+            announcement.cancel(false);
+        }
+        transport.stop();
+    }
+
+    /**
+     * Starts before and stops after the {@link SolaceLeaderInitiator}, so the yields on shutdown are announced.
+     */
+    @Override
+    public int getPhase() {
+        return leaderInitiator.getPhase() - 1;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public void destroy() {
+        leaderInitiator.removeStateListener(this);
+        if (publisher instanceof ExecutorService executorService) {
+            executorService.shutdown();
+        }
+    }
+
+    private record CachedLeader(LeaderInfo info, Instant announcedAt) {
+    }
+
+    private static CustomizableThreadFactory threadFactory() {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("solace-leader-discovery-");
+        threadFactory.setDaemon(true);
+        return threadFactory;
+    }
+}
@@ -0,0 +1,33 @@
+package community.solace.spring.integration.leader.discovery;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * The leader of a group as announced by the leader itself.
+ *
+ * @param role       the leader group.
+ * @param instanceId identifies the leader process, see spring.leader.discovery-instance-id.
+ * @param metadata   endpoint metadata of the leader, see spring.leader.discovery-metadata.
+ * @param epoch      increases with every change of the leadership of the group.
+ */
+public record LeaderInfo(String role, String instanceId, Map<String, String> metadata, long epoch) {
+
+    public LeaderInfo {
+        metadata = Map.copyOf(metadata);
+    }
+
+    /**
+     * @return the time the leadership was granted, by the clock of the leader.
+     */
+    public Instant grantedAt() {
+        return Instant.ofEpochMilli(epoch);
+    }
+
+    boolean isNewerThan(LeaderInfo other) {
+        if (epoch != other.epoch) {
+            return epoch > other.epoch;
+        }
+        return instanceId.compareTo(other.instanceId) > 0;
+    }
+}
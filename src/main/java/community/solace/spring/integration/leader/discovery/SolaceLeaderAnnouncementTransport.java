@@ -0,0 +1,73 @@
+package community.solace.spring.integration.leader.discovery;
+
+import com.solacesystems.jcsmp.BytesXMLMessage;
+import com.solacesystems.jcsmp.JCSMPException;
+import com.solacesystems.jcsmp.JCSMPFactory;
+import com.solacesystems.jcsmp.TextMessage;
+import community.solace.spring.integration.leader.queue.SolaceTopicDispatcher;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.util.function.Consumer;
+
+/**
+ * Publishes {@link LeaderAnnouncement}s as direct messages on the topics
+ * {@value #ANNOUNCE_TOPIC_PREFIX}&lt;role&gt; and {@value #QUERY_TOPIC}.
+ */
+public class SolaceLeaderAnnouncementTransport implements LeaderAnnouncementTransport {
+
+    private static final Log logger = LogFactory.getLog(SolaceLeaderAnnouncementTransport.class);
+    public static final String ANNOUNCE_TOPIC_PREFIX = "leader/announce/";
+    public static final String QUERY_TOPIC = "leader/query";
+
+    private final SolaceTopicDispatcher topicDispatcher;
+    private volatile Consumer<LeaderAnnouncement> listener;
+
+    public SolaceLeaderAnnouncementTransport(SolaceTopicDispatcher topicDispatcher) {
+        this.topicDispatcher = topicDispatcher;
+    }
+
+    @Override
+    public void start(Consumer<LeaderAnnouncement> listener) {
+        this.listener = listener;
+        try {
+            topicDispatcher.subscribe(ANNOUNCE_TOPIC_PREFIX + ">", this::onReceive);
+            topicDispatcher.subscribe(QUERY_TOPIC, this::onReceive);
+        } catch (JCSMPException e) {
+            throw new IllegalStateException("Unable to subscribe to leader announcements", e);
+        }
+    }
+
+    @Override
+    public void publish(LeaderAnnouncement announcement) {
+        String topic = announcement.type() == LeaderAnnouncement.Type.QUERY
+                ? QUERY_TOPIC
+                : ANNOUNCE_TOPIC_PREFIX + announcement.role();
+
+        TextMessage message = JCSMPFactory.onlyInstance().createMessage(TextMessage.class);
+        message.setText(announcement.encode());
+        try {
+            topicDispatcher.send(message, topic);
+        } catch (JCSMPException e) {
+            throw new IllegalStateException("Unable to publish leader announcement on " + topic, e);
+        }
+    }
+
+    private void onReceive(BytesXMLMessage message) {
+        if (!(message instanceof TextMessage textMessage)) {
+            logger.warn("Received unexpected leader announcement:\n" + message.dump());
+            return;
+        }
+        listener.accept(LeaderAnnouncement.decode(textMessage.getText()));
+    }
+
+    @Override
+    public void stop() {
+        try {
+            topicDispatcher.unsubscribe(ANNOUNCE_TOPIC_PREFIX + ">");
+            topicDispatcher.unsubscribe(QUERY_TOPIC);
+        } catch (JCSMPException e) {
+            logger.warn("Unable to unsubscribe from leader announcements", e);
+        }
+    }
+}
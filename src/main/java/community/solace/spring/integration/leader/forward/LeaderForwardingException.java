@@ -0,0 +1,15 @@
+package community.solace.spring.integration.leader.forward;
+
+/**
+ * Thrown on a follower if an invocation could not be forwarded to the leader, or the leader did not answer in time.
+ */
+public class LeaderForwardingException extends RuntimeException {
+
+    public LeaderForwardingException(String message) {
+        super(message);
+    }
+
+    public LeaderForwardingException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
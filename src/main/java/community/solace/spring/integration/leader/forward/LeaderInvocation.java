@@ -0,0 +1,13 @@
+package community.solace.spring.integration.leader.forward;
+
+import java.io.Serializable;
+
+/**
+ * A method invocation forwarded from a follower to the leader.
+ *
+ * @param target identifies the {@code @LeaderAware(onFollower = FORWARD)} method and its bean, see {@link LeaderInvocationForwarder}.
+ *               The leader only invokes methods it registered under this id for the group.
+ * @param args   the arguments, all of them have to be serializable and allowed by the deserialization filter.
+ */
+public record LeaderInvocation(String target, Object[] args) implements Serializable {
+}
@@ -0,0 +1,40 @@
+package community.solace.spring.integration.leader.forward;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * Java serialization of the forwarded invocations and results. Deserialization is restricted by an {@link ObjectInputFilter}.
+ */
+class LeaderInvocationCodec {
+
+    private final ObjectInputFilter filter;
+
+    LeaderInvocationCodec(String filterPattern) {
+        this.filter = ObjectInputFilter.Config.createFilter(filterPattern);
+    }
+
+    byte[] encode(Object value) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(value);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to serialize " + value.getClass().getName(), e);
+        }
+        return bytes.toByteArray();
+    }
+
+    Object decode(byte[] data) {
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(data))) {
+            in.setObjectInputFilter(filter);
+            return in.readObject();
+        } catch (IOException | ClassNotFoundException e) {
+            throw new LeaderForwardingException("Unable to deserialize the forwarded invocation, see spring.leader.forward-deserialization-filter", e);
+        }
+    }
+}
@@ -0,0 +1,346 @@
+package community.solace.spring.integration.leader.forward;
+
+import community.solace.spring.integration.leader.aspect.FollowerMode;
+import community.solace.spring.integration.leader.aspect.LeaderAware;
+import community.solace.spring.integration.leader.leader.LeaderState;
+import community.solace.spring.integration.leader.leader.LeaderStateListener;
+import community.solace.spring.integration.leader.leader.SolaceContext;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.core.MethodIntrospector;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.StringUtils;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+
+/**
+ * Forwards invocations of {@code @LeaderAware(onFollower = FORWARD)} methods from a follower to the leader,
+ * and executes the forwarded invocations while being the leader.
+ * <p>
+ * Concurrent invocations of a group are batched: while a request is in flight, further invocations are queued
+ * and sent together as the next request, up to the max batch size.
+ * <p>
+ * The leader only invokes the public {@code @LeaderAware(onFollower = FORWARD)} methods of the group the request was sent to.
+ * These are registered once all singletons are instantiated, keyed by the bean name and the method signature.
+ * Requests naming any other method are rejected.
+ */
+public class LeaderInvocationForwarder implements LeaderStateListener, SmartInitializingSingleton, DisposableBean {
+
+    private static final Log logger = LogFactory.getLog(LeaderInvocationForwarder.class);
+    private static final ThreadLocal<Boolean> FORWARDED = ThreadLocal.withInitial(() -> false);
+
+    private final LeaderInvocationTransport transport;
+    private final ListableBeanFactory beanFactory;
+    private final LeaderInvocationCodec codec;
+    private final Duration defaultTimeout;
+    private final int maxBatchSize;
+    private final ExecutorService executor = Executors.newCachedThreadPool(threadFactory());
+    private final Map<String, Batcher> batchers = new ConcurrentHashMap<>();
+    /**
+     * Methods the leader may invoke, by target id.
+     */
+    private volatile Map<String, ForwardTarget> targets = Map.of();
+
+    public LeaderInvocationForwarder(LeaderInvocationTransport transport, ListableBeanFactory beanFactory,
+                                     String deserializationFilter, Duration defaultTimeout, int maxBatchSize) {
+        this.transport = transport;
+        this.beanFactory = beanFactory;
+        this.codec = new LeaderInvocationCodec(deserializationFilter);
+        this.defaultTimeout = defaultTimeout;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    /**
+     * @return true while a forwarded invocation is executed on the current thread.
+     */
+    public static boolean isForwardedInvocation() {
+        return FORWARDED.get();
+    }
+
+    /**
+     * Invokes the method on the leader of the group and waits for the result.
+     *
+     * @param bean    the bean (proxy) the method was invoked on.
+     * @param timeout the default timeout if null.
+     * @return the value returned by the leader. Exceptions thrown on the leader are rethrown.
+     */
+    public Object forward(String role, Object bean, Method method, Object[] args, Duration timeout) throws Throwable {
+        Duration effectiveTimeout = timeout != null ? timeout : defaultTimeout;
+        LeaderInvocation invocation = new LeaderInvocation(targetId(resolveBeanName(bean, method), method), args);
+
+        Pending pending = new Pending(invocation, System.nanoTime() + effectiveTimeout.toNanos(), new CompletableFuture<>());
+        pending.result.orTimeout(effectiveTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        batchers.computeIfAbsent(role, Batcher::new).add(pending);
+
+        LeaderInvocationResult result;
+        try {
+            result = pending.result.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof TimeoutException) {
+                throw new LeaderForwardingException("The leader of group " + role + " did not answer within " + effectiveTimeout);
+            }
+            throw e.getCause() instanceof LeaderForwardingException lfe
+                    ? lfe
+                    : new LeaderForwardingException("Unable to forward to the leader of group " + role, e.getCause());
+        }
+
+        if (result.error() != null) {
+            throw result.error();
+        }
+        return result.value();
+    }
+
+    private String resolveBeanName(Object bean, Method method) {
+        String[] candidates = beanFactory.getBeanNamesForType(method.getDeclaringClass());
+        if (candidates.length == 1) {
+            return candidates[0];
+        }
+        for (String candidate : candidates) {
+            if (beanFactory.getBean(candidate) == bean) {
+                return candidate;
+            }
+        }
+        throw new LeaderForwardingException("Unable to resolve the bean to forward " + method + " to");
+    }
+
+    /**
+     * Registers the methods the leader may invoke.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        Environment environment = beanFactory.getBeanProvider(Environment.class).getIfAvailable();
+        Map<String, ForwardTarget> found = new HashMap<>();
+        for (String beanName : beanFactory.getBeanNamesForType(Object.class, true, false)) {
+            Class<?> beanType = resolveTargetClass(beanName);
+            if (beanType == null) {
+                continue;
+            }
+
+            Map<Method, LeaderAware> methods = MethodIntrospector.selectMethods(beanType,
+                    (MethodIntrospector.MetadataLookup<LeaderAware>) method -> AnnotatedElementUtils.findMergedAnnotation(method, LeaderAware.class));
+            methods.forEach((method, leaderAware) -> {
+                if (leaderAware.onFollower() != FollowerMode.FORWARD) {
+                    return;
+                }
+                if (!Modifier.isPublic(method.getModifiers())) {
+                    logger.warn("Not forwarding the non public method " + method);
+                    return;
+                }
+                String role = resolveRole(leaderAware, environment);
+                if (role == null) {
+                    logger.warn("Not forwarding " + method + ", its group can not be resolved");
+                    return;
+                }
+                found.put(targetId(beanName, method), new ForwardTarget(role, beanName, method));
+            });
+        }
+        targets = Map.copyOf(found);
+    }
+
+    private Class<?> resolveTargetClass(String beanName) {
+        Class<?> beanType = beanFactory.getType(beanName, false);
+        if (beanType == null) {
+            return null;
+        }
+        if (Proxy.isProxyClass(beanType) && beanFactory.isSingleton(beanName)) {
+            // Only the target class knows the annotations of a JDK proxy.
+            return AopUtils.getTargetClass(beanFactory.getBean(beanName));
+        }
+        return ClassUtils.getUserClass(beanType);
+    }
+
+    private static String resolveRole(LeaderAware leaderAware, Environment environment) {
+        if (StringUtils.hasText(leaderAware.value())) {
+            return leaderAware.value();
+        }
+        if (environment == null || !StringUtils.hasText(leaderAware.configValue())) {
+            return null;
+        }
+        return environment.getProperty(leaderAware.configValue());
+    }
+
+    private static String targetId(String beanName, Method method) {
+        return beanName + "#" + method.getName() + Arrays.stream(method.getParameterTypes())
+                .map(Class::getName)
+                .collect(Collectors.joining(",", "(", ")"));
+    }
+
+    @Override
+    public void onStateChanged(SolaceContext context, LeaderState from, LeaderState to) {
+        if (to == LeaderState.LEADER) {
+            String role = context.getRole();
+            transport.serve(role, request -> execute(role, request));
+        } else if (from == LeaderState.LEADER) {
+            transport.stopServing(context.getRole());
+        }
+    }
+
+    private CompletableFuture<byte[]> execute(String role, byte[] request) {
+        return CompletableFuture.supplyAsync(() -> {
+            List<LeaderInvocation> invocations;
+            try {
+                invocations = decodeList(request);
+            } catch (LeaderForwardingException e) {
+                // A single result fails the whole batch on the follower.
+                logger.warn(e.getMessage(), e);
+                return codec.encode(new LeaderInvocationResult(null, e));
+            }
+            List<LeaderInvocationResult> results = new ArrayList<>(invocations.size());
+            for (LeaderInvocation invocation : invocations) {
+                results.add(execute(role, invocation));
+            }
+            return codec.encode(results);
+        }, executor);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<LeaderInvocation> decodeList(byte[] request) {
+        return (List<LeaderInvocation>) codec.decode(request);
+    }
+
+    private LeaderInvocationResult execute(String role, LeaderInvocation invocation) {
+        ForwardTarget target = targets.get(invocation.target());
+        if (target == null || !target.role().equals(role)) {
+            logger.warn("Rejected forwarded invocation of " + invocation.target() + ", it is no forwarded method of group " + role);
+            return new LeaderInvocationResult(null,
+                    new LeaderForwardingException("Not a @LeaderAware(onFollower = FORWARD) method of group " + role + ": " + invocation.target()));
+        }
+
+        FORWARDED.set(true);
+        try {
+            Object bean = beanFactory.getBean(target.beanName());
+            Method method = AopUtils.selectInvocableMethod(target.method(), bean.getClass());
+            // Invoked through the proxy, so the leadership is checked again.
+            return new LeaderInvocationResult(method.invoke(bean, invocation.args()), null);
+        } catch (InvocationTargetException e) {
+            return new LeaderInvocationResult(null, e.getTargetException());
+        } catch (Exception e) {
+            return new LeaderInvocationResult(null, e);
+        } finally {
+            FORWARDED.remove();
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    private static CustomizableThreadFactory threadFactory() {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("solace-leader-forward-");
+        threadFactory.setDaemon(true);
+        return threadFactory;
+    }
+
+    private record ForwardTarget(String role, String beanName, Method method) {
+    }
+
+    private record Pending(LeaderInvocation invocation, long deadline, CompletableFuture<LeaderInvocationResult> result) {
+    }
+
+    /**
+     * Queues the invocations of a group, while a request is in flight.
+     */
+    private class Batcher {
+        private final String role;
+        private final Deque<Pending> queue = new ArrayDeque<>();
+        private boolean inFlight;
+
+        private Batcher(String role) {
+            this.role = role;
+        }
+
+        private void add(Pending pending) {
+            synchronized (this) {
+                queue.add(pending);
+                if (inFlight) {
+                    return;
+                }
+                inFlight = true;
+            }
+            executor.execute(this::sendNext);
+        }
+
+        private void sendNext() {
+            List<Pending> batch = new ArrayList<>();
+            synchronized (this) {
+                while (!queue.isEmpty() && batch.size() < maxBatchSize) {
+                    Pending pending = queue.poll();
+                    if (!pending.result.isDone()) {
+                        batch.add(pending);
+                    }
+                }
+                if (batch.isEmpty()) {
+                    inFlight = false;
+                    return;
+                }
+            }
+
+            long deadline = batch.stream().mapToLong(Pending::deadline).max().orElseThrow();
+            Duration timeout = Duration.ofNanos(Math.max(deadline - System.nanoTime(), 0));
+            byte[] request;
+            try {
+                request = codec.encode(batch.stream().map(Pending::invocation).collect(Collectors.toCollection(ArrayList::new)));
+            } catch (RuntimeException e) {
+                batch.forEach(p -> p.result.completeExceptionally(new LeaderForwardingException("Unable to serialize the invocation", e)));
+                executor.execute(this::sendNext);
+                return;
+            }
+
+            transport.request(role, request, timeout).whenComplete((reply, error) -> {
+                if (error != null) {
+                    Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+                    batch.forEach(p -> p.result.completeExceptionally(cause));
+                } else {
+                    complete(batch, reply);
+                }
+                executor.execute(this::sendNext);
+            });
+        }
+
+        @SuppressWarnings("unchecked")
+        private void complete(List<Pending> batch, byte[] reply) {
+            try {
+                Object decoded = codec.decode(reply);
+                if (decoded instanceof LeaderInvocationResult batchFailure) {
+                    batch.forEach(p -> p.result.completeExceptionally(batchFailure.error()));
+                    return;
+                }
+                List<LeaderInvocationResult> results = (List<LeaderInvocationResult>) decoded;
+                for (int i = 0; i < batch.size(); i++) {
+                    batch.get(i).result.complete(results.get(i));
+                }
+            } catch (RuntimeException e) {
+                logger.error("Unable to read the reply of the leader of group " + role, e);
+                batch.forEach(p -> p.result.completeExceptionally(e));
+            }
+        }
+    }
+}
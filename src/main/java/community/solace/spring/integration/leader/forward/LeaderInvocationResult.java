@@ -0,0 +1,12 @@
+package community.solace.spring.integration.leader.forward;
+
+import java.io.Serializable;
+
+/**
+ * Outcome of a {@link LeaderInvocation} on the leader.
+ *
+ * @param value the return value, null if the method failed.
+ * @param error the exception thrown by the method.
+ */
+public record LeaderInvocationResult(Object value, Throwable error) implements Serializable {
+}
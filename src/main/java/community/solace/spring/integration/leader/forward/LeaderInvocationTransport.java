@@ -0,0 +1,25 @@
+package community.solace.spring.integration.leader.forward;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * Request/reply between the followers and the leader of a group.
+ */
+public interface LeaderInvocationTransport {
+
+    /**
+     * Sends the request to the leader of the group.
+     *
+     * @return completes with the reply, or exceptionally when no reply arrived within the timeout.
+     */
+    CompletableFuture<byte[]> request(String role, byte[] payload, Duration timeout);
+
+    /**
+     * Answers the requests of the group, while being its leader.
+     */
+    void serve(String role, Function<byte[], CompletableFuture<byte[]>> handler);
+
+    void stopServing(String role);
+}
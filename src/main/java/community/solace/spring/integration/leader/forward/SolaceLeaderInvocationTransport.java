@@ -0,0 +1,117 @@
+package community.solace.spring.integration.leader.forward;
+
+import com.solacesystems.jcsmp.BytesMessage;
+import com.solacesystems.jcsmp.BytesXMLMessage;
+import com.solacesystems.jcsmp.JCSMPException;
+import com.solacesystems.jcsmp.JCSMPFactory;
+import community.solace.spring.integration.leader.queue.SolaceTopicDispatcher;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Request/reply with direct messages. Requests are published on {@value #INVOKE_TOPIC_PREFIX}&lt;role&gt;,
+ * the leader answers on the reply topic of the requesting node, correlated by the correlation id.
+ */
+public class SolaceLeaderInvocationTransport implements LeaderInvocationTransport {
+
+    private static final Log logger = LogFactory.getLog(SolaceLeaderInvocationTransport.class);
+    public static final String INVOKE_TOPIC_PREFIX = "leader/invoke/";
+    public static final String REPLY_TOPIC_PREFIX = "leader/reply/";
+
+    private final SolaceTopicDispatcher topicDispatcher;
+    private final String replyTopic = REPLY_TOPIC_PREFIX + UUID.randomUUID();
+    private final Map<String, CompletableFuture<byte[]>> pendingReplies = new ConcurrentHashMap<>();
+    private final AtomicLong correlationIds = new AtomicLong();
+    private volatile boolean subscribedToReplies;
+
+    public SolaceLeaderInvocationTransport(SolaceTopicDispatcher topicDispatcher) {
+        this.topicDispatcher = topicDispatcher;
+    }
+
+    @Override
+    public CompletableFuture<byte[]> request(String role, byte[] payload, Duration timeout) {
+        String correlationId = Long.toString(correlationIds.incrementAndGet());
+        CompletableFuture<byte[]> reply = new CompletableFuture<>();
+        pendingReplies.put(correlationId, reply);
+        reply.orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS)
+                .whenComplete((r, e) -> pendingReplies.remove(correlationId));
+
+        try {
+            subscribeToReplies();
+            BytesMessage request = JCSMPFactory.onlyInstance().createMessage(BytesMessage.class);
+            request.setData(payload);
+            request.setCorrelationId(correlationId);
+            request.setReplyTo(JCSMPFactory.onlyInstance().createTopic(replyTopic));
+            topicDispatcher.send(request, INVOKE_TOPIC_PREFIX + role);
+        } catch (JCSMPException e) {
+            reply.completeExceptionally(new LeaderForwardingException("Unable to send the request to the leader of group " + role, e));
+        }
+        return reply;
+    }
+
+    private void subscribeToReplies() throws JCSMPException {
+        if (subscribedToReplies) {
+            return;
+        }
+        synchronized (this) {
+            if (!subscribedToReplies) {
+                topicDispatcher.subscribe(replyTopic, this::onReply);
+                subscribedToReplies = true;
+            }
+        }
+    }
+
+    private void onReply(BytesXMLMessage message) {
+        CompletableFuture<byte[]> reply = pendingReplies.get(message.getCorrelationId());
+        if (reply == null) {
+            logger.debug("Late reply " + message.getCorrelationId() + " dropped");
+            return;
+        }
+        reply.complete(((BytesMessage) message).getData());
+    }
+
+    @Override
+    public void serve(String role, Function<byte[], CompletableFuture<byte[]>> handler) {
+        try {
+            topicDispatcher.subscribe(INVOKE_TOPIC_PREFIX + role, request -> onRequest(request, handler));
+        } catch (JCSMPException e) {
+            logger.error("Unable to serve forwarded invocations of group " + role, e);
+        }
+    }
+
+    private void onRequest(BytesXMLMessage request, Function<byte[], CompletableFuture<byte[]>> handler) {
+        if (!(request instanceof BytesMessage bytesMessage) || request.getReplyTo() == null) {
+            logger.warn("Received unexpected forwarded invocation:\n" + request.dump());
+            return;
+        }
+
+        handler.apply(bytesMessage.getData()).thenAccept(result -> {
+            BytesMessage reply = JCSMPFactory.onlyInstance().createMessage(BytesMessage.class);
+            reply.setData(result);
+            reply.setCorrelationId(request.getCorrelationId());
+            try {
+                topicDispatcher.send(reply, request.getReplyTo().getName());
+            } catch (JCSMPException e) {
+                logger.error("Unable to reply to forwarded invocation", e);
+            }
+        });
+    }
+
+    @Override
+    public void stopServing(String role) {
+        try {
+            topicDispatcher.unsubscribe(INVOKE_TOPIC_PREFIX + role);
+        } catch (JCSMPException e) {
+            logger.warn("Unable to stop serving forwarded invocations of group " + role, e);
+        }
+    }
+}
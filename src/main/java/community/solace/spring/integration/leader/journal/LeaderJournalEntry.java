@@ -0,0 +1,22 @@
+package community.solace.spring.integration.leader.journal;
+
+import community.solace.spring.integration.leader.leader.LeaderState;
+
+import java.time.Instant;
+
+/**
+ * A leadership transition read from a {@link LeaderTransitionJournal}.
+ *
+ * @param node    name of the node that recorded the transition.
+ * @param segment number of the segment the transition was read from.
+ * @param epoch   number of leaderships of the node for the group, up to this transition.
+ * @param flow    number of flows the node bound to the leader queue of the group, up to this transition.
+ */
+public record LeaderJournalEntry(String node, long segment, Instant timestamp, String role,
+                                 LeaderState from, LeaderState to, long epoch, long flow) {
+
+    @Override
+    public String toString() {
+        return timestamp + " " + node + " " + role + " " + from + " -> " + to + " epoch=" + epoch + " flow=" + flow;
+    }
+}
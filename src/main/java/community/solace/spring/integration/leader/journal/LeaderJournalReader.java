@@ -0,0 +1,135 @@
+package community.solace.spring.integration.leader.journal;
+
+import community.solace.spring.integration.leader.leader.LeaderState;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static community.solace.spring.integration.leader.journal.LeaderTransitionJournal.FILE_SUFFIX;
+import static community.solace.spring.integration.leader.journal.LeaderTransitionJournal.HEADER_SIZE;
+import static community.solace.spring.integration.leader.journal.LeaderTransitionJournal.MAGIC;
+import static community.solace.spring.integration.leader.journal.LeaderTransitionJournal.RECORD_SIZE;
+import static community.solace.spring.integration.leader.journal.LeaderTransitionJournal.ROLE_HEADER_SIZE;
+import static community.solace.spring.integration.leader.journal.LeaderTransitionJournal.TYPE_ROLE;
+import static community.solace.spring.integration.leader.journal.LeaderTransitionJournal.TYPE_TRANSITION;
+import static community.solace.spring.integration.leader.journal.LeaderTransitionJournal.VERSION;
+import static community.solace.spring.integration.leader.journal.LeaderTransitionJournal.slots;
+
+/**
+ * Decodes the segments of {@link LeaderTransitionJournal}s.
+ * <p>
+ * Merge the journals of several nodes into one timeline on the command line:
+ * <pre>
+ * java -cp solace-spring-integration-leader.jar community.solace.spring.integration.leader.journal.LeaderJournalReader node-a/ node-b/
+ * </pre>
+ */
+public final class LeaderJournalReader {
+
+    private static final LeaderState[] STATES = LeaderState.values();
+
+    private LeaderJournalReader() {
+    }
+
+    /**
+     * Prints the merged timeline of the journal files and directories given as arguments.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length == 0) {
+            System.err.println("Usage: LeaderJournalReader <journal file or directory>...");
+            System.exit(1);
+        }
+        merge(Stream.of(args).map(Path::of).toList()).forEach(System.out::println);
+    }
+
+    /**
+     * Reads the journal files, and all journal files within the directories, into one timeline.
+     *
+     * @return the transitions of all nodes ordered by their timestamp, transitions of a node keep their order.
+     */
+    public static List<LeaderJournalEntry> merge(Collection<Path> paths) throws IOException {
+        List<Path> files = new ArrayList<>();
+        for (Path path : paths) {
+            if (Files.isDirectory(path)) {
+                try (Stream<Path> children = Files.list(path)) {
+                    children.filter(child -> child.getFileName().toString().endsWith(FILE_SUFFIX)).forEach(files::add);
+                }
+            } else {
+                files.add(path);
+            }
+        }
+
+        List<List<LeaderJournalEntry>> segments = new ArrayList<>();
+        for (Path file : files) {
+            segments.add(read(file));
+        }
+
+        List<LeaderJournalEntry> timeline = new ArrayList<>();
+        segments.stream()
+                .filter(entries -> !entries.isEmpty())
+                .sorted(Comparator.comparing((List<LeaderJournalEntry> entries) -> entries.get(0).node())
+                        .thenComparingLong(entries -> entries.get(0).segment()))
+                .forEach(timeline::addAll);
+        // Stable, so the transitions of a node within the same millisecond keep their order.
+        timeline.sort(Comparator.comparing(LeaderJournalEntry::timestamp));
+        return timeline;
+    }
+
+    /**
+     * Reads the transitions of a single segment file.
+     *
+     * @throws IOException if the file is not a leader journal.
+     */
+    public static List<LeaderJournalEntry> read(Path file) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file));
+        if (buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+            throw new IOException("Not a leader journal: " + file);
+        }
+        if (buffer.getShort(4) != VERSION) {
+            throw new IOException("Unsupported version " + buffer.getShort(4) + " of leader journal: " + file);
+        }
+
+        int nodeLength = Short.toUnsignedInt(buffer.getShort(6));
+        long segment = buffer.getLong(8);
+        String node = new String(buffer.array(), HEADER_SIZE, nodeLength, StandardCharsets.UTF_8);
+
+        Map<Integer, String> roles = new HashMap<>();
+        List<LeaderJournalEntry> entries = new ArrayList<>();
+        int position = slots(HEADER_SIZE + nodeLength) * RECORD_SIZE;
+        while (position + RECORD_SIZE <= buffer.capacity()) {
+            byte type = buffer.get(position);
+            if (type == TYPE_ROLE) {
+                int nameLength = Short.toUnsignedInt(buffer.getShort(position + 2));
+                roles.put(buffer.getInt(position + 4),
+                        new String(buffer.array(), position + ROLE_HEADER_SIZE, nameLength, StandardCharsets.UTF_8));
+                position += slots(ROLE_HEADER_SIZE + nameLength) * RECORD_SIZE;
+            } else if (type == TYPE_TRANSITION) {
+                entries.add(new LeaderJournalEntry(
+                        node,
+                        segment,
+                        Instant.ofEpochMilli(buffer.getLong(position + 8)),
+                        roles.get(buffer.getInt(position + 4)),
+                        STATES[buffer.get(position + 1)],
+                        STATES[buffer.get(position + 2)],
+                        buffer.getLong(position + 16),
+                        buffer.getLong(position + 24)
+                ));
+                position += RECORD_SIZE;
+            } else {
+                // The rest of the segment was not written yet.
+                break;
+            }
+        }
+        return entries;
+    }
+}
@@ -0,0 +1,254 @@
+package community.solace.spring.integration.leader.journal;
+
+import community.solace.spring.integration.leader.leader.LeaderState;
+import community.solace.spring.integration.leader.leader.LeaderStateListener;
+import community.solace.spring.integration.leader.leader.SolaceContext;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Records every leadership transition of this node in memory-mapped, rotating segment files.
+ * <p>
+ * Each transition is a fixed-size binary record of the timestamp, the group, the transition, the epoch and the flow.
+ * Writing a record neither allocates nor calls the operating system, the page cache persists it even if the process crashes.
+ * A segment holds the role table of the groups it refers to, so every segment can be decoded on its own.
+ * When a segment is full, the next one is created and the oldest one beyond {@code segments} is deleted.
+ * <p>
+ * Use {@link LeaderJournalReader} to decode the segments and merge the journals of several nodes into one timeline.
+ */
+public class LeaderTransitionJournal implements LeaderStateListener, Closeable {
+
+    private static final Log logger = LogFactory.getLog(LeaderTransitionJournal.class);
+
+    static final int MAGIC = 0x534C4A31; // SLJ1
+    static final short VERSION = 1;
+    static final int RECORD_SIZE = 64;
+    static final int HEADER_SIZE = 24;
+    static final int ROLE_HEADER_SIZE = 8;
+    static final byte TYPE_TRANSITION = 1;
+    static final byte TYPE_ROLE = 2;
+    static final String FILE_SUFFIX = ".journal";
+
+    private static final int MIN_SEGMENT_SIZE = 16 * RECORD_SIZE;
+
+    private final Path directory;
+    private final String node;
+    private final String filePrefix;
+    private final int segmentSize;
+    private final int segments;
+    private final Clock clock;
+
+    /**
+     * Role table of this node, guarded by this.
+     */
+    private final Map<String, RoleEntry> roles = new HashMap<>();
+    private MappedByteBuffer buffer;
+    private long segment;
+    private int position;
+    private boolean closed;
+
+    /**
+     * @param directory   where to write the segment files, shared by several nodes if their names differ.
+     * @param node        name of this node, written into every segment.
+     * @param segmentSize size of a segment file in bytes.
+     * @param segments    number of segment files to keep.
+     */
+    public LeaderTransitionJournal(Path directory, String node, int segmentSize, int segments) {
+        this(directory, node, segmentSize, segments, Clock.systemUTC());
+    }
+
+    LeaderTransitionJournal(Path directory, String node, int segmentSize, int segments, Clock clock) {
+        if (segments < 1) {
+            throw new IllegalArgumentException("A journal keeps at least one segment");
+        }
+        this.directory = directory;
+        this.node = node;
+        this.filePrefix = node.replaceAll("[^A-Za-z0-9._-]", "_") + "-";
+        this.segmentSize = Math.max(MIN_SEGMENT_SIZE, segmentSize - segmentSize % RECORD_SIZE);
+        this.segments = segments;
+        this.clock = clock;
+
+        try {
+            Files.createDirectories(directory);
+            openSegment(lastSegment() + 1);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to open leader journal in " + directory, e);
+        }
+    }
+
+    @Override
+    public synchronized void onStateChanged(SolaceContext context, LeaderState from, LeaderState to) {
+        if (closed) {
+            return;
+        }
+
+        try {
+            RoleEntry role = roles.get(context.getRole());
+            if (role == null) {
+                role = new RoleEntry(roles.size(), context.getRole());
+                roles.put(role.name, role);
+                if (!writeRole(role)) {
+                    // The new segment already contains the role table.
+                    rotate();
+                }
+            }
+
+            if (to == LeaderState.LEADER) {
+                role.epoch++;
+            }
+            if ((from == LeaderState.JOINING || from == LeaderState.YIELDING)
+                    && (to == LeaderState.STANDBY || to == LeaderState.LEADER)) {
+                role.flow++;
+            }
+
+            if (position + RECORD_SIZE > segmentSize) {
+                rotate();
+            }
+            writeTransition(role, from, to);
+        } catch (IOException | RuntimeException e) {
+            logger.error("Unable to write the leader journal, the journal is closed", e);
+            closed = true;
+        }
+    }
+
+    /**
+     * @return the segment file written to.
+     */
+    public synchronized Path getCurrentSegment() {
+        return segmentFile(segment);
+    }
+
+    public String getNode() {
+        return node;
+    }
+
+    /**
+     * Flushes the current segment to the disk and stops recording.
+     */
+    @Override
+    public synchronized void close() {
+        if (closed && buffer == null) {
+            return;
+        }
+        closed = true;
+        if (buffer != null) {
+            buffer.force();
+            buffer = null;
+        }
+    }
+
+    private void writeTransition(RoleEntry role, LeaderState from, LeaderState to) {
+        int p = position;
+        buffer.put(p + 1, (byte) from.ordinal());
+        buffer.put(p + 2, (byte) to.ordinal());
+        buffer.putInt(p + 4, role.id);
+        buffer.putLong(p + 8, clock.millis());
+        buffer.putLong(p + 16, role.epoch);
+        buffer.putLong(p + 24, role.flow);
+        // The type is written last, a reader treats a record without type as the end of the segment.
+        buffer.put(p, TYPE_TRANSITION);
+        position += RECORD_SIZE;
+    }
+
+    /**
+     * @return false if the role does not fit into the current segment.
+     */
+    private boolean writeRole(RoleEntry role) {
+        int length = slots(ROLE_HEADER_SIZE + role.encodedName.length) * RECORD_SIZE;
+        if (position + length > segmentSize) {
+            return false;
+        }
+        int p = position;
+        buffer.putShort(p + 2, (short) role.encodedName.length);
+        buffer.putInt(p + 4, role.id);
+        buffer.put(p + ROLE_HEADER_SIZE, role.encodedName);
+        buffer.put(p, TYPE_ROLE);
+        position += length;
+        return true;
+    }
+
+    private void rotate() throws IOException {
+        buffer.force();
+        openSegment(segment + 1);
+    }
+
+    private void openSegment(long next) throws IOException {
+        Path file = segmentFile(next);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+        }
+        segment = next;
+
+        byte[] encodedNode = node.getBytes(StandardCharsets.UTF_8);
+        buffer.putInt(0, MAGIC);
+        buffer.putShort(4, VERSION);
+        buffer.putShort(6, (short) encodedNode.length);
+        buffer.putLong(8, segment);
+        buffer.putLong(16, clock.millis());
+        buffer.put(HEADER_SIZE, encodedNode);
+        position = slots(HEADER_SIZE + encodedNode.length) * RECORD_SIZE;
+
+        for (RoleEntry role : roles.values()) {
+            if (!writeRole(role)) {
+                throw new IOException("The role table does not fit into a segment of " + segmentSize + " bytes");
+            }
+        }
+
+        Files.deleteIfExists(segmentFile(next - segments));
+    }
+
+    private long lastSegment() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(file -> file.getFileName().toString())
+                    .filter(name -> name.startsWith(filePrefix) && name.endsWith(FILE_SUFFIX))
+                    .map(name -> name.substring(filePrefix.length(), name.length() - FILE_SUFFIX.length()))
+                    .filter(number -> number.chars().allMatch(Character::isDigit) && !number.isEmpty())
+                    .mapToLong(Long::parseLong)
+                    .max()
+                    .orElse(0);
+        }
+    }
+
+    private Path segmentFile(long number) {
+        return directory.resolve(filePrefix + String.format("%019d", number) + FILE_SUFFIX);
+    }
+
+    static int slots(int bytes) {
+        return (bytes + RECORD_SIZE - 1) / RECORD_SIZE;
+    }
+
+    private static class RoleEntry {
+        private final int id;
+        private final String name;
+        private final byte[] encodedName;
+        /**
+         * Number of leaderships of this node.
+         */
+        private long epoch;
+        /**
+         * Number of flows this node bound to the leader queue.
+         */
+        private long flow;
+
+        private RoleEntry(int id, String name) {
+            this.id = id;
+            this.name = name;
+            this.encodedName = name.getBytes(StandardCharsets.UTF_8);
+        }
+    }
+}
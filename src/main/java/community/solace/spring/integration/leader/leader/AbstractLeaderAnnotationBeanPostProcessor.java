@@ -0,0 +1,124 @@
+package community.solace.spring.integration.leader.leader;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.aop.scope.ScopedObject;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.context.EmbeddedValueResolverAware;
+import org.springframework.util.StringValueResolver;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+
+/**
+ * Scans the singleton beans for annotated methods and registers them at a registry bean.
+ * <p>
+ * The registrations of the beans created during the startup are applied once all singletons have been instantiated,
+ * those of singletons created later, e.g. lazy beans, immediately. Other scopes are not supported: the methods of
+ * prototypes and scoped beans, which would register again for each instance, are ignored with a warning.
+ * So are the methods of scoped proxies, a {@link community.solace.spring.integration.leader.scope.LeaderScoped} bean
+ * uses its init and destroy methods instead, they run on grant and revoke.
+ *
+ * @param <R> type of the registry bean.
+ */
+public abstract class AbstractLeaderAnnotationBeanPostProcessor<R> implements BeanPostProcessor, SmartInitializingSingleton,
+        BeanFactoryAware, EmbeddedValueResolverAware {
+
+    private final Log logger = LogFactory.getLog(getClass());
+    private final Class<R> registryType;
+    private final Queue<Consumer<R>> pendingRegistrations = new ConcurrentLinkedQueue<>();
+    /**
+     * Classes of non-singleton beans, scanned once to warn about ignored methods.
+     */
+    private final Set<Class<?>> nonSingletonClasses = ConcurrentHashMap.newKeySet();
+    private BeanFactory beanFactory;
+    private StringValueResolver valueResolver;
+    private volatile R registry;
+    private volatile boolean started;
+
+    protected AbstractLeaderAnnotationBeanPostProcessor(Class<R> registryType) {
+        this.registryType = registryType;
+    }
+
+    /**
+     * @return the registrations of the annotated methods of the bean, empty if there are none.
+     */
+    protected abstract List<Consumer<R>> createRegistrations(Object bean, String beanName, Class<?> targetClass);
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+        Class<?> targetClass = AopUtils.getTargetClass(bean);
+        if (bean instanceof ScopedObject || !isSingleton(beanName)) {
+            if (nonSingletonClasses.add(targetClass) && !createRegistrations(bean, beanName, targetClass).isEmpty()) {
+                logger.warn("Ignoring the annotated methods of " + targetClass.getName() + ", only singleton beans are supported");
+            }
+            return bean;
+        }
+
+        for (Consumer<R> registration : createRegistrations(bean, beanName, targetClass)) {
+            pendingRegistrations.add(registration);
+        }
+        if (started) {
+            applyPendingRegistrations();
+        }
+        return bean;
+    }
+
+    /**
+     * Decided by the bean definition, the bean may still be in creation. Beans without a definition, e.g. registered
+     * singletons, are processed.
+     */
+    private boolean isSingleton(String beanName) {
+        return !(beanFactory instanceof ConfigurableListableBeanFactory listableBeanFactory)
+                || !listableBeanFactory.containsBeanDefinition(beanName)
+                || listableBeanFactory.getMergedBeanDefinition(beanName).isSingleton();
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        started = true;
+        applyPendingRegistrations();
+    }
+
+    /**
+     * Each registration is polled by exactly one thread. The registry is only looked up if there is a registration.
+     */
+    private void applyPendingRegistrations() {
+        if (pendingRegistrations.isEmpty()) {
+            return;
+        }
+        R current = registry;
+        if (current == null) {
+            current = beanFactory.getBean(registryType);
+            registry = current;
+        }
+        Consumer<R> registration;
+        while ((registration = pendingRegistrations.poll()) != null) {
+            registration.accept(current);
+        }
+    }
+
+    protected String resolve(String value) {
+        return valueResolver != null ? valueResolver.resolveStringValue(value) : value;
+    }
+
+    @Override
+    public void setBeanFactory(BeanFactory beanFactory) throws BeansException {
+        this.beanFactory = beanFactory;
+    }
+
+    @Override
+    public void setEmbeddedValueResolver(StringValueResolver resolver) {
+        this.valueResolver = resolver;
+    }
+}
@@ -6,6 +6,8 @@ public class JoinGroupConfig {
 
 	private boolean yieldOnShutdown = true;
 
+	private boolean yieldOnOverload = false;
+
 	public String getGroupName() {
 		return groupName;
 	}
@@ -29,4 +31,12 @@ public class JoinGroupConfig {
 	public void setYieldOnShutdown(boolean yieldOnShutdown) {
 		this.yieldOnShutdown = yieldOnShutdown;
 	}
+
+	public boolean getYieldOnOverload() {
+		return yieldOnOverload;
+	}
+
+	public void setYieldOnOverload(boolean yieldOnOverload) {
+		this.yieldOnOverload = yieldOnOverload;
+	}
 }
\ No newline at end of file
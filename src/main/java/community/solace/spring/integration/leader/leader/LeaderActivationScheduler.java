@@ -0,0 +1,115 @@
+package community.solace.spring.integration.leader.leader;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.Map;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Staggers the activation of groups, when this process becomes the leader of many groups at once.
+ * <p>
+ * At most {@code concurrency} groups run their grant callbacks at the same time, the others wait in the order
+ * of their priority, higher first, and in the order their flows became active.
+ * The wait is recorded by the {@code leader_activation_wait} timer.
+ */
+class LeaderActivationScheduler implements AutoCloseable {
+
+    private static final Log logger = LogFactory.getLog(LeaderActivationScheduler.class);
+
+    private final Map<String, Integer> priorities;
+    private final ThreadPoolExecutor executor;
+    private final AtomicLong sequence = new AtomicLong();
+    private final MeterRegistry meterRegistry;
+    private final Timer waitTimer;
+    private final Gauge queueGauge;
+
+    LeaderActivationScheduler(int concurrency, Map<String, Integer> priorities, MeterRegistry meterRegistry) {
+        this.priorities = Map.copyOf(priorities);
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("solace-leader-activation-");
+        threadFactory.setDaemon(true);
+        this.executor = new ThreadPoolExecutor(concurrency, concurrency, 0, TimeUnit.MILLISECONDS, new PriorityBlockingQueue<>(), threadFactory);
+        this.meterRegistry = meterRegistry;
+        this.waitTimer = Timer.builder("leader_activation_wait")
+                .description("Time from the flow becoming active until the grant callbacks of the group started.")
+                .register(meterRegistry);
+        this.queueGauge = Gauge.builder("leader_activation_queue", executor, e -> e.getQueue().size())
+                .description("Number of groups waiting for their activation.")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Queues the activation of the group.
+     *
+     * @param task runs the grant callbacks, unless the activation was cancelled before.
+     */
+    Activation submit(String role, Consumer<Activation> task) {
+        Activation activation = new Activation(role, priorities.getOrDefault(role, 0), sequence.getAndIncrement(), task);
+        executor.execute(activation);
+        return activation;
+    }
+
+    int getQueuedCount() {
+        return executor.getQueue().size();
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+        meterRegistry.remove(queueGauge);
+        meterRegistry.remove(waitTimer);
+    }
+
+    final class Activation implements Runnable, Comparable<Activation> {
+        private final String role;
+        private final int priority;
+        private final long sequence;
+        private final Consumer<Activation> task;
+        private final long submitted = System.nanoTime();
+        private final AtomicBoolean cancelled = new AtomicBoolean();
+
+        private Activation(String role, int priority, long sequence, Consumer<Activation> task) {
+            this.role = role;
+            this.priority = priority;
+            this.sequence = sequence;
+            this.task = task;
+        }
+
+        /**
+         * Removes the activation from the queue. An activation already running is not interrupted.
+         */
+        void cancel() {
+            if (cancelled.compareAndSet(false, true)) {
+                executor.remove(this);
+            }
+        }
+
+        @Override
+        public void run() {
+            if (cancelled.get()) {
+                return;
+            }
+            waitTimer.record(System.nanoTime() - submitted, TimeUnit.NANOSECONDS);
+            try {
+                task.accept(this);
+            } catch (RuntimeException e) {
+                logger.error("Activation of group " + role + " failed", e);
+            }
+        }
+
+        @Override
+        public int compareTo(Activation other) {
+            int result = Integer.compare(other.priority, priority);
+            return result != 0 ? result : Long.compare(sequence, other.sequence);
+        }
+    }
+}
@@ -4,34 +4,89 @@ import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.integration.leader.Context;
 import org.springframework.integration.leader.event.DefaultLeaderEventPublisher;
 import org.springframework.integration.leader.event.LeaderEventPublisher;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.concurrent.ConcurrentTaskScheduler;
 
 import java.time.Duration;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.*;
 
 public class LeaderEventDebouncer implements LeaderEventPublisher, AutoCloseable {
     private final LeaderEventPublisher leaderEventPublisher;
-    private final ScheduledExecutorService scheduler;
+    private final TaskScheduler scheduler;
+    /**
+     * The executor created by this debouncer, null if the scheduler was provided.
+     */
+    private final ScheduledExecutorService executor;
     private final Duration delay;
     private final Map<String, ScheduledFuture<?>> pendingTasks = new HashMap<>();
+    private boolean closed;
 
-    LeaderEventDebouncer(ApplicationEventPublisher applicationEventPublisher, Duration delay) {
-        this.leaderEventPublisher = new DefaultLeaderEventPublisher(applicationEventPublisher);
+    /**
+     * Publishes the {@link LeadershipChangeBatchEvent}, null if batching is disabled.
+     */
+    private final ApplicationEventPublisher batchPublisher;
+    private final Duration batchWindow;
+    /**
+     * Roles granted and revoked in the current batch window, guarded by the batch itself.
+     */
+    private final Map<String, Boolean> batch = new LinkedHashMap<>();
+    private Object batchSource;
+
+    /**
+     * @param batchWindow window of the {@link LeadershipChangeBatchEvent}, not published if null or zero.
+     */
+    LeaderEventDebouncer(ApplicationEventPublisher applicationEventPublisher, Duration delay, Duration batchWindow) {
+        this(applicationEventPublisher, delay, batchWindow, Executors.newSingleThreadScheduledExecutor());
+    }
+
+    private LeaderEventDebouncer(ApplicationEventPublisher applicationEventPublisher, Duration delay, Duration batchWindow, ScheduledExecutorService executor) {
+        this(new DefaultLeaderEventPublisher(applicationEventPublisher), applicationEventPublisher, delay, batchWindow, new ConcurrentTaskScheduler(executor), executor);
+    }
+
+    /**
+     * @param scheduler runs the debounced events, is not shut down when this debouncer is closed.
+     */
+    LeaderEventDebouncer(ApplicationEventPublisher applicationEventPublisher, Duration delay, Duration batchWindow, TaskScheduler scheduler) {
+        this(new DefaultLeaderEventPublisher(applicationEventPublisher), applicationEventPublisher, delay, batchWindow, scheduler, null);
+    }
+
+    /**
+     * @param scheduler runs the debounced events, is not shut down when this debouncer is closed.
+     */
+    LeaderEventDebouncer(LeaderEventPublisher leaderEventPublisher, Duration delay, TaskScheduler scheduler) {
+        this(leaderEventPublisher, null, delay, null, scheduler, null);
+    }
+
+    private LeaderEventDebouncer(LeaderEventPublisher leaderEventPublisher, ApplicationEventPublisher batchPublisher, Duration delay,
+                                 Duration batchWindow, TaskScheduler scheduler, ScheduledExecutorService executor) {
+        this.leaderEventPublisher = leaderEventPublisher;
+        boolean batching = batchWindow != null && !batchWindow.isZero() && !batchWindow.isNegative();
+        this.batchPublisher = batching ? batchPublisher : null;
+        this.batchWindow = batchWindow;
         this.delay = delay;
-        this.scheduler = Executors.newSingleThreadScheduledExecutor();
+        this.scheduler = scheduler;
+        this.executor = executor;
     }
 
     @Override
     public void publishOnGranted(Object source, Context context, String role) {
-        scheduleEvent(role, () ->
-                leaderEventPublisher.publishOnGranted(source, context, role));
+        scheduleEvent(role, () -> {
+            leaderEventPublisher.publishOnGranted(source, context, role);
+            addToBatch(source, role, true);
+        });
     }
 
     @Override
     public void publishOnRevoked(Object source, Context context, String role) {
-        scheduleEvent(role, () ->
-                leaderEventPublisher.publishOnRevoked(source, context, role));
+        scheduleEvent(role, () -> {
+            leaderEventPublisher.publishOnRevoked(source, context, role);
+            addToBatch(source, role, false);
+        });
     }
 
     @Override
@@ -42,35 +97,103 @@ public class LeaderEventDebouncer implements LeaderEventPublisher, AutoCloseable
 
     private void scheduleEvent(String role, Runnable task) {
         synchronized (pendingTasks) {
+            if (closed) {
+                // Application context is closed, no one is listening anymore.
+                return;
+            }
+
             ScheduledFuture<?> existing = pendingTasks.get(role);
             if (existing != null) {
                 existing.cancel(false);
             }
 
-            ScheduledFuture<?> future = scheduler.schedule(() -> {
+            PendingTask pending = new PendingTask();
+            pending.future = scheduler.schedule(() -> {
                         try {
                             task.run();
                         } finally {
-                            pendingTasks.remove(role);
+                            synchronized (pendingTasks) {
+                                // A newer event of the role might have been scheduled in the meantime.
+                                pendingTasks.remove(role, pending.future);
+                            }
                         }
                     },
-                    delay.toMillis(),
-                    TimeUnit.MILLISECONDS
+                    scheduler.getClock().instant().plus(delay)
             );
 
-            pendingTasks.put(role, future);
+            pendingTasks.put(role, pending.future);
         }
     }
 
+    /**
+     * Records the last leadership change of the role, the first change of a window schedules publishing the batch.
+     */
+    private void addToBatch(Object source, String role, boolean granted) {
+        if (batchPublisher == null) {
+            return;
+        }
+
+        synchronized (batch) {
+            boolean first = batch.isEmpty();
+            batch.remove(role);
+            batch.put(role, granted);
+            batchSource = source;
+            if (!first) {
+                return;
+            }
+        }
+
+        try {
+            scheduler.schedule(this::publishBatch, scheduler.getClock().instant().plus(batchWindow));
+        } catch (RejectedExecutionException e) {
+            // Application context is closed, no one is listening anymore.
+        }
+    }
+
+    private void publishBatch() {
+        Set<String> granted = new LinkedHashSet<>();
+        Set<String> revoked = new LinkedHashSet<>();
+        Object source;
+        synchronized (batch) {
+            batch.forEach((role, isGranted) -> (isGranted ? granted : revoked).add(role));
+            batch.clear();
+            source = batchSource;
+        }
+
+        if (!granted.isEmpty() || !revoked.isEmpty()) {
+            batchPublisher.publishEvent(new LeadershipChangeBatchEvent(source, granted, revoked));
+        }
+    }
+
+    int getPendingCount() {
+        synchronized (pendingTasks) {
+            return pendingTasks.size();
+        }
+    }
+
+    /**
+     * Written and read while holding the lock on pendingTasks.
+     */
+    private static class PendingTask {
+        private ScheduledFuture<?> future;
+    }
+
     @Override
     public void close() {
-        scheduler.shutdown();
+        synchronized (pendingTasks) {
+            closed = true;
+        }
+        if (executor == null) {
+            return;
+        }
+
+        executor.shutdown();
         try {
-            if (!scheduler.awaitTermination(5, TimeUnit.SECONDS)) {
-                scheduler.shutdownNow();
+            if (!executor.awaitTermination(5, TimeUnit.SECONDS)) {
+                executor.shutdownNow();
             }
         } catch (InterruptedException e) {
-            scheduler.shutdownNow();
+            executor.shutdownNow();
             Thread.currentThread().interrupt();
         }
     }
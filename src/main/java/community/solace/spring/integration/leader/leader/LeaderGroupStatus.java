@@ -0,0 +1,51 @@
+package community.solace.spring.integration.leader.leader;
+
+import java.beans.ConstructorProperties;
+import java.util.Date;
+
+/**
+ * Status of a group, exported as {@code CompositeData} by the {@link SolaceLeaderMXBean}.
+ */
+public class LeaderGroupStatus {
+
+    private final String role;
+    private final String state;
+    private final boolean leader;
+    private final boolean drained;
+    private final Date lastTransition;
+
+    @ConstructorProperties({"role", "state", "leader", "drained", "lastTransition"})
+    public LeaderGroupStatus(String role, String state, boolean leader, boolean drained, Date lastTransition) {
+        this.role = role;
+        this.state = state;
+        this.leader = leader;
+        this.drained = drained;
+        this.lastTransition = lastTransition;
+    }
+
+    public String getRole() {
+        return role;
+    }
+
+    /**
+     * @return the name of the {@link LeaderState}.
+     */
+    public String getState() {
+        return state;
+    }
+
+    public boolean isLeader() {
+        return leader;
+    }
+
+    public boolean isDrained() {
+        return drained;
+    }
+
+    /**
+     * @return the time of the last transition of the state, null if the state did not change since the start.
+     */
+    public Date getLastTransition() {
+        return lastTransition;
+    }
+}
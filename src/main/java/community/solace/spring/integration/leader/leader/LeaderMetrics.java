@@ -0,0 +1,139 @@
+package community.solace.spring.integration.leader.leader;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Leader meters of this process, updated on the state transitions of the groups.
+ * <ul>
+ *     <li>{@code leader_groups{state}}: number of groups per state, read from counters and not by iterating the groups.</li>
+ *     <li>{@code leader_transitions{state}}: transitions into a state.</li>
+ *     <li>{@code leader_status{group}}: per group, for all groups in {@link SolaceLeaderConfig.MetricsMode#PER_GROUP} mode.
+ *     In {@link SolaceLeaderConfig.MetricsMode#AGGREGATE} mode only for the allow-listed groups and the top-N most recently changed groups.</li>
+ * </ul>
+ */
+class LeaderMetrics implements AutoCloseable {
+
+    private final MeterRegistry registry;
+    private final SolaceLeaderConfig.MetricsMode mode;
+    private final Set<String> allowedGroups;
+    private final int topN;
+
+    private final Map<LeaderState, AtomicLong> groupsPerState = new EnumMap<>(LeaderState.class);
+    private final Map<LeaderState, Counter> transitions = new EnumMap<>(LeaderState.class);
+    private final List<Meter> aggregateMeters = new ArrayList<>();
+    private final Map<String, Gauge> groupGauges = new ConcurrentHashMap<>();
+    /**
+     * Recently changed groups having a gauge in AGGREGATE mode, least recently changed first.
+     */
+    private final LinkedHashMap<String, SolaceContext> recentlyChanged = new LinkedHashMap<>(16, 0.75f, true);
+
+    LeaderMetrics(MeterRegistry registry, SolaceLeaderConfig.MetricsMode mode, Set<String> allowedGroups, int topN) {
+        this.registry = registry;
+        this.mode = mode;
+        this.allowedGroups = Set.copyOf(allowedGroups);
+        this.topN = topN;
+
+        for (LeaderState state : LeaderState.values()) {
+            AtomicLong count = new AtomicLong();
+            groupsPerState.put(state, count);
+            String stateTag = state.name().toLowerCase(Locale.ROOT);
+            aggregateMeters.add(Gauge.builder("leader_groups", count, AtomicLong::get)
+                    .description("Number of groups of this process per state.")
+                    .tag("state", stateTag)
+                    .register(registry));
+            Counter counter = Counter.builder("leader_transitions")
+                    .description("Number of transitions of the groups of this process into a state.")
+                    .tag("state", stateTag)
+                    .register(registry);
+            transitions.put(state, counter);
+            aggregateMeters.add(counter);
+        }
+    }
+
+    void onCreated(SolaceContext context) {
+        groupsPerState.get(context.getState()).incrementAndGet();
+        if (mode == SolaceLeaderConfig.MetricsMode.PER_GROUP || allowedGroups.contains(context.getRole())) {
+            registerGroupGauge(context);
+        }
+    }
+
+    void onStateChanged(SolaceContext context, LeaderState from, LeaderState to) {
+        groupsPerState.get(from).decrementAndGet();
+        groupsPerState.get(to).incrementAndGet();
+        transitions.get(to).increment();
+
+        if (mode == SolaceLeaderConfig.MetricsMode.AGGREGATE && topN > 0 && !allowedGroups.contains(context.getRole())) {
+            trackRecentlyChanged(context);
+        }
+    }
+
+    void onRemoved(SolaceContext context) {
+        groupsPerState.get(context.getState()).decrementAndGet();
+        synchronized (recentlyChanged) {
+            recentlyChanged.remove(context.getRole());
+        }
+        removeGroupGauge(context.getRole());
+    }
+
+    private void trackRecentlyChanged(SolaceContext context) {
+        String evicted = null;
+        boolean added;
+        synchronized (recentlyChanged) {
+            added = recentlyChanged.put(context.getRole(), context) == null;
+            if (added && recentlyChanged.size() > topN) {
+                evicted = recentlyChanged.keySet().iterator().next();
+                recentlyChanged.remove(evicted);
+            }
+        }
+        if (added) {
+            registerGroupGauge(context);
+        }
+        if (evicted != null) {
+            removeGroupGauge(evicted);
+        }
+    }
+
+    private void registerGroupGauge(SolaceContext context) {
+        groupGauges.computeIfAbsent(context.getRole(), role -> Gauge.builder(
+                                "leader_status",
+                                context,
+                                SolaceContext::getGaugeValue
+                        )
+                        .description("Indicates if this project is [-1=not joined, 0=joined but not leader, 1=is leader] for a group.")
+                        .tag("group", role)
+                        .strongReference(true)
+                        .register(registry)
+        );
+    }
+
+    private void removeGroupGauge(String role) {
+        Gauge gauge = groupGauges.remove(role);
+        if (gauge != null) {
+            registry.remove(gauge);
+        }
+    }
+
+    long getGroupCount(LeaderState state) {
+        return groupsPerState.get(state).get();
+    }
+
+    @Override
+    public void close() {
+        aggregateMeters.forEach(registry::remove);
+        groupGauges.values().forEach(registry::remove);
+        groupGauges.clear();
+    }
+}
@@ -0,0 +1,61 @@
+package community.solace.spring.integration.leader.leader;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Leadership state of a {@link SolaceContext}.
+ * <pre>
+ * NOT_JOINED -&gt; JOINING -&gt; STANDBY &lt;-&gt; LEADER
+ *                    LEADER | STANDBY -&gt; YIELDING -&gt; STANDBY | LEADER
+ * any joined state -&gt; FAILED -&gt; JOINING
+ * </pre>
+ */
+public enum LeaderState {
+    /**
+     * The group is known, but no flow was bound to the leader queue.
+     */
+    NOT_JOINED,
+    /**
+     * The leader queue is being provisioned and the flow bound.
+     */
+    JOINING,
+    /**
+     * The flow is bound, but another process is the leader.
+     */
+    STANDBY,
+    /**
+     * This process is the leader.
+     */
+    LEADER,
+    /**
+     * The leadership is being handed over or this node is drained, the flow is unbound.
+     */
+    YIELDING,
+    /**
+     * Provisioning the leader queue or binding the flow failed. This process will not become the leader.
+     */
+    FAILED;
+
+    private Set<LeaderState> successors;
+
+    static {
+        NOT_JOINED.successors = EnumSet.of(JOINING);
+        JOINING.successors = EnumSet.of(STANDBY, LEADER, FAILED, NOT_JOINED);
+        STANDBY.successors = EnumSet.of(LEADER, YIELDING, FAILED, NOT_JOINED);
+        LEADER.successors = EnumSet.of(STANDBY, YIELDING, FAILED, NOT_JOINED);
+        YIELDING.successors = EnumSet.of(STANDBY, LEADER, FAILED, NOT_JOINED);
+        FAILED.successors = EnumSet.of(JOINING, NOT_JOINED);
+    }
+
+    boolean canTransitionTo(LeaderState next) {
+        return successors.contains(next);
+    }
+
+    /**
+     * @return true if a flow is bound, or being re-bound, to the leader queue.
+     */
+    public boolean isJoined() {
+        return this == STANDBY || this == LEADER || this == YIELDING;
+    }
+}
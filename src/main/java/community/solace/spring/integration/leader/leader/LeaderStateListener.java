@@ -0,0 +1,13 @@
+package community.solace.spring.integration.leader.leader;
+
+/**
+ * Callback for state transitions of a {@link SolaceContext}.
+ * <p>
+ * Invoked synchronously by the thread performing the transition (usually the JCSMP context thread),
+ * only for actual transitions ({@code from != to}). Implementations must not block.
+ */
+@FunctionalInterface
+public interface LeaderStateListener {
+
+    void onStateChanged(SolaceContext context, LeaderState from, LeaderState to);
+}
@@ -0,0 +1,45 @@
+package community.solace.spring.integration.leader.leader;
+
+import org.springframework.context.ApplicationEvent;
+
+import java.util.Set;
+
+/**
+ * Published once per {@code spring.leader.event-batch-window}, after the debounced
+ * {@link org.springframework.integration.leader.event.OnGrantedEvent OnGrantedEvent}s and
+ * {@link org.springframework.integration.leader.event.OnRevokedEvent OnRevokedEvent}s of that window.
+ * <p>
+ * A group is contained in either set, according to its last event in the window.
+ * Listeners rebuilding a view of all groups, like a routing table, can recompute once per batch
+ * instead of once per group, when many groups change on a broker failover or when a peer died.
+ */
+public class LeadershipChangeBatchEvent extends ApplicationEvent {
+
+    private final Set<String> grantedRoles;
+    private final Set<String> revokedRoles;
+
+    public LeadershipChangeBatchEvent(Object source, Set<String> grantedRoles, Set<String> revokedRoles) {
+        super(source);
+        this.grantedRoles = Set.copyOf(grantedRoles);
+        this.revokedRoles = Set.copyOf(revokedRoles);
+    }
+
+    /**
+     * @return the groups this process became the leader of.
+     */
+    public Set<String> getGrantedRoles() {
+        return grantedRoles;
+    }
+
+    /**
+     * @return the groups this process lost the leadership of.
+     */
+    public Set<String> getRevokedRoles() {
+        return revokedRoles;
+    }
+
+    @Override
+    public String toString() {
+        return "LeadershipChangeBatchEvent{granted=" + grantedRoles + ", revoked=" + revokedRoles + "}";
+    }
+}
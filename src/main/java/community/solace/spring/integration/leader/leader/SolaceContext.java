@@ -1,54 +1,181 @@
 package community.solace.spring.integration.leader.leader;
 
+import com.solacesystems.jcsmp.JCSMPException;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
 import org.springframework.integration.leader.Candidate;
 import org.springframework.integration.leader.Context;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+
 /**
  * Implementation of leadership context backed by Solace.
+ * <p>
+ * The leadership is kept as a {@link LeaderState}, transitions are lock-free compare-and-set operations.
+ * Reading the state is a single volatile load.
  */
 public class SolaceContext implements Context {
 
+    private static final Log logger = LogFactory.getLog(SolaceContext.class);
+    private static final VarHandle STATE;
+
+    static {
+        try {
+            STATE = MethodHandles.lookup().findVarHandle(SolaceContext.class, "state", LeaderState.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
     private final Candidate candidate;
-    private final Runnable yield;
+    private final Yielder yielder;
+    private final Executor yieldExecutor;
+    private final List<LeaderStateListener> stateListeners = new CopyOnWriteArrayList<>();
 
-    private boolean isLeader;
-    private boolean isJoined;
+    @SuppressWarnings("FieldMayBeFinal") // Modified via STATE
+    private volatile LeaderState state = LeaderState.NOT_JOINED;
 
     private final boolean yieldOnShutdown;
 
-    SolaceContext(Candidate candidate, Runnable yield, boolean yieldOnShutdown) {
+    SolaceContext(Candidate candidate, Yielder yielder, Executor yieldExecutor, boolean yieldOnShutdown) {
         this.candidate = candidate;
-        this.yield = yield;
-        this.isJoined = false;
+        this.yielder = yielder;
+        this.yieldExecutor = yieldExecutor;
         this.yieldOnShutdown = yieldOnShutdown;
     }
 
     @Override
     public boolean isLeader() {
-        return isLeader;
+        return state == LeaderState.LEADER;
     }
 
     public boolean shouldYieldOnShutdown() {
         return yieldOnShutdown;
     }
 
-    public synchronized void setLeader(boolean leader) {
-        isLeader = leader;
+    public boolean isJoined() {
+        return state.isJoined();
     }
 
-    public boolean isJoined() {
-        return isJoined;
+    public LeaderState getState() {
+        return state;
+    }
+
+    public void addStateListener(LeaderStateListener listener) {
+        stateListeners.add(listener);
+    }
+
+    public void removeStateListener(LeaderStateListener listener) {
+        stateListeners.remove(listener);
+    }
+
+    /**
+     * Atomically moves from the expected to the next state.
+     *
+     * @return false if the current state is not the expected one.
+     */
+    boolean transition(LeaderState expected, LeaderState next) {
+        if (!expected.canTransitionTo(next) || !STATE.compareAndSet(this, expected, next)) {
+            return false;
+        }
+        fireStateChanged(expected, next);
+        return true;
+    }
+
+    /**
+     * Atomically moves from whatever the current state is to the next state, if this transition is allowed.
+     *
+     * @return false if the context already was in the next state, or the transition is not allowed.
+     */
+    boolean moveTo(LeaderState next) {
+        while (true) {
+            LeaderState current = state;
+            if (!current.canTransitionTo(next)) {
+                return false;
+            }
+            if (STATE.compareAndSet(this, current, next)) {
+                fireStateChanged(current, next);
+                return true;
+            }
+        }
     }
 
-    public synchronized void setJoined() {
-        isJoined = true;
+    private void fireStateChanged(LeaderState from, LeaderState to) {
+        for (LeaderStateListener listener : stateListeners) {
+            try {
+                listener.onStateChanged(this, from, to);
+            } catch (RuntimeException e) {
+                logger.error("State listener failed for group " + getRole() + " on " + from + " -> " + to, e);
+            }
+        }
     }
 
     @Override
     public void yield() {
-        if (isLeader) {
-            this.yield.run();
+        if (isLeader()) {
+            try {
+                yielder.yield();
+            } catch (JCSMPException e) {
+                // Already logged and published as failed to acquire.
+            }
+        }
+    }
+
+    /**
+     * Yields the leadership without blocking the caller.
+     * The JCSMP work is done on the dedicated executor of the {@link SolaceLeaderInitiator}.
+     *
+     * @return completes when the flow has been re-bound, or exceptionally if the flow could not be re-bound.
+     */
+    public CompletableFuture<Void> yieldAsync() {
+        if (!isLeader()) {
+            return CompletableFuture.completedFuture(null);
         }
+
+        return CompletableFuture.runAsync(() -> {
+            try {
+                yielder.yield();
+            } catch (JCSMPException e) {
+                throw new CompletionException(e);
+            }
+        }, yieldExecutor);
+    }
+
+    /**
+     * Yields the leadership and keeps the flow unbound for the cooldown, before joining the group again.
+     * This gives the other candidates time to bind, so the leadership does not bounce straight back.
+     * The flow is unbound when this method returns.
+     *
+     * @return completes when the flow has been re-bound, or exceptionally if the flow could not be re-bound.
+     */
+    public CompletableFuture<Void> yield(Duration cooldown) {
+        if (!isLeader()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return yielder.yield(cooldown, null);
+    }
+
+    /**
+     * Yields the leadership and re-joins only after another candidate has been observed as the active one.
+     * <p>
+     * After each cooldown the flow is bound as a probe. If it becomes active nobody else took over,
+     * the probe is unbound silently, without any leader callbacks, and retried after the next cooldown.
+     * When the timeout elapsed without any other candidate taking over, this process accepts the leadership again.
+     *
+     * @return completes when the flow has been re-bound as standby, or when the leadership was accepted after the timeout.
+     */
+    public CompletableFuture<Void> yieldToPeer(Duration cooldown, Duration timeout) {
+        if (!isLeader()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return yielder.yield(cooldown, timeout);
     }
 
     @Override
@@ -59,19 +186,33 @@ public class SolaceContext implements Context {
     @Override
     public String toString() {
         return String.format(
-                "SolaceContext{role=%s, id=%s, joined=%s, isLeader=%s}",
+                "SolaceContext{role=%s, id=%s, state=%s}",
                 candidate.getRole(),
                 candidate.getId(),
-                isJoined(),
-                isLeader()
+                state
         );
     }
 
     double getGaugeValue() {
-        if (!isJoined()) {
+        LeaderState current = state;
+        if (!current.isJoined()) {
             return -1;
         }
 
-        return (isLeader()) ? 1 : 0;
+        return (current == LeaderState.LEADER) ? 1 : 0;
+    }
+
+    interface Yielder {
+        /**
+         * Unbinds and immediately re-binds the flow.
+         */
+        void yield() throws JCSMPException;
+
+        /**
+         * Unbinds the flow and re-binds it after the cooldown.
+         *
+         * @param peerTimeout if not null, re-bind only after another candidate became active, at the latest after the timeout.
+         */
+        CompletableFuture<Void> yield(Duration cooldown, Duration peerTimeout);
     }
-}
\ No newline at end of file
+}
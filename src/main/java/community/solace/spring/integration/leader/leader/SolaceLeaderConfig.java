@@ -1,5 +1,6 @@
 package community.solace.spring.integration.leader.leader;
 
+import java.time.Duration;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -7,6 +8,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import community.solace.spring.integration.leader.aspect.DeferOverflowPolicy;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 import org.springframework.util.CollectionUtils;
@@ -20,6 +22,11 @@ public class SolaceLeaderConfig {
 		ON_READINESS  // Join after readiness event was fired.
 	}
 
+	public enum MetricsMode {
+		PER_GROUP,    // A leader_status gauge for each group
+		AGGREGATE     // Counts per state, leader_status only for metrics-groups and the metrics-top-n recently changed groups
+	}
+
 	private List<JoinGroupConfig> joinGroups;
 
 	/**
@@ -28,6 +35,206 @@ public class SolaceLeaderConfig {
 	 */
 	private boolean permitAnonymousGroups = false;
 
+	/**
+	 * Delay used to debounce leader events per group. Only the last event within this window is published,
+	 * which suppresses granted/revoked flapping on broker failover.
+	 */
+	private Duration eventDebounce = Duration.ofMillis(500);
+
+	/**
+	 * Window to coalesce the debounced granted and revoked events of all groups into one {@link LeadershipChangeBatchEvent}.
+	 * The batch event is not published, if not set.
+	 */
+	private Duration eventBatchWindow;
+
+	/**
+	 * Number of threads doing the blocking JCSMP work of the async API, delayed re-joins and drain.
+	 * Groups are drained in parallel up to this number.
+	 */
+	private int asyncPoolSize = 4;
+
+	/**
+	 * How long the drain operation of JMX and actuator waits until all groups have been handed over.
+	 */
+	private Duration drainTimeout = Duration.ofSeconds(30);
+
+	/**
+	 * SmartLifecycle phase yielding the leadership of the yieldOnShutdown groups on shutdown.
+	 * Higher phases stop earlier, the default runs before the Spring Cloud Stream bindings and the JCSMP session stop.
+	 */
+	private int shutdownPhase = Integer.MAX_VALUE - 100;
+
+	/**
+	 * Bound on the total time to hand over the leadership of all groups on shutdown.
+	 */
+	private Duration shutdownTimeout = Duration.ofSeconds(10);
+
+	/**
+	 * 1: All groups share the JCSMP session of the application.
+	 * n &gt; 1: The groups are spread over n dedicated leader sessions, each having its own dispatch thread.
+	 */
+	private int sessionPoolSize = 1;
+
+	/**
+	 * Explicit assignment of groups to a session of the pool by index. Other groups are assigned by the hash of their name.
+	 */
+	private Map<String, Integer> sessionAssignments = new HashMap<>();
+
+	/**
+	 * PER_GROUP: a leader_status gauge for each group. AGGREGATE: for large group counts.
+	 */
+	private MetricsMode metricsMode = MetricsMode.PER_GROUP;
+
+	/**
+	 * Groups always having a leader_status gauge in AGGREGATE mode.
+	 */
+	private Set<String> metricsGroups = new HashSet<>();
+
+	/**
+	 * Number of most recently changed groups having a leader_status gauge in AGGREGATE mode.
+	 */
+	private int metricsTopN = 0;
+
+	/**
+	 * Maximum number of groups running their grant callbacks at the same time, when this process becomes the leader
+	 * of many groups at once. 0 disables the staggering, the callbacks run on the JCSMP context thread.
+	 */
+	private int activationConcurrency = 0;
+
+	/**
+	 * Activation priority by group name, higher first. Default is 0.
+	 */
+	private Map<String, Integer> activationPriorities = new HashMap<>();
+
+	/**
+	 * true: Messages published to the leader queue of a group are delivered to its handler in the LeaderWorkRegistry.
+	 */
+	private boolean workEnabled = false;
+
+	/**
+	 * Maximum number of unacknowledged work messages delivered to the leader, 1 to 255.
+	 */
+	private int workWindowSize = 255;
+
+	/**
+	 * Directory of the journal recording every leadership transition of this node. The journal is disabled if not set.
+	 */
+	private String journalDirectory;
+
+	/**
+	 * Name of this node in the journal, defaults to the discovery instance id or the host name.
+	 */
+	private String journalNode;
+
+	/**
+	 * Size of a journal segment file in bytes, a transition takes 64 bytes.
+	 */
+	private int journalSegmentSize = 1024 * 1024;
+
+	/**
+	 * Number of journal segment files to keep.
+	 */
+	private int journalSegments = 4;
+
+	/**
+	 * Yield the leadership of the groups configured with yield-on-overload, while this node is overloaded.
+	 */
+	private boolean overloadYieldEnabled = false;
+
+	/**
+	 * Overload thresholds by meter name, for example jvm.gc.pause (max seconds) or process.cpu.usage.
+	 * The node is overloaded if a meter reaches its threshold.
+	 */
+	private Map<String, Double> overloadThresholds = new HashMap<>();
+
+	/**
+	 * An overloaded node recovers when all meters dropped below this ratio of their thresholds.
+	 */
+	private double overloadRecoveryRatio = 0.8;
+
+	/**
+	 * How long the node has to be overloaded, before it yields the leadership.
+	 */
+	private Duration overloadWindow = Duration.ofSeconds(30);
+
+	/**
+	 * The leadership of a group is not yielded before the node was the leader for this minimum tenure.
+	 */
+	private Duration overloadMinTenure = Duration.ofSeconds(60);
+
+	/**
+	 * How often the overload thresholds are checked.
+	 */
+	private Duration overloadCheckInterval = Duration.ofSeconds(5);
+
+	/**
+	 * How long the flow of a yielded group stays unbound, before the node probes whether another candidate took over.
+	 */
+	private Duration overloadYieldCooldown = Duration.ofSeconds(5);
+
+	/**
+	 * How long the node waits for another candidate to take over, before it accepts the leadership again.
+	 */
+	private Duration overloadYieldTimeout = Duration.ofSeconds(30);
+
+	/**
+	 * true: The leader of a group announces itself to all nodes, see LeaderDiscovery.
+	 */
+	private boolean discoveryEnabled = false;
+
+	/**
+	 * Identifies this process in the leader announcements. A random UUID if empty.
+	 */
+	private String discoveryInstanceId;
+
+	/**
+	 * Endpoint metadata announced with the leadership, e.g. the URL of this process.
+	 */
+	private Map<String, String> discoveryMetadata = new HashMap<>();
+
+	/**
+	 * A leader not announced again within this time is dropped by the other nodes, e.g. after a crash.
+	 * The leaders announce themselves three times per time to live. 0 keeps a leader until it resigns.
+	 */
+	private Duration discoveryTtl = Duration.ofSeconds(30);
+
+	/**
+	 * true: Followers can forward invocations of {@code @LeaderAware(onFollower = FORWARD)} methods to the leader.
+	 */
+	private boolean forwardingEnabled = false;
+
+	/**
+	 * How long a follower waits for the result of a forwarded invocation,
+	 * if not specified by {@code @LeaderAware(forwardTimeout = ...)}.
+	 */
+	private Duration forwardTimeout = Duration.ofSeconds(5);
+
+	/**
+	 * Max number of concurrent invocations of a group sent to the leader in one request.
+	 */
+	private int forwardMaxBatchSize = 100;
+
+	/**
+	 * {@link java.io.ObjectInputFilter} pattern applied when deserializing forwarded arguments and results.
+	 * Add the packages of your argument and result types.
+	 */
+	private String forwardDeserializationFilter = "maxdepth=20;maxrefs=10000;maxbytes=10485760;java.base/*;community.solace.spring.integration.leader.forward.*;!*";
+
+	/**
+	 * Max number of {@code @LeaderAware(onFollower = DEFER)} invocations buffered per group.
+	 */
+	private int deferCapacity = 1000;
+
+	/**
+	 * Deferred invocations not run within this timeout are discarded.
+	 */
+	private Duration deferTimeout = Duration.ofSeconds(30);
+
+	/**
+	 * What to do with a deferred invocation if the buffer of its group is full.
+	 */
+	private DeferOverflowPolicy deferOverflow = DeferOverflowPolicy.REJECT;
+
 	public List<JoinGroupConfig> getJoinGroups() {
 		return joinGroups;
 	}
@@ -75,5 +282,307 @@ public class SolaceLeaderConfig {
 		this.permitAnonymousGroups = permitAnonymousGroups;
 	}
 
+	public Duration getEventDebounce() {
+		return eventDebounce;
+	}
+
+	public void setEventDebounce(Duration eventDebounce) {
+		this.eventDebounce = eventDebounce;
+	}
+
+	public int getAsyncPoolSize() {
+		return asyncPoolSize;
+	}
+
+	public void setAsyncPoolSize(int asyncPoolSize) {
+		this.asyncPoolSize = asyncPoolSize;
+	}
+
+	public Duration getDrainTimeout() {
+		return drainTimeout;
+	}
+
+	public void setDrainTimeout(Duration drainTimeout) {
+		this.drainTimeout = drainTimeout;
+	}
+
+	public int getShutdownPhase() {
+		return shutdownPhase;
+	}
+
+	public void setShutdownPhase(int shutdownPhase) {
+		this.shutdownPhase = shutdownPhase;
+	}
+
+	public Duration getShutdownTimeout() {
+		return shutdownTimeout;
+	}
+
+	public void setShutdownTimeout(Duration shutdownTimeout) {
+		this.shutdownTimeout = shutdownTimeout;
+	}
+
+	public int getSessionPoolSize() {
+		return sessionPoolSize;
+	}
+
+	public void setSessionPoolSize(int sessionPoolSize) {
+		this.sessionPoolSize = sessionPoolSize;
+	}
+
+	public Map<String, Integer> getSessionAssignments() {
+		return sessionAssignments;
+	}
+
+	public void setSessionAssignments(Map<String, Integer> sessionAssignments) {
+		this.sessionAssignments = sessionAssignments;
+	}
+
+	public boolean isDiscoveryEnabled() {
+		return discoveryEnabled;
+	}
+
+	public void setDiscoveryEnabled(boolean discoveryEnabled) {
+		this.discoveryEnabled = discoveryEnabled;
+	}
+
+	public String getDiscoveryInstanceId() {
+		return discoveryInstanceId;
+	}
+
+	public void setDiscoveryInstanceId(String discoveryInstanceId) {
+		this.discoveryInstanceId = discoveryInstanceId;
+	}
+
+	public Map<String, String> getDiscoveryMetadata() {
+		return discoveryMetadata;
+	}
+
+	public void setDiscoveryMetadata(Map<String, String> discoveryMetadata) {
+		this.discoveryMetadata = discoveryMetadata;
+	}
+
+	public Duration getDiscoveryTtl() {
+		return discoveryTtl;
+	}
+
+	public void setDiscoveryTtl(Duration discoveryTtl) {
+		this.discoveryTtl = discoveryTtl;
+	}
+
+	public boolean isForwardingEnabled() {
+		return forwardingEnabled;
+	}
+
+	public void setForwardingEnabled(boolean forwardingEnabled) {
+		this.forwardingEnabled = forwardingEnabled;
+	}
+
+	public Duration getForwardTimeout() {
+		return forwardTimeout;
+	}
+
+	public void setForwardTimeout(Duration forwardTimeout) {
+		this.forwardTimeout = forwardTimeout;
+	}
 
+	public int getForwardMaxBatchSize() {
+		return forwardMaxBatchSize;
+	}
+
+	public void setForwardMaxBatchSize(int forwardMaxBatchSize) {
+		this.forwardMaxBatchSize = forwardMaxBatchSize;
+	}
+
+	public String getForwardDeserializationFilter() {
+		return forwardDeserializationFilter;
+	}
+
+	public void setForwardDeserializationFilter(String forwardDeserializationFilter) {
+		this.forwardDeserializationFilter = forwardDeserializationFilter;
+	}
+
+	public int getDeferCapacity() {
+		return deferCapacity;
+	}
+
+	public void setDeferCapacity(int deferCapacity) {
+		this.deferCapacity = deferCapacity;
+	}
+
+	public Duration getDeferTimeout() {
+		return deferTimeout;
+	}
+
+	public void setDeferTimeout(Duration deferTimeout) {
+		this.deferTimeout = deferTimeout;
+	}
+
+	public DeferOverflowPolicy getDeferOverflow() {
+		return deferOverflow;
+	}
+
+	public void setDeferOverflow(DeferOverflowPolicy deferOverflow) {
+		this.deferOverflow = deferOverflow;
+	}
+
+	public MetricsMode getMetricsMode() {
+		return metricsMode;
+	}
+
+	public void setMetricsMode(MetricsMode metricsMode) {
+		this.metricsMode = metricsMode;
+	}
+
+	public Set<String> getMetricsGroups() {
+		return metricsGroups;
+	}
+
+	public void setMetricsGroups(Set<String> metricsGroups) {
+		this.metricsGroups = metricsGroups;
+	}
+
+	public int getMetricsTopN() {
+		return metricsTopN;
+	}
+
+	public void setMetricsTopN(int metricsTopN) {
+		this.metricsTopN = metricsTopN;
+	}
+
+	public Duration getEventBatchWindow() {
+		return eventBatchWindow;
+	}
+
+	public void setEventBatchWindow(Duration eventBatchWindow) {
+		this.eventBatchWindow = eventBatchWindow;
+	}
+
+	public int getActivationConcurrency() {
+		return activationConcurrency;
+	}
+
+	public void setActivationConcurrency(int activationConcurrency) {
+		this.activationConcurrency = activationConcurrency;
+	}
+
+	public Map<String, Integer> getActivationPriorities() {
+		return activationPriorities;
+	}
+
+	public void setActivationPriorities(Map<String, Integer> activationPriorities) {
+		this.activationPriorities = activationPriorities;
+	}
+
+	public boolean isWorkEnabled() {
+		return workEnabled;
+	}
+
+	public void setWorkEnabled(boolean workEnabled) {
+		this.workEnabled = workEnabled;
+	}
+
+	public int getWorkWindowSize() {
+		return workWindowSize;
+	}
+
+	public void setWorkWindowSize(int workWindowSize) {
+		this.workWindowSize = workWindowSize;
+	}
+
+	public String getJournalDirectory() {
+		return journalDirectory;
+	}
+
+	public void setJournalDirectory(String journalDirectory) {
+		this.journalDirectory = journalDirectory;
+	}
+
+	public String getJournalNode() {
+		return journalNode;
+	}
+
+	public void setJournalNode(String journalNode) {
+		this.journalNode = journalNode;
+	}
+
+	public int getJournalSegmentSize() {
+		return journalSegmentSize;
+	}
+
+	public void setJournalSegmentSize(int journalSegmentSize) {
+		this.journalSegmentSize = journalSegmentSize;
+	}
+
+	public int getJournalSegments() {
+		return journalSegments;
+	}
+
+	public void setJournalSegments(int journalSegments) {
+		this.journalSegments = journalSegments;
+	}
+
+	public boolean isOverloadYieldEnabled() {
+		return overloadYieldEnabled;
+	}
+
+	public void setOverloadYieldEnabled(boolean overloadYieldEnabled) {
+		this.overloadYieldEnabled = overloadYieldEnabled;
+	}
+
+	public Map<String, Double> getOverloadThresholds() {
+		return overloadThresholds;
+	}
+
+	public void setOverloadThresholds(Map<String, Double> overloadThresholds) {
+		this.overloadThresholds = overloadThresholds;
+	}
+
+	public double getOverloadRecoveryRatio() {
+		return overloadRecoveryRatio;
+	}
+
+	public void setOverloadRecoveryRatio(double overloadRecoveryRatio) {
+		this.overloadRecoveryRatio = overloadRecoveryRatio;
+	}
+
+	public Duration getOverloadWindow() {
+		return overloadWindow;
+	}
+
+	public void setOverloadWindow(Duration overloadWindow) {
+		this.overloadWindow = overloadWindow;
+	}
+
+	public Duration getOverloadMinTenure() {
+		return overloadMinTenure;
+	}
+
+	public void setOverloadMinTenure(Duration overloadMinTenure) {
+		this.overloadMinTenure = overloadMinTenure;
+	}
+
+	public Duration getOverloadCheckInterval() {
+		return overloadCheckInterval;
+	}
+
+	public void setOverloadCheckInterval(Duration overloadCheckInterval) {
+		this.overloadCheckInterval = overloadCheckInterval;
+	}
+
+	public Duration getOverloadYieldCooldown() {
+		return overloadYieldCooldown;
+	}
+
+	public void setOverloadYieldCooldown(Duration overloadYieldCooldown) {
+		this.overloadYieldCooldown = overloadYieldCooldown;
+	}
+
+	public Duration getOverloadYieldTimeout() {
+		return overloadYieldTimeout;
+	}
+
+	public void setOverloadYieldTimeout(Duration overloadYieldTimeout) {
+		this.overloadYieldTimeout = overloadYieldTimeout;
+	}
 }
@@ -0,0 +1,50 @@
+package community.solace.spring.integration.leader.leader;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+
+import java.util.Map;
+
+/**
+ * Actuator endpoint to inspect the leader groups and to drain this node before a restart.
+ * <pre>
+ * GET    /actuator/leader                                  status of all groups
+ * POST   /actuator/leader {"groupPattern": "tenant-.*"}     drain, answers as soon as all groups are handed over
+ * DELETE /actuator/leader                                  undrain
+ * DELETE /actuator/leader?groupPattern=tenant-.*           undrain the pattern of an earlier drain
+ * </pre>
+ */
+@Endpoint(id = "leader")
+public class SolaceLeaderEndpoint {
+
+    private final SolaceLeaderInitiator leaderInitiator;
+
+    public SolaceLeaderEndpoint(SolaceLeaderInitiator leaderInitiator) {
+        this.leaderInitiator = leaderInitiator;
+    }
+
+    @ReadOperation
+    public Map<String, Object> status() {
+        return Map.of(
+                "drained", leaderInitiator.isDrained(),
+                "groups", leaderInitiator.getGroupStatus()
+        );
+    }
+
+    @WriteOperation
+    public Map<String, Object> drain(@Nullable String groupPattern) {
+        return Map.of("drained", leaderInitiator.drainGroups(groupPattern));
+    }
+
+    @DeleteOperation
+    public void undrain(@Nullable String groupPattern) {
+        if (groupPattern == null) {
+            leaderInitiator.undrainGroups();
+        } else {
+            leaderInitiator.undrainGroups(groupPattern);
+        }
+    }
+}
@@ -6,10 +6,12 @@ import community.solace.spring.integration.leader.leader.SolaceLeaderConfig.LEAD
 import community.solace.spring.integration.leader.queue.LeaderStateIndicator;
 import community.solace.spring.integration.leader.queue.LeaderStateIndicatorProvider;
 import community.solace.spring.integration.leader.queue.ProvisioningException;
-import io.micrometer.core.instrument.Gauge;
-import io.micrometer.core.instrument.Metrics;
+import community.solace.spring.integration.leader.queue.WorkFailedException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.boot.context.event.ApplicationStartedEvent;
 import org.springframework.boot.health.contributor.Health;
@@ -17,6 +19,7 @@ import org.springframework.boot.health.contributor.HealthIndicator;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.ApplicationEventPublisherAware;
+import org.springframework.context.SmartLifecycle;
 import org.springframework.context.event.EventListener;
 import org.springframework.integration.leader.Candidate;
 import org.springframework.integration.leader.Context;
@@ -26,10 +29,23 @@ import org.springframework.integration.leader.event.LeaderEventPublisher;
 import org.springframework.jmx.export.annotation.ManagedAttribute;
 import org.springframework.jmx.export.annotation.ManagedOperation;
 import org.springframework.jmx.export.annotation.ManagedResource;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
 
 import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 /**
@@ -42,15 +58,38 @@ import java.util.stream.Collectors;
  */
 @Component
 @ManagedResource()
-public class SolaceLeaderInitiator implements ApplicationEventPublisherAware, HealthIndicator {
+public class SolaceLeaderInitiator implements ApplicationEventPublisherAware, HealthIndicator, SmartLifecycle, DisposableBean {
 
     private static final Log logger = LogFactory.getLog(SolaceLeaderInitiator.class);
+    private static final Duration PEER_PROBE_TIMEOUT = Duration.ofSeconds(5);
     private final LeaderStateIndicatorProvider leaderStateIndicatorProvider;
-    private final Map<String, LeaderGroupContainer> leaderGroups = new HashMap<>();
+    private final Map<String, LeaderGroupContainer> leaderGroups = new ConcurrentHashMap<>();
     private final Map<String, LEADER_GROUP_JOIN> joinGroupsConfig;
     private final Set<String> yieldOnShutdownConfig;
     private final boolean anonymousGroupsArePermitted;
     private final ApplicationContext appContext;
+    private final Duration eventDebounce;
+    private final Duration eventBatchWindow;
+    private final Duration drainTimeout;
+    private final int shutdownPhase;
+    private final Duration shutdownTimeout;
+    private final MeterRegistry meterRegistry;
+    private final Timer shutdownHandoverTimer;
+    private final LeaderMetrics metrics;
+    /**
+     * Staggers the grant callbacks, null if disabled.
+     */
+    private final LeaderActivationScheduler activationScheduler;
+    private volatile boolean running;
+    /**
+     * Runs the blocking JCSMP work (provisioning, flow binding) of the async API, delayed re-joins after yield and drain.
+     */
+    private final ScheduledExecutorService asyncExecutor;
+    /**
+     * Groups matching any of these patterns must not bind a flow, by regular expression. Empty as long as this node is not drained.
+     */
+    private final Map<String, Pattern> drainPatterns = new ConcurrentHashMap<>();
+    private final List<LeaderStateListener> stateListeners = new CopyOnWriteArrayList<>();
 
     private final Health.Builder health;
     /**
@@ -58,20 +97,60 @@ public class SolaceLeaderInitiator implements ApplicationEventPublisherAware, He
      */
     private volatile LeaderEventPublisher leaderEventPublisher = new DefaultLeaderEventPublisher();
 
-    public SolaceLeaderInitiator(LeaderStateIndicatorProvider leaderStateIndicatorProvider, SolaceLeaderConfig solaceLeaderConfig, ApplicationContext appContext) {
+    /**
+     * Runs the debounced leader events, a dedicated thread if null.
+     */
+    private TaskScheduler leaderEventScheduler;
+
+    /**
+     * @param meterRegistry registry of the leader meters, removed from it on destroy. Several initiators share the meter
+     *                      names, so each one needs a registry of its own.
+     */
+    public SolaceLeaderInitiator(LeaderStateIndicatorProvider leaderStateIndicatorProvider, SolaceLeaderConfig solaceLeaderConfig, ApplicationContext appContext,
+                                 MeterRegistry meterRegistry) {
         this.joinGroupsConfig = SolaceLeaderConfig.getJoinGroupMap(solaceLeaderConfig);
         this.yieldOnShutdownConfig = SolaceLeaderConfig.getYieldOnShutdown(solaceLeaderConfig);
         this.anonymousGroupsArePermitted = solaceLeaderConfig.isPermitAnonymousGroups();
         this.leaderStateIndicatorProvider = leaderStateIndicatorProvider;
         this.appContext = appContext;
+        this.eventDebounce = solaceLeaderConfig.getEventDebounce();
+        this.eventBatchWindow = solaceLeaderConfig.getEventBatchWindow();
+        this.drainTimeout = solaceLeaderConfig.getDrainTimeout();
+        this.shutdownPhase = solaceLeaderConfig.getShutdownPhase();
+        this.shutdownTimeout = solaceLeaderConfig.getShutdownTimeout();
+        this.shutdownHandoverTimer = Timer.builder("leader_shutdown_handover")
+                .description("Time to hand over the leadership of all yieldOnShutdown groups on shutdown.")
+                .register(meterRegistry);
+        this.meterRegistry = meterRegistry;
+        this.metrics = new LeaderMetrics(
+                meterRegistry,
+                solaceLeaderConfig.getMetricsMode(),
+                solaceLeaderConfig.getMetricsGroups(),
+                solaceLeaderConfig.getMetricsTopN()
+        );
+        this.activationScheduler = solaceLeaderConfig.getActivationConcurrency() > 0
+                ? new LeaderActivationScheduler(solaceLeaderConfig.getActivationConcurrency(), solaceLeaderConfig.getActivationPriorities(), meterRegistry)
+                : null;
+        this.asyncExecutor = new ScheduledThreadPoolExecutor(solaceLeaderConfig.getAsyncPoolSize(), asyncThreadFactory());
         this.health = Health.up();
-        Runtime.getRuntime().addShutdownHook(new Thread(this::shutdownHook));
     }
 
     @Override
     @SuppressWarnings("NullableProblems")
     public void setApplicationEventPublisher(ApplicationEventPublisher applicationEventPublisher) {
-        this.leaderEventPublisher = new LeaderEventDebouncer(applicationEventPublisher, Duration.ofMillis(500));
+        if (leaderEventScheduler == null) {
+            this.leaderEventPublisher = new LeaderEventDebouncer(applicationEventPublisher, eventDebounce, eventBatchWindow);
+        } else {
+            this.leaderEventPublisher = new LeaderEventDebouncer(applicationEventPublisher, eventDebounce, eventBatchWindow, leaderEventScheduler);
+        }
+    }
+
+    /**
+     * Runs the debounced leader events on the given scheduler, instead of a dedicated thread.
+     * Has to be set before the application event publisher. Used by the test support to deliver events in virtual time.
+     */
+    public void setLeaderEventScheduler(TaskScheduler leaderEventScheduler) {
+        this.leaderEventScheduler = leaderEventScheduler;
     }
 
     public void joinGroup(String groupName) {
@@ -110,11 +189,191 @@ public class SolaceLeaderInitiator implements ApplicationEventPublisherAware, He
         }
     }
 
-    private LeaderGroupContainer registerCandidate(Candidate candidate, boolean yieldOnShutdown) {
-        LeaderGroupContainer container = new LeaderGroupContainer(candidate, yieldOnShutdown);
-        leaderGroups.put(candidate.getRole(), container);
+    public boolean leaveGroup(String groupName) {
+        return leaveGroup(groupName, false);
+    }
 
-        return container;
+    /**
+     * Leaves the group: hands over the leadership, closes the flow and forgets the group including its leader_status gauge.
+     * The group can be joined again later. Must not be called on the JCSMP context thread.
+     *
+     * @param deprovision true: deletes the leader queue of the group on the broker as well.
+     *                    Only if no other process is a candidate anymore, the broker closes their flows.
+     * @return false if the group was unknown.
+     */
+    @ManagedOperation(description = "Leave a leader group, optionally deprovisioning its queue")
+    public boolean leaveGroup(String groupName, boolean deprovision) {
+        LeaderGroupContainer leaderGroup = leaderGroups.remove(groupName);
+        if (leaderGroup == null) {
+            return false;
+        }
+
+        leaderGroup.leave(deprovision);
+        logger.info("Left group " + groupName + (deprovision ? " and deprovisioned its queue" : ""));
+        return true;
+    }
+
+    /**
+     * Joins a group without blocking the caller.
+     *
+     * @return completes with the context of the group as soon as the flow is bound.
+     */
+    public CompletableFuture<Context> joinGroupAsync(String groupName) {
+        return joinGroupAsync(groupName, true);
+    }
+
+    /**
+     * Joins a group without blocking the caller.
+     *
+     * @return completes with the context of the group as soon as the flow is bound.
+     */
+    public CompletableFuture<Context> joinGroupAsync(String groupName, boolean yieldOnShutdown) {
+        return CompletableFuture.supplyAsync(() -> {
+            joinGroup(groupName, yieldOnShutdown);
+            return leaderGroups.get(groupName).getContext();
+        }, asyncExecutor);
+    }
+
+    /**
+     * Waits without blocking the caller until this process becomes the leader of the group.
+     * Groups configured as FIRST_USE are joined on the dedicated executor.
+     * Mind that non-async dependent stages run on the thread granting the leadership (the JCSMP context thread).
+     *
+     * @return completes with the context as soon as this process is the leader,
+     * or exceptionally with a {@link java.util.concurrent.TimeoutException} when the timeout elapsed.
+     */
+    public CompletableFuture<Context> awaitLeadership(String groupName, Duration timeout) {
+        LeaderGroupContainer leaderGroup = leaderGroups.get(groupName);
+        boolean autoJoin = LEADER_GROUP_JOIN.FIRST_USE.equals(joinGroupsConfig.get(groupName));
+
+        CompletableFuture<LeaderGroupContainer> joined;
+        if (leaderGroup != null && (leaderGroup.getContext().isJoined() || !autoJoin)) {
+            joined = CompletableFuture.completedFuture(leaderGroup);
+        } else if (autoJoin) {
+            joined = CompletableFuture.supplyAsync(() -> {
+                joinGroup(groupName, true, true);
+                return leaderGroups.get(groupName);
+            }, asyncExecutor);
+        } else {
+            return CompletableFuture.failedFuture(new IllegalStateException("The group \"" + groupName + "\" was not joined"));
+        }
+
+        return joined
+                .thenCompose(container -> container.awaitLeadership(timeout))
+                .orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Registers a listener for the state transitions of all groups, including groups joined later.
+     * Use {@link SolaceContext#addStateListener(LeaderStateListener)} to listen to a single group.
+     */
+    public void addStateListener(LeaderStateListener listener) {
+        stateListeners.add(listener);
+    }
+
+    public void removeStateListener(LeaderStateListener listener) {
+        stateListeners.remove(listener);
+    }
+
+    /**
+     * Hands over the leadership of all groups matching the pattern and keeps this node ineligible for them,
+     * including groups joined later, until {@link #undrain(String)} of the pattern or {@link #undrain()}.
+     * The flows of all matching groups, the standby flows as well, are unbound in parallel.
+     * Each drain adds its pattern, the groups matching any of them stay drained.
+     *
+     * @param groupPattern regular expression matching the group names, all groups if empty.
+     * @return completes with the names of the drained groups as soon as all their flows are unbound.
+     */
+    public CompletableFuture<List<String>> drain(String groupPattern) {
+        String regex = drainRegex(groupPattern);
+        Pattern pattern = Pattern.compile(regex);
+        drainPatterns.put(regex, pattern);
+
+        long start = System.nanoTime();
+        List<LeaderGroupContainer> containers = leaderGroups.values().stream()
+                .filter(container -> pattern.matcher(container.getContext().getRole()).matches())
+                .toList();
+        CompletableFuture<?>[] handovers = containers.stream()
+                .map(container -> CompletableFuture.runAsync(container::drain, asyncExecutor))
+                .toArray(CompletableFuture[]::new);
+
+        return CompletableFuture.allOf(handovers).thenApply(v -> {
+            List<String> drained = containers.stream()
+                    .filter(LeaderGroupContainer::isDrained)
+                    .map(container -> container.getContext().getRole())
+                    .sorted()
+                    .toList();
+            logger.info("Drained " + drained.size() + " groups in " + Duration.ofNanos(System.nanoTime() - start).toMillis() + "ms: " + drained);
+            return drained;
+        });
+    }
+
+    /**
+     * Makes this node eligible again. The drained groups re-bind their flows, groups joined while drained are joined now.
+     *
+     * @return completes as soon as all flows are bound.
+     */
+    public CompletableFuture<Void> undrain() {
+        drainPatterns.clear();
+        return undrainContainers();
+    }
+
+    /**
+     * Removes the pattern of an earlier {@link #drain(String)}. The groups not matching any other pattern re-bind their flows.
+     *
+     * @param groupPattern the pattern passed to drain, all groups if empty.
+     * @return completes as soon as all flows are bound.
+     */
+    public CompletableFuture<Void> undrain(String groupPattern) {
+        drainPatterns.remove(drainRegex(groupPattern));
+        return undrainContainers();
+    }
+
+    private CompletableFuture<Void> undrainContainers() {
+        return CompletableFuture.allOf(leaderGroups.values().stream()
+                .map(container -> CompletableFuture.runAsync(container::undrain, asyncExecutor))
+                .toArray(CompletableFuture[]::new));
+    }
+
+    private static String drainRegex(String groupPattern) {
+        return StringUtils.hasText(groupPattern) ? groupPattern : ".*";
+    }
+
+    @ManagedAttribute(description = "true if this node was drained and is not eligible for some or all groups", currencyTimeLimit = 1)
+    public boolean isDrained() {
+        return !drainPatterns.isEmpty();
+    }
+
+    @ManagedOperation(description = "yield the leadership of all groups matching the regular expression (all groups if empty) in parallel and keep this node ineligible until undrain. Returns the drained groups, as soon as all have been handed over.")
+    public List<String> drainGroups(String groupPattern) {
+        try {
+            return drain(groupPattern).get(drainTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("Not all groups have been handed over within " + drainTimeout + ": " + getGroupStatus());
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Drain failed: " + e.getCause().getMessage(), e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while draining", e);
+        }
+    }
+
+    @ManagedOperation(description = "make this node eligible again for the leadership of the drained groups")
+    public void undrainGroups() {
+        undrain();
+    }
+
+    @ManagedOperation(description = "remove the regular expression of an earlier drain, the groups not matching another drained expression become eligible again")
+    public void undrainGroups(String groupPattern) {
+        undrain(groupPattern);
+    }
+
+    private boolean isDrained(String groupName) {
+        return drainPatterns.values().stream().anyMatch(pattern -> pattern.matcher(groupName).matches());
+    }
+
+    private LeaderGroupContainer registerCandidate(Candidate candidate, boolean yieldOnShutdown) {
+        return leaderGroups.computeIfAbsent(candidate.getRole(), role -> new LeaderGroupContainer(candidate, yieldOnShutdown));
     }
 
     public Context getContext(final String groupName) {
@@ -141,22 +400,78 @@ public class SolaceLeaderInitiator implements ApplicationEventPublisherAware, He
 
     @ManagedAttribute(description = "List of all leader groups and the current status", currencyTimeLimit = 1)
     public Collection<String> getLeaderStatus() {
+        Map<String, String> status = getGroupStatus();
+
+        // Convert to a pretty printed table.
+        int keyColumnWidth = status.keySet().stream().mapToInt(String::length).max().orElse(0) + 2;
+        return status.entrySet().stream()
+                .map(eS -> String.format("%1$-" + keyColumnWidth + "s", eS.getKey() + ": ") + eS.getValue())
+                .collect(Collectors.toList());
+    }
+
+    @ManagedOperation(description = "yield the leadership of the given group and keep the flow unbound for the cooldown")
+    public void yieldLeaderShip(String groupName, long cooldownMillis) {
+        SolaceContext context = (SolaceContext) getContext(groupName, false);
+        if (context != null) {
+            context.yield(Duration.ofMillis(cooldownMillis));
+        }
+    }
+
+    @ManagedOperation(description = "yield the leadership of the given group and re-join only after another candidate became the leader, at the latest after the timeout")
+    public void yieldLeaderShipToPeer(String groupName, long cooldownMillis, long timeoutMillis) {
+        SolaceContext context = (SolaceContext) getContext(groupName, false);
+        if (context != null) {
+            context.yieldToPeer(Duration.ofMillis(cooldownMillis), Duration.ofMillis(timeoutMillis));
+        }
+    }
+
+    Map<String, String> getGroupStatus() {
         Map<String, String> status = leaderGroups.values().stream()
-                .map(LeaderGroupContainer::getContext)
                 .collect(Collectors.toMap(
-                        SolaceContext::getRole,
-                        c -> c.isLeader() ? "leader" : "not leader"
+                        container -> container.getContext().getRole(),
+                        container -> container.isDrained() ? "drained" : describe(container.getContext().getState()),
+                        (a, b) -> a,
+                        TreeMap::new
                 ));
 
         for (String definedRole : this.joinGroupsConfig.keySet()) {
             status.putIfAbsent(definedRole, "not joined");
         }
+        return status;
+    }
 
-        // Convert to a pretty printed table.
-        int keyColumnWidth = status.keySet().stream().mapToInt(String::length).max().orElse(0) + 2;
-        return status.entrySet().stream()
-                .map(eS -> String.format("%1$-" + keyColumnWidth + "s", eS.getKey() + ": ") + eS.getValue())
-                .collect(Collectors.toList());
+    /**
+     * @return the state of all groups by group name, configured groups not joined yet are {@link LeaderState#NOT_JOINED}.
+     */
+    Map<String, LeaderState> getGroupStates() {
+        Map<String, LeaderState> states = leaderGroups.values().stream()
+                .collect(Collectors.toMap(
+                        container -> container.getContext().getRole(),
+                        container -> container.getContext().getState(),
+                        (a, b) -> a,
+                        TreeMap::new
+                ));
+
+        for (String definedRole : this.joinGroupsConfig.keySet()) {
+            states.putIfAbsent(definedRole, LeaderState.NOT_JOINED);
+        }
+        return states;
+    }
+
+    /**
+     * @return true if this node is drained for the group.
+     */
+    boolean isGroupDrained(String groupName) {
+        LeaderGroupContainer container = leaderGroups.get(groupName);
+        return container != null && container.isDrained();
+    }
+
+    private static String describe(LeaderState state) {
+        return switch (state) {
+            case LEADER -> "leader";
+            case STANDBY -> "not leader";
+            default -> state.name().toLowerCase(Locale.ROOT).replace('_', ' ');
+        };
     }
 
     @ManagedOperation(description = "yield the leadership of the given group")
@@ -200,13 +515,56 @@ public class SolaceLeaderInitiator implements ApplicationEventPublisherAware, He
         return joinGroupsConfig.containsKey(groupName);
     }
 
-    private void shutdownHook() {
-        for (LeaderGroupContainer container : leaderGroups.values()) {
-            if (container.getContext().isLeader() && container.getContext().shouldYieldOnShutdown()) {
-                logger.info("shutdown hook executed, yielding leader ship of: " + container.getContext().getRole());
-                container.getContext().yield();
-            }
+    @Override
+    public void start() {
+        running = true;
+    }
+
+    /**
+     * Hands over the leadership of all yieldOnShutdown groups in parallel, before the session is closed.
+     * The flows are not re-bound, as this process is going down. Waits at most for the shutdown timeout.
+     */
+    @Override
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+
+        List<LeaderGroupContainer> containers = leaderGroups.values().stream()
+                .filter(container -> container.getContext().isLeader() && container.getContext().shouldYieldOnShutdown())
+                .toList();
+        if (containers.isEmpty()) {
+            return;
+        }
+
+        long start = System.nanoTime();
+        CompletableFuture<?>[] handovers = containers.stream()
+                .map(container -> CompletableFuture.runAsync(container::release, asyncExecutor))
+                .toArray(CompletableFuture[]::new);
+        try {
+            CompletableFuture.allOf(handovers).get(shutdownTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            logger.warn("Not all groups have been handed over within " + shutdownTimeout + ": " + getGroupStatus());
+        } catch (ExecutionException e) {
+            logger.error("Unable to yield the leadership on shutdown", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
         }
+
+        long duration = System.nanoTime() - start;
+        shutdownHandoverTimer.record(duration, TimeUnit.NANOSECONDS);
+        logger.info("Yielded the leadership of " + containers.size() + " groups on shutdown in " + Duration.ofNanos(duration).toMillis() + "ms");
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return shutdownPhase;
     }
 
     @Override
@@ -214,89 +572,478 @@ public class SolaceLeaderInitiator implements ApplicationEventPublisherAware, He
         return health.build();
     }
 
-    private class LeaderGroupContainer {
+    @Override
+    public void destroy() throws Exception {
+        asyncExecutor.shutdownNow();
+        if (activationScheduler != null) {
+            activationScheduler.close();
+        }
+        metrics.close();
+        meterRegistry.remove(shutdownHandoverTimer);
+        if (leaderEventPublisher instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    private static CustomizableThreadFactory asyncThreadFactory() {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("solace-leader-async-");
+        threadFactory.setDaemon(true);
+        return threadFactory;
+    }
+
+    private class LeaderGroupContainer implements SolaceContext.Yielder {
         private final Candidate candidate;
-        private SolaceContext context;
+        private final SolaceContext context;
         private LeaderStateIndicator elector;
+        private final List<CompletableFuture<Context>> leadershipWaiters = new CopyOnWriteArrayList<>();
+        /**
+         * Set while the flow is bound to find out whether another candidate took over the leadership.
+         */
+        private final AtomicReference<PeerProbe> peerProbe = new AtomicReference<>();
+        /**
+         * Written while holding this container and the activationLock.
+         */
+        private boolean bound;
+        /**
+         * Incremented on each bind and unbind, guarded by the activationLock. A leader state indicated by an earlier
+         * binding is dropped.
+         */
+        private long binding;
+        /**
+         * Set while this node is drained for the group, the flow stays unbound until undrain.
+         */
+        private volatile boolean drained;
+        /**
+         * Activation waiting for the activation scheduler, guarded by the activationLock.
+         */
+        private LeaderActivationScheduler.Activation pendingActivation;
+        /**
+         * Leader states to apply in order, guarded by the activationLock. Applied by one thread at a time,
+         * without holding the lock, so a revoke does not block the JCSMP context thread while the grant callbacks run.
+         */
+        private final Queue<IndicatedState> leaderStates = new ArrayDeque<>();
+        private boolean applyingLeaderStates;
+        private final Object activationLock = new Object();
 
         private LeaderGroupContainer(Candidate candidate, boolean yieldOnShutdown) {
             this.candidate = candidate;
+            this.context = new SolaceContext(candidate, this, asyncExecutor, yieldOnShutdown);
 
-            context = new SolaceContext(candidate, () -> {
-                try {
-                    if (elector != null) {
-                        elector.stop();
-
-                        context.setLeader(false);
-                        candidate.onRevoked(context);
-                        leaderEventPublisher.publishOnRevoked(SolaceLeaderInitiator.this, context, candidate.getRole());
-
-                        elector.start(candidate.getRole());
+            context.addStateListener((c, from, to) -> {
+                metrics.onStateChanged(c, from, to);
+                if (to == LeaderState.LEADER) {
+                    completeLeadershipWaiters();
+                }
+                for (LeaderStateListener listener : stateListeners) {
+                    try {
+                        listener.onStateChanged(c, from, to);
+                    } catch (RuntimeException e) {
+                        logger.error("State listener failed for group " + c.getRole() + " on " + from + " -> " + to, e);
                     }
-                } catch (JCSMPException e) {
-                    logger.error("yield failed: unable to start the flow. Your will never be the leader.", e);
-                    leaderEventPublisher
-                            .publishOnFailedToAcquire(SolaceLeaderInitiator.this, context, candidate.getRole());
                 }
-            }, yieldOnShutdown);
+            });
 
-            Gauge.builder(
-                            "leader_status",
-                            this,
-                            lgc -> lgc.getContext().getGaugeValue()
-                    )
-                    .description("Indicates if this project is [-1=not joined, 0=joined but not leader, 1=is leader] for a group.")
-                    .tag("group", candidate.getRole())
-                    .strongReference(true)
-                    .register(Metrics.globalRegistry);
+            metrics.onCreated(context);
         }
 
         private synchronized void join() {
-            if (context.isJoined()) {
+            if (deferWhileDrained()) {
+                logger.info("Node is drained, joining " + candidate.getRole() + " is deferred until undrain");
+                return;
+            }
+            if (!context.transition(LeaderState.NOT_JOINED, LeaderState.JOINING)
+                    && !context.transition(LeaderState.FAILED, LeaderState.JOINING)) {
                 return;
             }
 
             try {
                 elector = leaderStateIndicatorProvider.create(
                         candidate.getRole(),
-                        active -> {
-                            context.setLeader(active);
-
-                            if (active) {
-                                logger.debug("Is now leader: " + candidate.getRole());
-                                try {
-                                    candidate.onGranted(context);
-                                    leaderEventPublisher
-                                            .publishOnGranted(SolaceLeaderInitiator.this, context, candidate.getRole());
-                                } catch (InterruptedException e) {
-                                    logger.error("Unable to tell candidate that leader was granted.");
-                                }
-                            } else {
-                                logger.debug("Is not longer leader: " + candidate.getRole());
-                                candidate.onRevoked(context);
-                                leaderEventPublisher
-                                        .publishOnRevoked(SolaceLeaderInitiator.this, context, candidate.getRole());
-                            }
-                        },
-                        health::down
+                        this::onLeaderStateIndicated,
+                        this::onIndicatorError
                 );
-                context.setJoined();
+                context.transition(LeaderState.JOINING, LeaderState.STANDBY);
             } catch (ProvisioningException e) {
                 logger.error("Unable to bind queue \"" + candidate.getRole() + "\". Your have to create the queue manually", e);
+                context.moveTo(LeaderState.FAILED);
                 leaderEventPublisher.publishOnFailedToAcquire(SolaceLeaderInitiator.this, context, candidate.getRole());
                 return;
             }
 
             try {
-                elector.start(candidate.getRole());
+                bind();
             } catch (JCSMPException e) {
                 logger.error("Unable to start the flow. Your will never be the leader.", e);
+                context.moveTo(LeaderState.FAILED);
                 leaderEventPublisher.publishOnFailedToAcquire(SolaceLeaderInitiator.this, context, candidate.getRole());
             }
         }
 
+        private void onIndicatorError(Throwable error) {
+            if (!(error instanceof WorkFailedException)) {
+                health.down(error);
+                return;
+            }
+
+            logger.error("Yielding the leadership of " + candidate.getRole() + " to redeliver the failed work message", error);
+            // Flows must not be closed on the JCSMP context thread delivering the message.
+            asyncExecutor.execute(context::yield);
+        }
+
+        private void onLeaderStateIndicated(boolean active) {
+            PeerProbe probe = peerProbe.getAndSet(null);
+            if (probe != null) {
+                onPeerProbed(probe, active);
+                return;
+            }
+            if (activationScheduler == null) {
+                long indicatedBinding;
+                synchronized (activationLock) {
+                    indicatedBinding = binding;
+                }
+                applyLeaderState(new IndicatedState(active, indicatedBinding));
+                return;
+            }
+
+            synchronized (activationLock) {
+                cancelActivation();
+                long indicatedBinding = binding;
+                if (active) {
+                    pendingActivation = activationScheduler.submit(candidate.getRole(), a -> activate(a, indicatedBinding));
+                    return;
+                }
+                leaderStates.add(new IndicatedState(false, indicatedBinding));
+            }
+            applyLeaderStates();
+        }
+
+        private void activate(LeaderActivationScheduler.Activation activation, long indicatedBinding) {
+            synchronized (activationLock) {
+                if (pendingActivation != activation) {
+                    return;
+                }
+                pendingActivation = null;
+                leaderStates.add(new IndicatedState(true, indicatedBinding));
+            }
+            applyLeaderStates();
+        }
+
+        private void cancelActivation() {
+            synchronized (activationLock) {
+                if (pendingActivation != null) {
+                    pendingActivation.cancel();
+                    pendingActivation = null;
+                }
+            }
+        }
+
+        private void applyLeaderStates() {
+            synchronized (activationLock) {
+                if (applyingLeaderStates) {
+                    return;
+                }
+                applyingLeaderStates = true;
+            }
+
+            while (true) {
+                IndicatedState indicated;
+                synchronized (activationLock) {
+                    indicated = leaderStates.poll();
+                    if (indicated == null) {
+                        applyingLeaderStates = false;
+                        return;
+                    }
+                }
+                applyLeaderState(indicated);
+            }
+        }
+
+        private void applyLeaderState(IndicatedState indicated) {
+            if (drained) {
+                logger.debug("Ignoring leader state of drained group " + candidate.getRole());
+                return;
+            }
+
+            boolean active = indicated.active();
+            LeaderState next = active ? LeaderState.LEADER : LeaderState.STANDBY;
+            synchronized (activationLock) {
+                // The flow might have been unbound or bound again, since the state was indicated.
+                if (active && (!bound || indicated.binding() != binding)) {
+                    logger.debug("Ignoring leader state " + next + " of " + candidate.getRole() + " indicated by an earlier binding");
+                    return;
+                }
+                if (!context.moveTo(next) && context.getState() != next) {
+                    logger.debug("Ignoring leader state " + next + " of " + candidate.getRole() + " in state " + context.getState());
+                    return;
+                }
+            }
+
+            if (active) {
+                logger.debug("Is now leader: " + candidate.getRole());
+                try {
+                    candidate.onGranted(context);
+                    leaderEventPublisher
+                            .publishOnGranted(SolaceLeaderInitiator.this, context, candidate.getRole());
+                } catch (InterruptedException e) {
+                    logger.error("Unable to tell candidate that leader was granted.");
+                }
+            } else {
+                logger.debug("Is not longer leader: " + candidate.getRole());
+                candidate.onRevoked(context);
+                leaderEventPublisher
+                        .publishOnRevoked(SolaceLeaderInitiator.this, context, candidate.getRole());
+            }
+        }
+
+        @Override
+        public void yield() throws JCSMPException {
+            if (!release()) {
+                return;
+            }
+            rebind();
+        }
+
+        private synchronized void rebind() throws JCSMPException {
+            if (deferWhileDrained()) {
+                return;
+            }
+
+            try {
+                bind();
+                // The new flow might have already been activated, if no one else is waiting.
+                context.transition(LeaderState.YIELDING, LeaderState.STANDBY);
+            } catch (JCSMPException e) {
+                logger.error("yield failed: unable to start the flow. Your will never be the leader.", e);
+                context.moveTo(LeaderState.FAILED);
+                leaderEventPublisher
+                        .publishOnFailedToAcquire(SolaceLeaderInitiator.this, context, candidate.getRole());
+                throw e;
+            }
+        }
+
+        @Override
+        public CompletableFuture<Void> yield(Duration cooldown, Duration peerTimeout) {
+            if (!release()) {
+                return CompletableFuture.completedFuture(null);
+            }
+
+            CompletableFuture<Void> rebound = new CompletableFuture<>();
+            Long peerDeadline = peerTimeout == null ? null : System.nanoTime() + peerTimeout.toNanos();
+            scheduleRejoin(cooldown, peerDeadline, rebound);
+            return rebound;
+        }
+
+        /**
+         * Unbinds the flow of the leader.
+         *
+         * @return false if this process was not the leader.
+         */
+        private synchronized boolean release() {
+            if (elector == null || !context.transition(LeaderState.LEADER, LeaderState.YIELDING)) {
+                return false;
+            }
+
+            unbind();
+
+            candidate.onRevoked(context);
+            leaderEventPublisher.publishOnRevoked(SolaceLeaderInitiator.this, context, candidate.getRole());
+            return true;
+        }
+
+        private void scheduleRejoin(Duration cooldown, Long peerDeadline, CompletableFuture<Void> rebound) {
+            asyncExecutor.schedule(() -> rejoin(cooldown, peerDeadline, rebound), cooldown.toMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        private synchronized void rejoin(Duration cooldown, Long peerDeadline, CompletableFuture<Void> rebound) {
+            if (context.getState() != LeaderState.YIELDING) {
+                // Someone else took care of this group in the meantime.
+                rebound.complete(null);
+                return;
+            }
+            if (deferWhileDrained()) {
+                // Re-bound on undrain.
+                rebound.complete(null);
+                return;
+            }
+
+            PeerProbe probe = peerDeadline != null && System.nanoTime() - peerDeadline < 0
+                    ? new PeerProbe(cooldown, peerDeadline, rebound)
+                    : null;
+            peerProbe.set(probe);
+            try {
+                bind();
+            } catch (JCSMPException e) {
+                peerProbe.set(null);
+                logger.error("yield failed: unable to start the flow. Your will never be the leader.", e);
+                context.moveTo(LeaderState.FAILED);
+                leaderEventPublisher
+                        .publishOnFailedToAcquire(SolaceLeaderInitiator.this, context, candidate.getRole());
+                rebound.completeExceptionally(e);
+                return;
+            }
+
+            if (probe == null) {
+                // The new flow might have already been activated, if no one else is waiting.
+                context.transition(LeaderState.YIELDING, LeaderState.STANDBY);
+                rebound.complete(null);
+            } else {
+                // In case the broker does not indicate the flow state on bind.
+                asyncExecutor.schedule(() -> {
+                    if (peerProbe.compareAndSet(probe, null)) {
+                        onPeerProbed(probe, elector.isActive());
+                    }
+                }, PEER_PROBE_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+            }
+        }
+
+        private void onPeerProbed(PeerProbe probe, boolean active) {
+            if (!active) {
+                logger.info("Another candidate took over the leadership of: " + candidate.getRole());
+                context.transition(LeaderState.YIELDING, LeaderState.STANDBY);
+                probe.rebound().complete(null);
+                return;
+            }
+
+            logger.debug("No other candidate took over the leadership of " + candidate.getRole() + ", retrying after cooldown");
+            // Flows must not be closed on the JCSMP context thread delivering this event.
+            asyncExecutor.execute(() -> {
+                synchronized (this) {
+                    if (context.getState() == LeaderState.YIELDING) {
+                        unbind();
+                    }
+                }
+                scheduleRejoin(probe.cooldown(), probe.peerDeadline(), probe.rebound());
+            });
+        }
+
+        /**
+         * Unbinds the flow, whether this process is the leader or not, and keeps it unbound until undrain.
+         */
+        private synchronized void drain() {
+            LeaderState state = context.getState();
+            if (state == LeaderState.NOT_JOINED || state == LeaderState.FAILED) {
+                return;
+            }
+            drained = true;
+
+            PeerProbe probe = peerProbe.getAndSet(null);
+            if (probe != null) {
+                probe.rebound().complete(null);
+            }
+            if (!release() && context.transition(LeaderState.STANDBY, LeaderState.YIELDING)) {
+                logger.debug("Unbinding the standby flow of drained group " + candidate.getRole());
+            }
+            unbind();
+        }
+
+        /**
+         * Releases all resources of the group, the container must not be used afterwards.
+         */
+        private synchronized void leave(boolean deprovision) {
+            PeerProbe probe = peerProbe.getAndSet(null);
+            if (probe != null) {
+                probe.rebound().complete(null);
+            }
+            release();
+            unbind();
+            context.moveTo(LeaderState.NOT_JOINED);
+
+            if (deprovision && elector != null) {
+                elector.deprovision();
+            }
+            elector = null;
+
+            metrics.onRemoved(context);
+            for (CompletableFuture<Context> waiter : leadershipWaiters) {
+                waiter.completeExceptionally(new IllegalStateException("The group \"" + candidate.getRole() + "\" was left"));
+            }
+        }
+
+        private synchronized void undrain() {
+            if (!drained || SolaceLeaderInitiator.this.isDrained(candidate.getRole())) {
+                return;
+            }
+            drained = false;
+
+            if (context.getState() == LeaderState.YIELDING) {
+                rejoin(Duration.ZERO, null, new CompletableFuture<>());
+            } else {
+                join();
+            }
+        }
+
+        /**
+         * @return true if the flow must not be bound, because this node is drained for the group.
+         */
+        private boolean deferWhileDrained() {
+            if (SolaceLeaderInitiator.this.isDrained(candidate.getRole())) {
+                drained = true;
+            }
+            return drained;
+        }
+
+        private boolean isDrained() {
+            return drained;
+        }
+
+        private void bind() throws JCSMPException {
+            synchronized (activationLock) {
+                // Before the flow is started, it might indicate its state right away.
+                binding++;
+                bound = true;
+            }
+            try {
+                elector.start(candidate.getRole());
+            } catch (JCSMPException | RuntimeException e) {
+                synchronized (activationLock) {
+                    binding++;
+                    bound = false;
+                }
+                throw e;
+            }
+        }
+
+        private void unbind() {
+            cancelActivation();
+            if (bound) {
+                synchronized (activationLock) {
+                    binding++;
+                    bound = false;
+                }
+                elector.stop();
+            }
+        }
+
+        private CompletableFuture<Context> awaitLeadership(Duration timeout) {
+            CompletableFuture<Context> waiter = new CompletableFuture<>();
+            leadershipWaiters.add(waiter);
+            waiter.orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS)
+                    .whenComplete((c, e) -> leadershipWaiters.remove(waiter));
+
+            // Leadership might have been granted before the waiter was registered.
+            if (context.isLeader()) {
+                completeLeadershipWaiters();
+            }
+            return waiter;
+        }
+
+        private void completeLeadershipWaiters() {
+            for (CompletableFuture<Context> waiter : leadershipWaiters) {
+                waiter.complete(context);
+            }
+        }
+
         public SolaceContext getContext() {
             return context;
         }
     }
+
+    private record PeerProbe(Duration cooldown, long peerDeadline, CompletableFuture<Void> rebound) {
+    }
+
+    /**
+     * Leader state indicated by the flow of the given binding.
+     */
+    private record IndicatedState(boolean active, long binding) {
+    }
 }
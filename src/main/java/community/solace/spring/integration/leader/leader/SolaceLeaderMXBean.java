@@ -0,0 +1,39 @@
+package community.solace.spring.integration.leader.leader;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JMX view of the leadership of this node, with open types instead of formatted strings.
+ * <p>
+ * The groups are exported as {@code TabularData} of {@code CompositeData} rows.
+ * A notification is emitted on every grant, revoke, yield and failed to acquire, its user data is a
+ * {@code CompositeData} with the {@code role}, the {@code from} and the {@code to} state.
+ */
+public interface SolaceLeaderMXBean {
+
+    String GRANTED_NOTIFICATION = "community.solace.leader.granted";
+    String REVOKED_NOTIFICATION = "community.solace.leader.revoked";
+    String YIELDED_NOTIFICATION = "community.solace.leader.yielded";
+    String FAILED_TO_ACQUIRE_NOTIFICATION = "community.solace.leader.failedToAcquire";
+
+    /**
+     * @return the status of all groups by group name, including configured groups not joined yet.
+     */
+    Map<String, LeaderGroupStatus> getGroups();
+
+    /**
+     * @return the status of the group, or null if the group is unknown.
+     */
+    LeaderGroupStatus getGroup(String groupName);
+
+    /**
+     * @return the names of the groups this node is the leader of.
+     */
+    List<String> getLeaderGroups();
+
+    /**
+     * @return true if this node was drained and is not eligible for some or all groups.
+     */
+    boolean isDrained();
+}
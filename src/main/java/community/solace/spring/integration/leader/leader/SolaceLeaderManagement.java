@@ -0,0 +1,136 @@
+package community.solace.spring.integration.leader.leader;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.beans.factory.DisposableBean;
+
+import javax.management.MBeanNotificationInfo;
+import javax.management.Notification;
+import javax.management.NotificationBroadcasterSupport;
+import javax.management.openmbean.CompositeDataSupport;
+import javax.management.openmbean.CompositeType;
+import javax.management.openmbean.OpenDataException;
+import javax.management.openmbean.OpenType;
+import javax.management.openmbean.SimpleType;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link SolaceLeaderMXBean} of a {@link SolaceLeaderInitiator}.
+ * <p>
+ * Exported by the JMX exporter of Spring, if JMX is enabled ({@code spring.jmx.enabled=true}).
+ * Notifications are sent by the thread doing the transition, usually the JCSMP context thread.
+ */
+public class SolaceLeaderManagement extends NotificationBroadcasterSupport implements SolaceLeaderMXBean, LeaderStateListener, DisposableBean {
+
+    private static final Log logger = LogFactory.getLog(SolaceLeaderManagement.class);
+    private static final String[] TRANSITION_ITEMS = {"role", "from", "to"};
+    private static final CompositeType TRANSITION_TYPE;
+
+    static {
+        try {
+            TRANSITION_TYPE = new CompositeType(
+                    "LeaderTransition",
+                    "Transition of the leadership state of a group",
+                    TRANSITION_ITEMS,
+                    new String[]{"name of the group", "state before the transition", "state after the transition"},
+                    new OpenType<?>[]{SimpleType.STRING, SimpleType.STRING, SimpleType.STRING}
+            );
+        } catch (OpenDataException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final SolaceLeaderInitiator leaderInitiator;
+    /**
+     * Time of the last transition of each joined group. Removed when the group is left.
+     */
+    private final Map<String, Date> lastTransitions = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+
+    public SolaceLeaderManagement(SolaceLeaderInitiator leaderInitiator) {
+        super(new MBeanNotificationInfo(
+                new String[]{GRANTED_NOTIFICATION, REVOKED_NOTIFICATION, YIELDED_NOTIFICATION, FAILED_TO_ACQUIRE_NOTIFICATION},
+                Notification.class.getName(),
+                "Leadership transitions of the groups"
+        ));
+        this.leaderInitiator = leaderInitiator;
+        leaderInitiator.addStateListener(this);
+    }
+
+    @Override
+    public Map<String, LeaderGroupStatus> getGroups() {
+        Map<String, LeaderGroupStatus> groups = new LinkedHashMap<>();
+        leaderInitiator.getGroupStates().forEach((role, state) -> groups.put(role, status(role, state)));
+        return groups;
+    }
+
+    @Override
+    public LeaderGroupStatus getGroup(String groupName) {
+        LeaderState state = leaderInitiator.getGroupStates().get(groupName);
+        return state == null ? null : status(groupName, state);
+    }
+
+    @Override
+    public List<String> getLeaderGroups() {
+        List<String> leaderGroups = new ArrayList<>();
+        leaderInitiator.getGroupStates().forEach((role, state) -> {
+            if (state == LeaderState.LEADER) {
+                leaderGroups.add(role);
+            }
+        });
+        return leaderGroups;
+    }
+
+    @Override
+    public boolean isDrained() {
+        return leaderInitiator.isDrained();
+    }
+
+    @Override
+    public void onStateChanged(SolaceContext context, LeaderState from, LeaderState to) {
+        if (to == LeaderState.NOT_JOINED) {
+            lastTransitions.remove(context.getRole());
+        } else {
+            lastTransitions.put(context.getRole(), new Date());
+        }
+
+        if (to == LeaderState.LEADER) {
+            notify(GRANTED_NOTIFICATION, context, from, to);
+        } else if (to == LeaderState.YIELDING) {
+            notify(YIELDED_NOTIFICATION, context, from, to);
+        } else if (from == LeaderState.LEADER) {
+            notify(REVOKED_NOTIFICATION, context, from, to);
+        }
+        if (to == LeaderState.FAILED) {
+            notify(FAILED_TO_ACQUIRE_NOTIFICATION, context, from, to);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        leaderInitiator.removeStateListener(this);
+    }
+
+    private LeaderGroupStatus status(String role, LeaderState state) {
+        return new LeaderGroupStatus(role, state.name(), state == LeaderState.LEADER,
+                leaderInitiator.isGroupDrained(role), lastTransitions.get(role));
+    }
+
+    private void notify(String type, SolaceContext context, LeaderState from, LeaderState to) {
+        Notification notification = new Notification(type, this, sequence.incrementAndGet(), System.currentTimeMillis(),
+                context.getRole() + ": " + from + " -> " + to);
+        try {
+            notification.setUserData(new CompositeDataSupport(TRANSITION_TYPE, TRANSITION_ITEMS,
+                    new Object[]{context.getRole(), from.name(), to.name()}));
+        } catch (OpenDataException e) {
+            logger.warn("Unable to attach the transition to the notification " + type, e);
+        }
+        sendNotification(notification);
+    }
+}
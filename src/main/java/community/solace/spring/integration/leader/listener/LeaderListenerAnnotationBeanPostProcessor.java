@@ -0,0 +1,66 @@
+package community.solace.spring.integration.leader.listener;
+
+import community.solace.spring.integration.leader.leader.AbstractLeaderAnnotationBeanPostProcessor;
+import community.solace.spring.integration.leader.leader.SolaceContext;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.MethodIntrospector;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Registers all methods of singleton beans annotated with {@link OnLeaderGranted} or {@link OnLeaderRevoked}
+ * at the {@link LeaderListenerRegistry}, once all singletons have been instantiated.
+ */
+public class LeaderListenerAnnotationBeanPostProcessor extends AbstractLeaderAnnotationBeanPostProcessor<LeaderListenerRegistry> {
+
+    public LeaderListenerAnnotationBeanPostProcessor() {
+        super(LeaderListenerRegistry.class);
+    }
+
+    @Override
+    protected List<Consumer<LeaderListenerRegistry>> createRegistrations(Object bean, String beanName, Class<?> targetClass) {
+        List<Consumer<LeaderListenerRegistry>> registrations = new ArrayList<>();
+        Map<Method, OnLeaderGranted> granted = MethodIntrospector.selectMethods(targetClass,
+                (MethodIntrospector.MetadataLookup<OnLeaderGranted>) method ->
+                        AnnotatedElementUtils.findMergedAnnotation(method, OnLeaderGranted.class));
+        granted.forEach((method, annotation) -> register(registrations, annotation.value(), bean, method, true));
+
+        Map<Method, OnLeaderRevoked> revoked = MethodIntrospector.selectMethods(targetClass,
+                (MethodIntrospector.MetadataLookup<OnLeaderRevoked>) method ->
+                        AnnotatedElementUtils.findMergedAnnotation(method, OnLeaderRevoked.class));
+        revoked.forEach((method, annotation) -> register(registrations, annotation.value(), bean, method, false));
+        return registrations;
+    }
+
+    private void register(List<Consumer<LeaderListenerRegistry>> registrations, String[] roles, Object bean, Method method, boolean granted) {
+        Consumer<SolaceContext> listener = createListener(bean, method);
+        for (String role : roles) {
+            String resolvedRole = resolve(role);
+            registrations.add(granted
+                    ? registry -> registry.addGrantedListener(resolvedRole, listener)
+                    : registry -> registry.addRevokedListener(resolvedRole, listener));
+        }
+    }
+
+    private Consumer<SolaceContext> createListener(Object bean, Method method) {
+        Class<?>[] parameterTypes = method.getParameterTypes();
+        boolean withContext = parameterTypes.length == 1 && parameterTypes[0].isAssignableFrom(SolaceContext.class);
+        if (parameterTypes.length > 0 && !withContext) {
+            throw new IllegalStateException("Leader listener method " + method + " must have no parameters or a single SolaceContext parameter");
+        }
+
+        Method invocableMethod = AopUtils.selectInvocableMethod(method, bean.getClass());
+        ReflectionUtils.makeAccessible(invocableMethod);
+
+        if (withContext) {
+            return context -> ReflectionUtils.invokeMethod(invocableMethod, bean, context);
+        }
+        return context -> ReflectionUtils.invokeMethod(invocableMethod, bean);
+    }
+}
@@ -0,0 +1,85 @@
+package community.solace.spring.integration.leader.listener;
+
+import community.solace.spring.integration.leader.leader.LeaderState;
+import community.solace.spring.integration.leader.leader.LeaderStateListener;
+import community.solace.spring.integration.leader.leader.SolaceContext;
+import community.solace.spring.integration.leader.leader.SolaceLeaderInitiator;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.integration.leader.Context;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Dispatches the leadership transitions of a group to the listeners registered for that group,
+ * see {@link OnLeaderGranted} and {@link OnLeaderRevoked}. The listeners are looked up by the name of the group.
+ */
+public class LeaderListenerRegistry implements LeaderStateListener, DisposableBean {
+
+    private static final Log logger = LogFactory.getLog(LeaderListenerRegistry.class);
+
+    private final SolaceLeaderInitiator leaderInitiator;
+    private final Map<String, List<Consumer<SolaceContext>>> grantedListeners = new ConcurrentHashMap<>();
+    private final Map<String, List<Consumer<SolaceContext>>> revokedListeners = new ConcurrentHashMap<>();
+
+    public LeaderListenerRegistry(SolaceLeaderInitiator leaderInitiator) {
+        this.leaderInitiator = leaderInitiator;
+        leaderInitiator.addStateListener(this);
+    }
+
+    /**
+     * Registers a listener invoked when this process becomes the leader of the group.
+     * If this process is the leader already, the listener is invoked immediately.
+     */
+    public void addGrantedListener(String role, Consumer<SolaceContext> listener) {
+        grantedListeners.computeIfAbsent(role, r -> new CopyOnWriteArrayList<>()).add(listener);
+
+        Context context = leaderInitiator.getContext(role, false);
+        if (context instanceof SolaceContext solaceContext && solaceContext.isLeader()) {
+            invoke(listener, solaceContext);
+        }
+    }
+
+    /**
+     * Registers a listener invoked when this process is no longer the leader of the group.
+     */
+    public void addRevokedListener(String role, Consumer<SolaceContext> listener) {
+        revokedListeners.computeIfAbsent(role, r -> new CopyOnWriteArrayList<>()).add(listener);
+    }
+
+    @Override
+    public void onStateChanged(SolaceContext context, LeaderState from, LeaderState to) {
+        List<Consumer<SolaceContext>> listeners;
+        if (to == LeaderState.LEADER) {
+            listeners = grantedListeners.get(context.getRole());
+        } else if (from == LeaderState.LEADER) {
+            listeners = revokedListeners.get(context.getRole());
+        } else {
+            return;
+        }
+
+        if (listeners != null) {
+            for (Consumer<SolaceContext> listener : listeners) {
+                invoke(listener, context);
+            }
+        }
+    }
+
+    private void invoke(Consumer<SolaceContext> listener, SolaceContext context) {
+        try {
+            listener.accept(context);
+        } catch (RuntimeException e) {
+            logger.error("Leader listener failed for group " + context.getRole(), e);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        leaderInitiator.removeStateListener(this);
+    }
+}
@@ -0,0 +1,30 @@
+package community.solace.spring.integration.leader.listener;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.springframework.aot.hint.annotation.Reflective;
+
+/**
+ * Invokes the annotated method when this process becomes the leader of one of the groups.
+ * <p>
+ * Unlike an {@code @EventListener} with a condition, the method is resolved once at startup and
+ * invoked directly by the transition, without the event multicaster and without SpEL.
+ * It runs on the thread performing the transition, usually the JCSMP context thread, and must not block.
+ * <p>
+ * The method has no parameters, or a single {@link community.solace.spring.integration.leader.leader.SolaceContext} parameter.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Reflective
+public @interface OnLeaderGranted {
+
+    /**
+     * Specifies the names of the leader groups. Supports ${...} placeholders.
+     */
+    String[] value();
+}
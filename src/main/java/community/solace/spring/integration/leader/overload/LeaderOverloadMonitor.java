@@ -0,0 +1,203 @@
+package community.solace.spring.integration.leader.overload;
+
+import community.solace.spring.integration.leader.leader.LeaderState;
+import community.solace.spring.integration.leader.leader.LeaderStateListener;
+import community.solace.spring.integration.leader.leader.SolaceContext;
+import community.solace.spring.integration.leader.leader.SolaceLeaderInitiator;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.concurrent.ConcurrentTaskScheduler;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+
+/**
+ * Yields the leadership of the opted-in groups, while this node is overloaded, so an idle candidate takes over.
+ * <p>
+ * The node becomes overloaded when the load of the {@link LeaderOverloadPolicy} reaches 1.0, and recovers only
+ * when the load dropped below the recovery ratio. Once overloaded for the whole window, every opted-in group
+ * this node was the leader of for at least the minimum tenure is yielded to a peer.
+ * If no peer took over within the yield timeout, this node accepts the leadership again.
+ */
+public class LeaderOverloadMonitor implements LeaderStateListener, SmartLifecycle, DisposableBean {
+
+    private static final Log logger = LogFactory.getLog(LeaderOverloadMonitor.class);
+
+    private final SolaceLeaderInitiator leaderInitiator;
+    private final LeaderOverloadPolicy policy;
+    private final Set<String> groups = ConcurrentHashMap.newKeySet();
+    private final double recoveryRatio;
+    private final Duration window;
+    private final Duration minTenure;
+    private final Duration checkInterval;
+    private final Duration yieldCooldown;
+    private final Duration yieldTimeout;
+    private final TaskScheduler scheduler;
+    /**
+     * The executor created by this monitor, null if the scheduler was provided.
+     */
+    private final ScheduledExecutorService executor;
+
+    /**
+     * Groups this process is the leader of, with the start of the leadership.
+     */
+    private final Map<String, Tenure> tenures = new ConcurrentHashMap<>();
+    /**
+     * Start of the overload, null if not overloaded. Only changed by the checks, which never run concurrently.
+     */
+    private volatile Instant overloadedSince;
+    private volatile ScheduledFuture<?> nextCheck;
+    private volatile boolean running;
+
+    /**
+     * @param groups        groups to yield while overloaded.
+     * @param recoveryRatio the node recovers when the load dropped below this ratio.
+     * @param window        how long the node has to be overloaded before yielding.
+     * @param minTenure     minimum time a group has to be led before it is yielded.
+     * @param yieldCooldown how long the flow stays unbound before probing whether a peer took over, must be positive.
+     *                      Without a peer this node is the leader again after each probe, until the yield timeout.
+     * @param yieldTimeout  how long to wait for a peer to take over, before accepting the leadership again.
+     * @param scheduler     runs the checks, or null to run them on a thread of this monitor.
+     */
+    public LeaderOverloadMonitor(SolaceLeaderInitiator leaderInitiator, LeaderOverloadPolicy policy, Set<String> groups,
+                                 double recoveryRatio, Duration window, Duration minTenure, Duration checkInterval,
+                                 Duration yieldCooldown, Duration yieldTimeout, TaskScheduler scheduler) {
+        if (yieldCooldown.isZero() || yieldCooldown.isNegative()) {
+            throw new IllegalArgumentException("spring.leader.overload-yield-cooldown must be positive");
+        }
+        this.leaderInitiator = leaderInitiator;
+        this.policy = policy;
+        this.groups.addAll(groups);
+        this.recoveryRatio = recoveryRatio;
+        this.window = window;
+        this.minTenure = minTenure;
+        this.checkInterval = checkInterval;
+        this.yieldCooldown = yieldCooldown;
+        this.yieldTimeout = yieldTimeout;
+        if (scheduler == null) {
+            CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("solace-leader-overload-");
+            threadFactory.setDaemon(true);
+            this.executor = Executors.newSingleThreadScheduledExecutor(threadFactory);
+            this.scheduler = new ConcurrentTaskScheduler(executor);
+        } else {
+            this.executor = null;
+            this.scheduler = scheduler;
+        }
+        // Registered early, so the tenure of leaderships granted before start is known.
+        leaderInitiator.addStateListener(this);
+    }
+
+    /**
+     * Opts the group in, its leadership is yielded while this node is overloaded.
+     */
+    public void addGroup(String groupName) {
+        groups.add(groupName);
+    }
+
+    public void removeGroup(String groupName) {
+        groups.remove(groupName);
+    }
+
+    /**
+     * @return true if the load reached 1.0 and did not drop below the recovery ratio since.
+     */
+    public boolean isOverloaded() {
+        return overloadedSince != null;
+    }
+
+    @Override
+    public void onStateChanged(SolaceContext context, LeaderState from, LeaderState to) {
+        if (to == LeaderState.LEADER) {
+            tenures.put(context.getRole(), new Tenure(context, scheduler.getClock().instant()));
+        } else if (from == LeaderState.LEADER) {
+            tenures.remove(context.getRole());
+        }
+    }
+
+    void check() {
+        Instant now = scheduler.getClock().instant();
+        double load;
+        try {
+            load = policy.getLoad();
+        } catch (RuntimeException e) {
+            logger.warn("Unable to evaluate the overload policy", e);
+            return;
+        }
+
+        if (overloadedSince == null && load >= 1.0) {
+            logger.warn("Node is overloaded, load " + load);
+            overloadedSince = now;
+        } else if (overloadedSince != null && load < recoveryRatio) {
+            logger.info("Node recovered from overload, load " + load);
+            overloadedSince = null;
+        }
+
+        Instant since = overloadedSince;
+        if (since == null || Duration.between(since, now).compareTo(window) < 0) {
+            return;
+        }
+        for (Tenure tenure : tenures.values()) {
+            String role = tenure.context.getRole();
+            if (groups.contains(role) && Duration.between(tenure.since, now).compareTo(minTenure) >= 0) {
+                logger.warn("Yielding the leadership of " + role + ", the node is overloaded since " + since);
+                tenure.context.yieldToPeer(yieldCooldown, yieldTimeout);
+            }
+        }
+    }
+
+    private void scheduleCheck() {
+        nextCheck = scheduler.schedule(() -> {
+            if (!running) {
+                return;
+            }
+            try {
+                check();
+            } finally {
+                if (running) {
+                    scheduleCheck();
+                }
+            }
+        }, scheduler.getClock().instant().plus(checkInterval));
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        scheduleCheck();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        ScheduledFuture<?> check = nextCheck;
+        if (check != null) {
+            check.cancel(false);
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public void destroy() {
+        leaderInitiator.removeStateListener(this);
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    private record Tenure(SolaceContext context, Instant since) {
+    }
+}
@@ -0,0 +1,15 @@
+package community.solace.spring.integration.leader.overload;
+
+/**
+ * Tells the {@link LeaderOverloadMonitor} how loaded this node is.
+ * <p>
+ * Evaluated periodically on the scheduler of the monitor. Implementations must not block.
+ */
+@FunctionalInterface
+public interface LeaderOverloadPolicy {
+
+    /**
+     * @return the load of this node relative to its capacity, the node is overloaded at 1.0 and above.
+     */
+    double getLoad();
+}
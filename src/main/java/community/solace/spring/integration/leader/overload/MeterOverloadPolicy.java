@@ -0,0 +1,56 @@
+package community.solace.spring.integration.leader.overload;
+
+import io.micrometer.core.instrument.Measurement;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Statistic;
+
+import java.util.Map;
+
+/**
+ * {@link LeaderOverloadPolicy} comparing Micrometer meters with their thresholds.
+ * <p>
+ * The load is the highest ratio of a meter value to its threshold. Timers and distribution summaries
+ * are compared by their maximum, for example {@code jvm.gc.pause} in seconds, gauges by their value,
+ * for example {@code process.cpu.usage} or {@code executor.queued}. If a name matches several meters, the highest value counts.
+ */
+public class MeterOverloadPolicy implements LeaderOverloadPolicy {
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Double> thresholds;
+
+    /**
+     * @param thresholds threshold by meter name.
+     */
+    public MeterOverloadPolicy(MeterRegistry meterRegistry, Map<String, Double> thresholds) {
+        this.meterRegistry = meterRegistry;
+        this.thresholds = Map.copyOf(thresholds);
+    }
+
+    @Override
+    public double getLoad() {
+        double load = 0;
+        for (Map.Entry<String, Double> threshold : thresholds.entrySet()) {
+            for (Meter meter : meterRegistry.find(threshold.getKey()).meters()) {
+                load = Math.max(load, value(meter) / threshold.getValue());
+            }
+        }
+        return load;
+    }
+
+    private static double value(Meter meter) {
+        double value = 0;
+        double max = Double.NaN;
+        for (Measurement measurement : meter.measure()) {
+            if (measurement.getStatistic() == Statistic.MAX) {
+                max = measurement.getValue();
+            } else if (measurement.getStatistic() == Statistic.VALUE) {
+                value = measurement.getValue();
+            }
+        }
+        if (!Double.isNaN(max)) {
+            return max;
+        }
+        return Double.isNaN(value) ? 0 : value;
+    }
+}
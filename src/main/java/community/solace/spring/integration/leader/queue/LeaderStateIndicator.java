@@ -9,4 +9,10 @@ public interface LeaderStateIndicator {
     void stop();
 
     boolean isActive();
+
+    /**
+     * Removes the endpoint backing the leader election of the group, after the group was left.
+     */
+    default void deprovision() {
+    }
 }
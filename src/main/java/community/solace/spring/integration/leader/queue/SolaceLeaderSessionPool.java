@@ -0,0 +1,97 @@
+package community.solace.spring.integration.leader.queue;
+
+import com.solacesystems.jcsmp.Context;
+import com.solacesystems.jcsmp.ContextProperties;
+import com.solacesystems.jcsmp.JCSMPException;
+import com.solacesystems.jcsmp.JCSMPProperties;
+import com.solacesystems.jcsmp.JCSMPSession;
+import com.solacesystems.jcsmp.SolaceSessionOAuth2TokenProvider;
+import com.solacesystems.jcsmp.SpringJCSMPFactory;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.lang.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Pool of dedicated leader sessions the leader groups are spread over.
+ * <p>
+ * Each session has its own JCSMP context, so the flow events of the groups are dispatched on one thread per session,
+ * and the flow limits of a client apply per session. A group is assigned explicitly, or by the hash of its name.
+ */
+public class SolaceLeaderSessionPool implements DisposableBean {
+
+    private static final Log logger = LogFactory.getLog(SolaceLeaderSessionPool.class);
+
+    private final List<JCSMPSession> sessions;
+    private final List<Context> contexts;
+    private final Map<String, Integer> assignments;
+
+    /**
+     * Creates and connects {@code size} sessions. The client name of each session is suffixed with its index.
+     */
+    public SolaceLeaderSessionPool(JCSMPProperties jcsmpProperties, @Nullable SolaceSessionOAuth2TokenProvider tokenProvider,
+                                   int size, Map<String, Integer> assignments) throws JCSMPException {
+        this(new ArrayList<>(size), new ArrayList<>(size), assignments);
+
+        assignments.forEach((roleName, index) -> {
+            if (index < 0 || index >= size) {
+                throw new IllegalArgumentException("The group \"" + roleName + "\" is assigned to session " + index
+                        + ", but spring.leader.session-pool-size is " + size);
+            }
+        });
+        String clientName = (String) jcsmpProperties.getProperty(JCSMPProperties.CLIENT_NAME);
+        try {
+            for (int i = 0; i < size; i++) {
+                JCSMPProperties sessionProperties = (JCSMPProperties) jcsmpProperties.clone();
+                sessionProperties.setProperty(JCSMPProperties.CLIENT_NAME, clientName + "-" + i);
+
+                SpringJCSMPFactory factory = new SpringJCSMPFactory(sessionProperties, tokenProvider);
+                Context context = factory.createContext(new ContextProperties());
+                contexts.add(context);
+                JCSMPSession session = factory.createSession(context);
+                sessions.add(session);
+                session.connect();
+            }
+        } catch (JCSMPException | RuntimeException e) {
+            destroy();
+            throw e;
+        }
+        logger.info("Connected " + size + " leader sessions");
+    }
+
+    SolaceLeaderSessionPool(List<JCSMPSession> sessions, List<Context> contexts, Map<String, Integer> assignments) {
+        this.sessions = sessions;
+        this.contexts = contexts;
+        this.assignments = assignments;
+    }
+
+    /**
+     * @return the session the flow of the group is bound with.
+     */
+    public JCSMPSession getSession(String roleName) {
+        return sessions.get(getSessionIndex(roleName));
+    }
+
+    int getSessionIndex(String roleName) {
+        Integer index = assignments.get(roleName);
+        return index != null ? index : Math.floorMod(roleName.hashCode(), sessions.size());
+    }
+
+    public int size() {
+        return sessions.size();
+    }
+
+    @Override
+    public void destroy() {
+        for (JCSMPSession session : sessions) {
+            session.closeSession();
+        }
+        for (Context context : contexts) {
+            context.destroy();
+        }
+    }
+}
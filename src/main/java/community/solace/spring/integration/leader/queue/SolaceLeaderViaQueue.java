@@ -13,25 +13,48 @@ public class SolaceLeaderViaQueue implements XMLMessageListener, LeaderStateIndi
     private static final String SOLACE_GROUP_PREFIX = "leader.";
 
     private final JCSMPSession jcsmpSession;
+    private final String roleName;
     private final Consumer<Boolean> eventHandler;
     private final Consumer<Throwable> onError;
     private final ConsumerFlowProperties flowProp;
+    /**
+     * Receives the work messages published to the leader queue, null if they are ignored.
+     */
+    private final XMLMessageListener workListener;
 
-    private FlowReceiver flowReceiver;
+    private volatile FlowReceiver flowReceiver;
 
-    private FlowEvent lastEvent;
+    /**
+     * Written by the JCSMP context thread delivering the flow events and by the thread stopping the flow, guarded by this.
+     */
+    private volatile FlowEvent lastEvent;
+    private boolean stopped;
 
     public SolaceLeaderViaQueue(JCSMPSession jcsmpSession, String roleName, Consumer<Boolean> eventHandler, Consumer<Throwable> onError) {
+        this(jcsmpSession, roleName, eventHandler, onError, null, 0);
+    }
+
+    /**
+     * @param workListener   receives the messages published to the leader queue, acknowledged by the listener.
+     *                       If it throws, the flow delivers no further messages and a {@link WorkFailedException} is
+     *                       passed to onError. The owner has to bind the flow again, so the unacknowledged messages are
+     *                       redelivered in order, the failed one first.
+     * @param workWindowSize maximum number of unacknowledged work messages delivered to the listener.
+     */
+    public SolaceLeaderViaQueue(JCSMPSession jcsmpSession, String roleName, Consumer<Boolean> eventHandler, Consumer<Throwable> onError,
+                                XMLMessageListener workListener, int workWindowSize) {
         this.jcsmpSession = jcsmpSession;
+        this.roleName = roleName;
         this.eventHandler = eventHandler;
         this.onError = onError;
+        this.workListener = workListener;
 
         if (eventHandler != null) {
             eventHandler.accept(isActive());
         }
 
         // subscribeToQueue
-        final Queue queue = provisionQueue(SOLACE_GROUP_PREFIX + roleName, new EndpointProperties(
+        final Queue queue = provisionQueue(getQueueName(roleName), new EndpointProperties(
                 EndpointProperties.ACCESSTYPE_EXCLUSIVE,
                 null,
                 EndpointProperties.PERMISSION_NONE,
@@ -41,6 +64,17 @@ public class SolaceLeaderViaQueue implements XMLMessageListener, LeaderStateIndi
         flowProp = new ConsumerFlowProperties();
         flowProp.setEndpoint(queue);
         flowProp.setActiveFlowIndication(true); // important
+        if (workListener != null) {
+            flowProp.setAckMode(JCSMPProperties.SUPPORTED_MESSAGE_ACK_CLIENT);
+            flowProp.setTransportWindowSize(workWindowSize);
+        }
+    }
+
+    /**
+     * @return the name of the exclusive queue electing the leader of the group.
+     */
+    public static String getQueueName(String roleName) {
+        return SOLACE_GROUP_PREFIX + roleName;
     }
 
     private Queue provisionQueue(String name, EndpointProperties endpointProperties)
@@ -74,10 +108,27 @@ public class SolaceLeaderViaQueue implements XMLMessageListener, LeaderStateIndi
     public void start(String candidateName) throws JCSMPException {
         flowReceiver = jcsmpSession.createFlow(
                 new XMLMessageListener() {
+                    /**
+                     * Set when the work listener failed, only accessed by the JCSMP context thread of this flow.
+                     */
+                    private boolean workFailed;
 
                     @Override
                     public void onReceive(BytesXMLMessage xmlMessage) {
-                        // Ignore. Her should never arrive any messages. Being a black hole is ok.
+                        if (workListener == null) {
+                            // Ignore. Her should never arrive any messages. Being a black hole is ok.
+                            return;
+                        }
+                        if (workFailed) {
+                            // Left unacknowledged, redelivered after the failed message when the flow is bound again.
+                            return;
+                        }
+                        try {
+                            workListener.onReceive(xmlMessage);
+                        } catch (RuntimeException e) {
+                            workFailed = true;
+                            onError.accept(new WorkFailedException("Work listener of group " + roleName + " failed", e));
+                        }
                     }
 
                     @Override
@@ -89,20 +140,32 @@ public class SolaceLeaderViaQueue implements XMLMessageListener, LeaderStateIndi
                 null,
                 new SolaceFlowEventHandler("leader." + candidateName, (FlowEventArgs event) -> {
                     logger.debug("SolaceLeader: received event: " + event);
-                    lastEvent = event.getEvent();
+                    synchronized (this) {
+                        if (stopped) {
+                            // Late event of a closed flow.
+                            return;
+                        }
+                        lastEvent = event.getEvent();
+                    }
 
                     if (eventHandler != null) {
                         eventHandler.accept(isActive());
                     }
                 })
         );
+        synchronized (this) {
+            stopped = false;
+        }
         flowReceiver.start();
     }
 
     public void stop() {
         flowReceiver.close();
         flowReceiver = null;
-        lastEvent = FlowEvent.FLOW_DOWN;
+        synchronized (this) {
+            stopped = true;
+            lastEvent = FlowEvent.FLOW_DOWN;
+        }
     }
 
     @Override
@@ -120,4 +183,15 @@ public class SolaceLeaderViaQueue implements XMLMessageListener, LeaderStateIndi
         return FlowEvent.FLOW_ACTIVE.equals(lastEvent);
     }
 
+    @Override
+    public void deprovision() {
+        Endpoint queue = flowProp.getEndpoint();
+        try {
+            jcsmpSession.deprovision(queue, JCSMPSession.FLAG_IGNORE_DOES_NOT_EXIST);
+            logger.info(String.format("Deprovisioned queue %s", queue.getName()));
+        } catch (JCSMPException e) {
+            logger.warn(String.format("Failed to deprovision queue %s", queue.getName()), e);
+        }
+    }
+
 }
@@ -0,0 +1,158 @@
+package community.solace.spring.integration.leader.queue;
+
+import com.solacesystems.jcsmp.BytesXMLMessage;
+import com.solacesystems.jcsmp.Context;
+import com.solacesystems.jcsmp.ContextProperties;
+import com.solacesystems.jcsmp.JCSMPException;
+import com.solacesystems.jcsmp.JCSMPFactory;
+import com.solacesystems.jcsmp.JCSMPProperties;
+import com.solacesystems.jcsmp.JCSMPSession;
+import com.solacesystems.jcsmp.JCSMPStreamingPublishCorrelatingEventHandler;
+import com.solacesystems.jcsmp.XMLMessage;
+import com.solacesystems.jcsmp.XMLMessageConsumer;
+import com.solacesystems.jcsmp.XMLMessageListener;
+import com.solacesystems.jcsmp.XMLMessageProducer;
+import com.solacesystems.jcsmp.SolaceSessionOAuth2TokenProvider;
+import com.solacesystems.jcsmp.SpringJCSMPFactory;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.lang.Nullable;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Shares the direct message consumer and producer of a JCSMP session between the leader features publishing
+ * and subscribing to topics. A session has a single consumer, so the received messages are dispatched by topic.
+ * Subscriptions ending with "/&gt;" match all topics with that prefix.
+ * <p>
+ * The session is dedicated to this dispatcher, so the producer and consumer of the application or of the binder
+ * are neither replaced nor closed. It is connected on the first subscription or message.
+ */
+public class SolaceTopicDispatcher implements XMLMessageListener, DisposableBean {
+
+    private static final Log logger = LogFactory.getLog(SolaceTopicDispatcher.class);
+    private static final String WILDCARD = ">";
+
+    private final JCSMPProperties jcsmpProperties;
+    private final SolaceSessionOAuth2TokenProvider tokenProvider;
+    private final Map<String, Consumer<BytesXMLMessage>> listeners = new ConcurrentHashMap<>();
+    private JCSMPSession jcsmpSession;
+    /**
+     * The JCSMP context of the session, null if the session was provided.
+     */
+    private Context context;
+    private volatile XMLMessageProducer producer;
+    private XMLMessageConsumer consumer;
+
+    /**
+     * Creates a dedicated session with the properties, which is closed on destroy.
+     */
+    public SolaceTopicDispatcher(JCSMPProperties jcsmpProperties, @Nullable SolaceSessionOAuth2TokenProvider tokenProvider) {
+        this.jcsmpProperties = jcsmpProperties;
+        this.tokenProvider = tokenProvider;
+    }
+
+    /**
+     * @param jcsmpSession a session nobody else takes the message producer or consumer of. It is not closed on destroy.
+     */
+    public SolaceTopicDispatcher(JCSMPSession jcsmpSession) {
+        this.jcsmpProperties = null;
+        this.tokenProvider = null;
+        this.jcsmpSession = jcsmpSession;
+    }
+
+    public synchronized void subscribe(String topic, Consumer<BytesXMLMessage> listener) throws JCSMPException {
+        start();
+        listeners.put(topic, listener);
+        jcsmpSession.addSubscription(JCSMPFactory.onlyInstance().createTopic(topic));
+    }
+
+    public synchronized void unsubscribe(String topic) throws JCSMPException {
+        if (listeners.remove(topic) != null && jcsmpSession != null) {
+            jcsmpSession.removeSubscription(JCSMPFactory.onlyInstance().createTopic(topic));
+        }
+    }
+
+    public void send(XMLMessage message, String topic) throws JCSMPException {
+        XMLMessageProducer messageProducer = producer;
+        if (messageProducer == null) {
+            start();
+            messageProducer = producer;
+        }
+        messageProducer.send(message, JCSMPFactory.onlyInstance().createTopic(topic));
+    }
+
+    private synchronized void start() throws JCSMPException {
+        if (consumer != null) {
+            return;
+        }
+
+        if (jcsmpSession == null) {
+            SpringJCSMPFactory factory = new SpringJCSMPFactory(jcsmpProperties, tokenProvider);
+            context = factory.createContext(new ContextProperties());
+            jcsmpSession = factory.createSession(context);
+            jcsmpSession.connect();
+        }
+        producer = jcsmpSession.getMessageProducer(new JCSMPStreamingPublishCorrelatingEventHandler() {
+            @Override
+            public void responseReceivedEx(Object key) {
+            }
+
+            @Override
+            public void handleErrorEx(Object key, JCSMPException cause, long timestamp) {
+                logger.warn("Unable to publish message", cause);
+            }
+        });
+        consumer = jcsmpSession.getMessageConsumer(this);
+        consumer.start();
+    }
+
+    @Override
+    public void onReceive(BytesXMLMessage message) {
+        String topic = message.getDestination().getName();
+        Consumer<BytesXMLMessage> listener = listeners.get(topic);
+        if (listener == null) {
+            listener = listeners.entrySet().stream()
+                    .filter(e -> e.getKey().endsWith(WILDCARD) && topic.startsWith(e.getKey().substring(0, e.getKey().length() - 1)))
+                    .map(Map.Entry::getValue)
+                    .findFirst()
+                    .orElse(null);
+        }
+        if (listener == null) {
+            logger.debug("No listener for message on topic " + topic);
+            return;
+        }
+
+        try {
+            listener.accept(message);
+        } catch (RuntimeException e) {
+            logger.error("Unable to process message on topic " + topic, e);
+        }
+    }
+
+    @Override
+    public void onException(JCSMPException exception) {
+        logger.error("Direct message consumer failed", exception);
+    }
+
+    @Override
+    public synchronized void destroy() {
+        if (consumer != null) {
+            consumer.close();
+            consumer = null;
+        }
+        if (producer != null) {
+            producer.close();
+            producer = null;
+        }
+        if (context != null) {
+            jcsmpSession.closeSession();
+            context.destroy();
+            jcsmpSession = null;
+            context = null;
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package community.solace.spring.integration.leader.queue;
+
+
+import org.springframework.core.NestedRuntimeException;
+
+/**
+ * Passed to the error handler of a {@link LeaderStateIndicator}, when the work listener of the leader flow failed.
+ * The flow delivers no further work messages, until it was bound again.
+ */
+@SuppressWarnings("serial")
+public class WorkFailedException extends NestedRuntimeException {
+
+    public WorkFailedException(String msg, Throwable cause) {
+        super(msg, cause);
+    }
+
+}
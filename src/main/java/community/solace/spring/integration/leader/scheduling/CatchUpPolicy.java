@@ -0,0 +1,19 @@
+package community.solace.spring.integration.leader.scheduling;
+
+/**
+ * What a new leader does with the runs of a {@link LeaderJob} that were due while nobody was the leader.
+ */
+public enum CatchUpPolicy {
+    /**
+     * Missed runs are skipped, the job continues with the next regular fire time.
+     */
+    NONE,
+    /**
+     * Only the latest missed run is executed.
+     */
+    LATEST,
+    /**
+     * All missed runs are executed in order, but at most {@link LeaderJob#maxCatchUpRuns()} of the latest ones.
+     */
+    ALL
+}
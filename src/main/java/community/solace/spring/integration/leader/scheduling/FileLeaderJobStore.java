@@ -0,0 +1,59 @@
+package community.solace.spring.integration.leader.scheduling;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.Properties;
+
+/**
+ * {@link LeaderJobStore} keeping the last fire times in a properties file.
+ * Meant for tests and for candidates sharing a volume.
+ */
+public class FileLeaderJobStore implements LeaderJobStore {
+
+    private final Path file;
+
+    public FileLeaderJobStore(Path file) {
+        this.file = file;
+    }
+
+    @Override
+    public synchronized Optional<Instant> getLastFireTime(String jobName) {
+        return Optional.ofNullable(load().getProperty(jobName))
+                .map(Instant::parse);
+    }
+
+    @Override
+    public synchronized void setLastFireTime(String jobName, Instant fireTime) {
+        Properties lastFireTimes = load();
+        lastFireTimes.setProperty(jobName, fireTime.toString());
+
+        try {
+            Path tmp = Files.createTempFile(file.toAbsolutePath().getParent(), file.getFileName().toString(), ".tmp");
+            try (OutputStream out = Files.newOutputStream(tmp)) {
+                lastFireTimes.store(out, "last fire time per leader job");
+            }
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to write leader job store: " + file, e);
+        }
+    }
+
+    private Properties load() {
+        Properties lastFireTimes = new Properties();
+        if (Files.exists(file)) {
+            try (InputStream in = Files.newInputStream(file)) {
+                lastFireTimes.load(in);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Unable to read leader job store: " + file, e);
+            }
+        }
+        return lastFireTimes;
+    }
+}
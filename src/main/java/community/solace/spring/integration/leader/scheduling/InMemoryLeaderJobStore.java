@@ -0,0 +1,30 @@
+package community.solace.spring.integration.leader.scheduling;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Default {@link LeaderJobStore}, only known to this process. Jobs are not caught up with this store,
+ * it does not know the runs of another leader. Provide a shared store to catch up runs missed during a failover.
+ */
+public class InMemoryLeaderJobStore implements LeaderJobStore {
+
+    private final Map<String, Instant> lastFireTimes = new ConcurrentHashMap<>();
+
+    @Override
+    public Optional<Instant> getLastFireTime(String jobName) {
+        return Optional.ofNullable(lastFireTimes.get(jobName));
+    }
+
+    @Override
+    public void setLastFireTime(String jobName, Instant fireTime) {
+        lastFireTimes.put(jobName, fireTime);
+    }
+
+    @Override
+    public boolean isShared() {
+        return false;
+    }
+}
@@ -0,0 +1,40 @@
+package community.solace.spring.integration.leader.scheduling;
+
+import org.springframework.scheduling.support.CronExpression;
+import org.springframework.util.Assert;
+
+import java.time.ZoneId;
+
+/**
+ * A job executed by the {@link LeaderJobScheduler} only on the leader of {@link #role()}.
+ *
+ * @param name           unique name, the key of the last fire time in the {@link LeaderJobStore}.
+ * @param role           the leader group.
+ * @param cron           when to run the job.
+ * @param zone           time zone the cron expression is resolved in.
+ * @param catchUp        what to do with runs missed during a failover.
+ * @param maxCatchUpRuns upper bound of missed runs executed with {@link CatchUpPolicy#ALL}.
+ * @param task           the work.
+ */
+public record LeaderJob(String name, String role, CronExpression cron, ZoneId zone, CatchUpPolicy catchUp,
+                        int maxCatchUpRuns, LeaderJobTask task) {
+
+    public static final int DEFAULT_MAX_CATCH_UP_RUNS = 10;
+
+    public LeaderJob {
+        Assert.hasText(name, "name must not be empty");
+        Assert.hasText(role, "role must not be empty");
+        Assert.notNull(cron, "cron must not be null");
+        Assert.notNull(zone, "zone must not be null");
+        Assert.notNull(catchUp, "catchUp must not be null");
+        Assert.isTrue(maxCatchUpRuns > 0, "maxCatchUpRuns must be positive");
+        Assert.notNull(task, "task must not be null");
+    }
+
+    /**
+     * A job in the default time zone, catching up the latest missed run.
+     */
+    public LeaderJob(String name, String role, String cron, LeaderJobTask task) {
+        this(name, role, CronExpression.parse(cron), ZoneId.systemDefault(), CatchUpPolicy.LATEST, DEFAULT_MAX_CATCH_UP_RUNS, task);
+    }
+}
@@ -0,0 +1,223 @@
+package community.solace.spring.integration.leader.scheduling;
+
+import community.solace.spring.integration.leader.leader.LeaderState;
+import community.solace.spring.integration.leader.leader.LeaderStateListener;
+import community.solace.spring.integration.leader.leader.SolaceContext;
+import community.solace.spring.integration.leader.leader.SolaceLeaderInitiator;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.integration.leader.Context;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs {@link LeaderJob}s only on the leader of their group.
+ * <p>
+ * The last completed fire time of each job is kept in the {@link LeaderJobStore}. When this process becomes
+ * the leader, the runs that were due since then are executed according to the {@link CatchUpPolicy} of the job,
+ * before the regular schedule continues. With a store that is not {@link LeaderJobStore#isShared() shared},
+ * the jobs are handled as {@link CatchUpPolicy#NONE}.
+ * <p>
+ * A failed run is not recorded. At the next fire time it is caught up like a missed run, according to the policy:
+ * skipped with NONE and LATEST, retried with ALL, before the regular run, which is only executed after the retry succeeded.
+ * All jobs run on a single thread.
+ */
+public class LeaderJobScheduler implements LeaderStateListener, DisposableBean {
+
+    private static final Log logger = LogFactory.getLog(LeaderJobScheduler.class);
+    /**
+     * Bounds the search for missed fire times, e.g. a job running every second after days of downtime.
+     */
+    private static final int MAX_MISSED_FIRE_TIMES = 100_000;
+
+    private final SolaceLeaderInitiator leaderInitiator;
+    private final LeaderJobStore jobStore;
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(threadFactory());
+    private final Map<String, List<LeaderJob>> jobsByRole = new ConcurrentHashMap<>();
+    private final Map<String, Activation> activations = new ConcurrentHashMap<>();
+
+    public LeaderJobScheduler(SolaceLeaderInitiator leaderInitiator, LeaderJobStore jobStore) {
+        this.leaderInitiator = leaderInitiator;
+        this.jobStore = jobStore;
+        leaderInitiator.addStateListener(this);
+    }
+
+    /**
+     * Registers the job. The group is not joined, not even if it is configured as FIRST_USE, it has to be joined separately.
+     */
+    public void schedule(LeaderJob job) {
+        List<LeaderJob> jobs = jobsByRole.computeIfAbsent(job.role(), r -> new CopyOnWriteArrayList<>());
+        if (jobsByRole.values().stream().flatMap(List::stream).anyMatch(j -> j.name().equals(job.name()))) {
+            throw new IllegalArgumentException("A leader job with name \"" + job.name() + "\" was already scheduled");
+        }
+        jobs.add(job);
+        if (job.catchUp() != CatchUpPolicy.NONE && !jobStore.isShared()) {
+            logger.warn("Leader job " + job.name() + " is not caught up: the " + jobStore.getClass().getSimpleName()
+                    + " is only known to this process, define a LeaderJobStore bean shared by all candidates");
+        }
+
+        if (isLeader(job.role())) {
+            executor.execute(() -> activate(job));
+        }
+    }
+
+    @Override
+    public void onStateChanged(SolaceContext context, LeaderState from, LeaderState to) {
+        List<LeaderJob> jobs = jobsByRole.get(context.getRole());
+        if (jobs == null) {
+            return;
+        }
+
+        if (to == LeaderState.LEADER) {
+            jobs.forEach(job -> executor.execute(() -> activate(job)));
+        } else if (from == LeaderState.LEADER) {
+            jobs.forEach(this::deactivate);
+        }
+    }
+
+    private void activate(LeaderJob job) {
+        Activation activation = new Activation();
+        if (!isLeader(job.role()) || activations.putIfAbsent(job.name(), activation) != null) {
+            return;
+        }
+
+        for (Instant fireTime : missedFireTimes(job, Instant.now())) {
+            logger.info("Catching up missed run of leader job " + job.name() + " due at " + fireTime);
+            if (!run(job, fireTime)) {
+                break;
+            }
+        }
+        scheduleNext(job, activation, Instant.now());
+    }
+
+    private void deactivate(LeaderJob job) {
+        Activation activation = activations.remove(job.name());
+        if (activation != null && activation.future != null) {
+            activation.future.cancel(false);
+        }
+    }
+
+    List<Instant> missedFireTimes(LeaderJob job, Instant now) {
+        if (job.catchUp() == CatchUpPolicy.NONE || !jobStore.isShared()) {
+            return List.of();
+        }
+        Instant lastFireTime = jobStore.getLastFireTime(job.name()).orElse(null);
+        if (lastFireTime == null) {
+            return List.of();
+        }
+
+        int limit = job.catchUp() == CatchUpPolicy.LATEST ? 1 : job.maxCatchUpRuns();
+        Deque<Instant> missed = new ArrayDeque<>(limit);
+        int count = 0;
+        for (Instant next = nextFireTime(job, lastFireTime);
+             next != null && !next.isAfter(now) && count < MAX_MISSED_FIRE_TIMES;
+             next = nextFireTime(job, next)) {
+            if (missed.size() == limit) {
+                missed.removeFirst();
+            }
+            missed.addLast(next);
+            count++;
+        }
+
+        if (count > missed.size()) {
+            logger.warn("Leader job " + job.name() + " missed " + count + " runs, catching up the latest " + missed.size());
+        }
+        return new ArrayList<>(missed);
+    }
+
+    /**
+     * @return the regular fire time, preceded by the failed runs to catch up. Empty if the fire time already ran,
+     * e.g. on the previous leader.
+     */
+    List<Instant> dueFireTimes(LeaderJob job, Instant fireTime) {
+        Instant lastFireTime = jobStore.getLastFireTime(job.name()).orElse(null);
+        if (lastFireTime != null && !lastFireTime.isBefore(fireTime)) {
+            return List.of();
+        }
+
+        List<Instant> due = missedFireTimes(job, fireTime);
+        return due.isEmpty() ? List.of(fireTime) : due;
+    }
+
+    private void scheduleNext(LeaderJob job, Activation activation, Instant after) {
+        Instant next = nextFireTime(job, after);
+        if (next == null || activations.get(job.name()) != activation) {
+            return;
+        }
+
+        long delay = Math.max(Duration.between(Instant.now(), next).toMillis(), 0);
+        activation.future = executor.schedule(() -> {
+            if (!isLeader(job.role())) {
+                return;
+            }
+            for (Instant fireTime : dueFireTimes(job, next)) {
+                if (!fireTime.equals(next)) {
+                    logger.info("Catching up failed run of leader job " + job.name() + " due at " + fireTime);
+                }
+                if (!run(job, fireTime)) {
+                    break;
+                }
+            }
+            scheduleNext(job, activation, next);
+        }, delay, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * @return false if this process is not the leader anymore, or the task failed.
+     */
+    private boolean run(LeaderJob job, Instant fireTime) {
+        if (!isLeader(job.role())) {
+            return false;
+        }
+
+        try {
+            job.task().run(fireTime);
+            jobStore.setLastFireTime(job.name(), fireTime);
+            return true;
+        } catch (Exception e) {
+            logger.error("Leader job " + job.name() + " failed for fire time " + fireTime, e);
+            return false;
+        }
+    }
+
+    private static Instant nextFireTime(LeaderJob job, Instant after) {
+        ZonedDateTime next = job.cron().next(after.atZone(job.zone()));
+        return next == null ? null : next.toInstant();
+    }
+
+    private boolean isLeader(String role) {
+        Context context = leaderInitiator.getContext(role, false);
+        return context != null && context.isLeader();
+    }
+
+    @Override
+    public void destroy() {
+        leaderInitiator.removeStateListener(this);
+        executor.shutdownNow();
+    }
+
+    private static CustomizableThreadFactory threadFactory() {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("solace-leader-job-");
+        threadFactory.setDaemon(true);
+        return threadFactory;
+    }
+
+    private static class Activation {
+        private volatile ScheduledFuture<?> future;
+    }
+}
@@ -0,0 +1,23 @@
+package community.solace.spring.integration.leader.scheduling;
+
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Keeps the last completed fire time per {@link LeaderJob}, so that a new leader is able to compute the missed runs.
+ * To catch up across processes, all candidates of a group have to share the store.
+ */
+public interface LeaderJobStore {
+
+    Optional<Instant> getLastFireTime(String jobName);
+
+    void setLastFireTime(String jobName, Instant fireTime);
+
+    /**
+     * @return false if only this process sees the stored fire times. The runs are then never caught up: after another
+     * process was the leader, the stored fire time is outdated, and catching up would repeat the runs of the other process.
+     */
+    default boolean isShared() {
+        return true;
+    }
+}
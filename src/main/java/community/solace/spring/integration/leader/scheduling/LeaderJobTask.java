@@ -0,0 +1,15 @@
+package community.solace.spring.integration.leader.scheduling;
+
+import java.time.Instant;
+
+/**
+ * The work of a {@link LeaderJob}.
+ */
+@FunctionalInterface
+public interface LeaderJobTask {
+
+    /**
+     * @param fireTime the time this run was scheduled for, in the past for a catch-up run.
+     */
+    void run(Instant fireTime) throws Exception;
+}
@@ -0,0 +1,49 @@
+package community.solace.spring.integration.leader.scheduling;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.springframework.aot.hint.annotation.Reflective;
+
+/**
+ * Schedules the annotated method as a {@link LeaderJob}. It runs only on the leader of the group,
+ * and a new leader catches up the runs missed during the failover.
+ * <p>
+ * The method has no parameters, or a single {@link java.time.Instant} parameter receiving the fire time.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Reflective
+public @interface LeaderScheduled {
+
+    /**
+     * Specifies the name of the leader group. Supports ${...} placeholders.
+     */
+    String value();
+
+    /**
+     * A cron expression, see {@link org.springframework.scheduling.support.CronExpression}. Supports ${...} placeholders.
+     */
+    String cron();
+
+    /**
+     * Time zone of the cron expression, the default time zone if empty.
+     */
+    String zone() default "";
+
+    /**
+     * Name of the job in the {@link LeaderJobStore}, "beanName.methodName" if empty.
+     */
+    String name() default "";
+
+    /**
+     * Handled as {@link CatchUpPolicy#NONE} unless the {@link LeaderJobStore} is shared by all candidates.
+     */
+    CatchUpPolicy catchUp() default CatchUpPolicy.LATEST;
+
+    int maxCatchUpRuns() default LeaderJob.DEFAULT_MAX_CATCH_UP_RUNS;
+}
@@ -0,0 +1,73 @@
+package community.solace.spring.integration.leader.scheduling;
+
+import community.solace.spring.integration.leader.leader.AbstractLeaderAnnotationBeanPostProcessor;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.MethodIntrospector;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.scheduling.support.CronExpression;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.util.StringUtils;
+
+import java.lang.reflect.Method;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Registers all methods of singleton beans annotated with {@link LeaderScheduled} at the {@link LeaderJobScheduler},
+ * once all singletons have been instantiated.
+ */
+public class LeaderScheduledAnnotationBeanPostProcessor extends AbstractLeaderAnnotationBeanPostProcessor<LeaderJobScheduler> {
+
+    public LeaderScheduledAnnotationBeanPostProcessor() {
+        super(LeaderJobScheduler.class);
+    }
+
+    @Override
+    protected List<Consumer<LeaderJobScheduler>> createRegistrations(Object bean, String beanName, Class<?> targetClass) {
+        Map<Method, LeaderScheduled> annotatedMethods = MethodIntrospector.selectMethods(targetClass,
+                (MethodIntrospector.MetadataLookup<LeaderScheduled>) method ->
+                        AnnotatedElementUtils.findMergedAnnotation(method, LeaderScheduled.class));
+
+        List<Consumer<LeaderJobScheduler>> registrations = new ArrayList<>();
+        annotatedMethods.forEach((method, annotation) -> {
+            LeaderJob job = createJob(bean, beanName, method, annotation);
+            registrations.add(scheduler -> scheduler.schedule(job));
+        });
+        return registrations;
+    }
+
+    private LeaderJob createJob(Object bean, String beanName, Method method, LeaderScheduled annotation) {
+        Class<?>[] parameterTypes = method.getParameterTypes();
+        boolean withFireTime = parameterTypes.length == 1 && parameterTypes[0] == Instant.class;
+        if (parameterTypes.length > 0 && !withFireTime) {
+            throw new IllegalStateException("@LeaderScheduled method " + method + " must have no parameters or a single Instant parameter");
+        }
+
+        Method invocableMethod = AopUtils.selectInvocableMethod(method, bean.getClass());
+        ReflectionUtils.makeAccessible(invocableMethod);
+
+        String name = StringUtils.hasText(annotation.name()) ? annotation.name() : beanName + "." + method.getName();
+        ZoneId zone = StringUtils.hasText(annotation.zone()) ? ZoneId.of(resolve(annotation.zone())) : ZoneId.systemDefault();
+
+        return new LeaderJob(
+                name,
+                resolve(annotation.value()),
+                CronExpression.parse(resolve(annotation.cron())),
+                zone,
+                annotation.catchUp(),
+                annotation.maxCatchUpRuns(),
+                fireTime -> {
+                    if (withFireTime) {
+                        invocableMethod.invoke(bean, fireTime);
+                    } else {
+                        invocableMethod.invoke(bean);
+                    }
+                }
+        );
+    }
+
+}
@@ -0,0 +1,174 @@
+package community.solace.spring.integration.leader.scope;
+
+import community.solace.spring.integration.leader.leader.LeaderState;
+import community.solace.spring.integration.leader.leader.LeaderStateListener;
+import community.solace.spring.integration.leader.leader.SolaceContext;
+import community.solace.spring.integration.leader.leader.SolaceLeaderInitiator;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.ObjectFactory;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.config.Scope;
+import org.springframework.core.type.AnnotatedTypeMetadata;
+import org.springframework.integration.leader.Context;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Spring {@link Scope} for beans annotated with {@link LeaderScoped}.
+ * <p>
+ * Instances are created on first use while being the leader of the group and destroyed
+ * as soon as the {@link SolaceLeaderInitiator} reports the leadership as revoked.
+ * Standby processes hold no instance at all.
+ */
+public class LeaderScope implements Scope, BeanFactoryPostProcessor, LeaderStateListener {
+
+    public static final String SCOPE_NAME = "leader";
+
+    private static final Log logger = LogFactory.getLog(LeaderScope.class);
+
+    private final Map<String, String> beanRoles = new ConcurrentHashMap<>();
+    private final Map<String, ScopedInstances> instancesByRole = new ConcurrentHashMap<>();
+    private ConfigurableListableBeanFactory beanFactory;
+    private volatile SolaceLeaderInitiator leaderInitiator;
+
+    @Override
+    public void postProcessBeanFactory(ConfigurableListableBeanFactory beanFactory) throws BeansException {
+        this.beanFactory = beanFactory;
+        beanFactory.registerScope(SCOPE_NAME, this);
+
+        for (String beanName : beanFactory.getBeanDefinitionNames()) {
+            BeanDefinition beanDefinition = beanFactory.getBeanDefinition(beanName);
+            if (SCOPE_NAME.equals(beanDefinition.getScope())) {
+                beanRoles.put(beanName, resolveRole(beanName, beanDefinition));
+            }
+        }
+    }
+
+    private static String resolveRole(String beanName, BeanDefinition beanDefinition) {
+        if (beanDefinition instanceof AnnotatedBeanDefinition annotated) {
+            AnnotatedTypeMetadata metadata = annotated.getFactoryMethodMetadata() != null
+                    ? annotated.getFactoryMethodMetadata()
+                    : annotated.getMetadata();
+            Map<String, Object> attributes = metadata.getAnnotationAttributes(LeaderScoped.class.getName());
+            if (attributes != null) {
+                return (String) attributes.get("value");
+            }
+        }
+        throw new IllegalStateException("The bean \"" + beanName + "\" is in scope \"" + SCOPE_NAME + "\" but has no @LeaderScoped group");
+    }
+
+    @Override
+    public Object get(String name, ObjectFactory<?> objectFactory) {
+        String role = getRole(name);
+        ScopedInstances instances = instancesByRole.computeIfAbsent(role, r -> new ScopedInstances());
+
+        synchronized (instances) {
+            if (!isLeader(role)) {
+                throw new IllegalStateException("The bean \"" + name + "\" is only available while being the leader of group: " + role);
+            }
+            Object bean = instances.beans.get(name);
+            if (bean == null) {
+                bean = objectFactory.getObject();
+                instances.beans.put(name, bean);
+            }
+            return bean;
+        }
+    }
+
+    @Override
+    public Object remove(String name) {
+        ScopedInstances instances = instancesByRole.get(getRole(name));
+        if (instances == null) {
+            return null;
+        }
+
+        synchronized (instances) {
+            instances.destructionCallbacks.remove(name);
+            return instances.beans.remove(name);
+        }
+    }
+
+    @Override
+    public void registerDestructionCallback(String name, Runnable callback) {
+        ScopedInstances instances = instancesByRole.computeIfAbsent(getRole(name), r -> new ScopedInstances());
+        synchronized (instances) {
+            instances.destructionCallbacks.put(name, callback);
+        }
+    }
+
+    @Override
+    public Object resolveContextualObject(String key) {
+        return null;
+    }
+
+    @Override
+    public String getConversationId() {
+        return null;
+    }
+
+    @Override
+    public void onStateChanged(SolaceContext context, LeaderState from, LeaderState to) {
+        if (from != LeaderState.LEADER) {
+            return;
+        }
+
+        ScopedInstances instances = instancesByRole.get(context.getRole());
+        if (instances != null) {
+            instances.destroy(context.getRole());
+        }
+    }
+
+    private String getRole(String name) {
+        String role = beanRoles.get(name);
+        if (role == null) {
+            throw new IllegalStateException("The bean \"" + name + "\" is not known to be in scope: " + SCOPE_NAME);
+        }
+        return role;
+    }
+
+    private boolean isLeader(String role) {
+        Context context = getLeaderInitiator().getContext(role, false);
+        return context != null && context.isLeader();
+    }
+
+    private SolaceLeaderInitiator getLeaderInitiator() {
+        if (leaderInitiator == null) {
+            synchronized (this) {
+                if (leaderInitiator == null) {
+                    SolaceLeaderInitiator initiator = beanFactory.getBean(SolaceLeaderInitiator.class);
+                    // Registered before the first instance is created, so no revocation is missed.
+                    initiator.addStateListener(this);
+                    leaderInitiator = initiator;
+                }
+            }
+        }
+        return leaderInitiator;
+    }
+
+    private static class ScopedInstances {
+        private final Map<String, Object> beans = new LinkedHashMap<>();
+        private final Map<String, Runnable> destructionCallbacks = new LinkedHashMap<>();
+
+        private synchronized void destroy(String role) {
+            for (Map.Entry<String, Runnable> callback : destructionCallbacks.entrySet()) {
+                try {
+                    callback.getValue().run();
+                } catch (RuntimeException e) {
+                    logger.error("Unable to destroy bean \"" + callback.getKey() + "\" of group: " + role, e);
+                }
+            }
+            if (!beans.isEmpty()) {
+                logger.info("Leadership revoked, destroyed leader scoped beans of group " + role + ": " + beans.keySet());
+            }
+            destructionCallbacks.clear();
+            beans.clear();
+        }
+    }
+}
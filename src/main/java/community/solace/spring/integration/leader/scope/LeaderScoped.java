@@ -0,0 +1,40 @@
+package community.solace.spring.integration.leader.scope;
+
+import org.springframework.context.annotation.Scope;
+import org.springframework.context.annotation.ScopedProxyMode;
+import org.springframework.core.annotation.AliasFor;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * A bean annotated with {@link LeaderScoped} only lives while this process is the leader of the given group.
+ * <p>
+ * The bean is created lazily on first use after the leadership was granted and destroyed when the leadership is revoked.
+ * Injection points receive a scoped proxy. Using the proxy while not being the leader throws a
+ * {@link org.springframework.beans.factory.support.ScopeNotActiveException}.
+ * <pre>
+ * &#64;Bean
+ * &#64;LeaderScoped("demo")
+ * public BigCache bigCache() {
+ *     return new BigCache();
+ * }
+ * </pre>
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Scope(LeaderScope.SCOPE_NAME)
+public @interface LeaderScoped {
+
+    /**
+     * Specifies the name of the leader group.
+     */
+    String value();
+
+    @AliasFor(annotation = Scope.class)
+    ScopedProxyMode proxyMode() default ScopedProxyMode.TARGET_CLASS;
+}
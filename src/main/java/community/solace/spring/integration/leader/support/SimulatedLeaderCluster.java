@@ -0,0 +1,233 @@
+package community.solace.spring.integration.leader.support;
+
+import community.solace.spring.integration.leader.queue.LeaderStateIndicator;
+import community.solace.spring.integration.leader.queue.LeaderStateIndicatorProvider;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.function.Consumer;
+
+/**
+ * Simulates the exclusive queue semantics of a Solace broker for several nodes in one JVM,
+ * without a real Solace broker or any mocked JCSMP classes.
+ * <p>
+ * Each node is a {@link LeaderStateIndicatorProvider}, to be used by its own {@link
+ * community.solace.spring.integration.leader.leader.SolaceLeaderInitiator SolaceLeaderInitiator} or application context,
+ * with the {@link Node#getMeterRegistry() meter registry} of the node.
+ * The first bound flow of a group is active, all others are inactive in bind order.
+ * When the active flow is unbound, by a yield, a leave or a crash, the next one in line becomes active.
+ * <p>
+ * Flow events are delivered on the thread changing the bindings, in the order the broker emitted them.
+ * If another thread is delivering at the same time, it delivers the events of both threads.
+ */
+public class SimulatedLeaderCluster {
+
+    private static final Log logger = LogFactory.getLog(SimulatedLeaderCluster.class);
+
+    private final Map<String, List<SimulatedFlow>> bindings = new HashMap<>();
+    private final Queue<Runnable> deliveries = new ArrayDeque<>();
+    private boolean delivering;
+
+    /**
+     * @param nodeName name of the node, reported by {@link #getLeader(String)}.
+     * @return a new node of the cluster.
+     */
+    public Node createNode(String nodeName) {
+        return new Node(nodeName);
+    }
+
+    /**
+     * @return the name of the node with the active flow of the group, or null if no flow is bound.
+     */
+    public synchronized String getLeader(String groupName) {
+        List<SimulatedFlow> flows = bindings.get(groupName);
+        return flows == null || flows.isEmpty() ? null : flows.get(0).node.name;
+    }
+
+    /**
+     * @return the names of the nodes with a bound flow of the group, the active one first.
+     */
+    public synchronized List<String> getBindOrder(String groupName) {
+        return bindings.getOrDefault(groupName, List.of()).stream()
+                .map(flow -> flow.node.name)
+                .toList();
+    }
+
+    private void bind(SimulatedFlow flow) {
+        synchronized (this) {
+            if (flow.node.crashed) {
+                logger.debug("Ignoring bind of crashed node " + flow.node.name + " to group " + flow.groupName);
+                return;
+            }
+            List<SimulatedFlow> flows = bindings.computeIfAbsent(flow.groupName, g -> new ArrayList<>());
+            if (flows.contains(flow)) {
+                return;
+            }
+            flow.binding++;
+            flows.add(flow);
+            dispatch(flow, flows.size() == 1);
+        }
+        deliver();
+    }
+
+    private void unbind(SimulatedFlow flow) {
+        synchronized (this) {
+            List<SimulatedFlow> flows = bindings.get(flow.groupName);
+            if (flows == null) {
+                return;
+            }
+            boolean wasActive = !flows.isEmpty() && flows.get(0) == flow;
+            if (!flows.remove(flow)) {
+                return;
+            }
+            flow.binding++;
+            if (wasActive && !flows.isEmpty()) {
+                dispatch(flows.get(0), true);
+            }
+        }
+        deliver();
+    }
+
+    private void crash(Node node) {
+        List<SimulatedFlow> flows;
+        synchronized (this) {
+            node.crashed = true;
+            flows = bindings.values().stream()
+                    .flatMap(List::stream)
+                    .filter(flow -> flow.node == node)
+                    .toList();
+        }
+        flows.forEach(this::unbind);
+    }
+
+    /**
+     * Queues the flow event, called while holding the lock of the cluster, to keep the order of the events.
+     */
+    private void dispatch(SimulatedFlow flow, boolean active) {
+        int binding = flow.binding;
+        synchronized (deliveries) {
+            deliveries.add(() -> flow.onEvent(binding, active));
+        }
+    }
+
+    private void deliver() {
+        synchronized (deliveries) {
+            if (delivering) {
+                return;
+            }
+            delivering = true;
+        }
+
+        while (true) {
+            Runnable delivery;
+            synchronized (deliveries) {
+                delivery = deliveries.poll();
+                if (delivery == null) {
+                    delivering = false;
+                    return;
+                }
+            }
+
+            try {
+                delivery.run();
+            } catch (RuntimeException e) {
+                logger.error("Unable to deliver flow event", e);
+            }
+        }
+    }
+
+    /**
+     * A node of the cluster, providing the leader flows of one {@link
+     * community.solace.spring.integration.leader.leader.SolaceLeaderInitiator SolaceLeaderInitiator}.
+     */
+    public class Node implements LeaderStateIndicatorProvider {
+        private final String name;
+        private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        private volatile boolean crashed;
+
+        private Node(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public LeaderStateIndicator create(String roleName, Consumer<Boolean> eventHandler, Consumer<Throwable> onError) {
+            return new SimulatedFlow(this, roleName, eventHandler);
+        }
+
+        /**
+         * Simulates the death of the node: all flows of the node are unbound without notifying the node.
+         * Flows of a crashed node are never bound again, a restarted node is a new node.
+         */
+        public void crash() {
+            SimulatedLeaderCluster.this.crash(this);
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * @return the meter registry of this node, the leader meters of the nodes must not share a registry.
+         */
+        public MeterRegistry getMeterRegistry() {
+            return meterRegistry;
+        }
+
+        public boolean isCrashed() {
+            return crashed;
+        }
+    }
+
+    private class SimulatedFlow implements LeaderStateIndicator {
+        private final Node node;
+        private final String groupName;
+        private final Consumer<Boolean> eventHandler;
+        /**
+         * Incremented on each bind and unbind, guarded by the cluster. Events of an earlier binding are dropped.
+         */
+        private int binding;
+        private volatile boolean active;
+
+        SimulatedFlow(Node node, String groupName, Consumer<Boolean> eventHandler) {
+            this.node = node;
+            this.groupName = groupName;
+            this.eventHandler = eventHandler;
+        }
+
+        @Override
+        public void start(String candidateName) {
+            bind(this);
+        }
+
+        @Override
+        public void stop() {
+            active = false;
+            unbind(this);
+        }
+
+        @Override
+        public boolean isActive() {
+            return active;
+        }
+
+        private void onEvent(int eventBinding, boolean eventActive) {
+            synchronized (SimulatedLeaderCluster.this) {
+                if (eventBinding != binding) {
+                    return;
+                }
+                active = eventActive;
+            }
+            if (eventHandler != null) {
+                eventHandler.accept(eventActive);
+            }
+        }
+    }
+}
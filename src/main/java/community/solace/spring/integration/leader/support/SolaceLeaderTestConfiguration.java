@@ -1,16 +1,19 @@
 package community.solace.spring.integration.leader.support;
 
+import community.solace.spring.integration.leader.SolaceLeaderAutoConfiguration;
 import community.solace.spring.integration.leader.leader.SolaceLeaderConfig;
 import community.solace.spring.integration.leader.queue.LeaderStateIndicatorProvider;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Primary;
+import org.springframework.scheduling.TaskScheduler;
 
 /**
  * Test configuration for Solace Leader Election.
  * Provides a test {@link LeaderStateIndicatorProvider} to allow simulating leadership
  * without a real Solace broker or any mocked JCSMP classes.
+ * Leader events are debounced in the virtual time of the {@link SolaceLeaderTestSupport}.
  */
 @TestConfiguration
 @EnableConfigurationProperties(SolaceLeaderConfig.class)
@@ -21,6 +24,14 @@ public class SolaceLeaderTestConfiguration {
         return new SolaceLeaderTestSupport();
     }
 
+    /**
+     * Not a default candidate, so it is neither used for {@code @Scheduled} methods nor replaces the task scheduler of the application.
+     */
+    @Bean(name = SolaceLeaderAutoConfiguration.LEADER_EVENT_SCHEDULER_BEAN_NAME, defaultCandidate = false)
+    public TaskScheduler solaceLeaderEventScheduler(SolaceLeaderTestSupport testSupport) {
+        return testSupport.getEventScheduler();
+    }
+
     @Bean
     @Primary
     public LeaderStateIndicatorProvider testLeaderStateIndicatorProvider(SolaceLeaderTestSupport testSupport) {
@@ -3,6 +3,7 @@ package community.solace.spring.integration.leader.support;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -13,6 +14,9 @@ import java.util.function.Consumer;
  * Test support utility for simulating leader election in Solace.
  * Provides an API for developers writing tests to dynamically change leadership
  * and define initial leaders.
+ * <p>
+ * Leader events are debounced in virtual time. By default, they are delivered synchronously
+ * when the leadership changes, otherwise by {@link #advanceTime(Duration)} or {@link #flushEvents()}.
  */
 public class SolaceLeaderTestSupport {
 
@@ -20,6 +24,8 @@ public class SolaceLeaderTestSupport {
 
     private final Map<String, Consumer<Boolean>> handlers = new ConcurrentHashMap<>();
     private final List<String> initialLeaders = new CopyOnWriteArrayList<>();
+    private final VirtualTimeTaskScheduler eventScheduler = new VirtualTimeTaskScheduler();
+    private volatile boolean autoFlushEvents = true;
 
     /**
      * Dynamically change leadership for a specific group.
@@ -32,6 +38,7 @@ public class SolaceLeaderTestSupport {
         if (handler != null) {
             logger.info(String.format("Setting leadership for group '%s' to %s", groupName, isLeader));
             handler.accept(isLeader);
+            onLeadershipChanged();
         } else {
             throw new IllegalStateException(String.format("No handler registered for group '%s'. Leadership cannot be set.", groupName));
         }
@@ -49,6 +56,49 @@ public class SolaceLeaderTestSupport {
         }
     }
 
+    /**
+     * Moves the virtual clock of the leader event debouncer forward,
+     * and publishes all leader events becoming due on the calling thread.
+     *
+     * @param duration the time to advance.
+     */
+    public void advanceTime(Duration duration) {
+        eventScheduler.advanceTime(duration);
+    }
+
+    /**
+     * Publishes all pending leader events on the calling thread, regardless of the debounce delay.
+     */
+    public void flushEvents() {
+        eventScheduler.flush();
+    }
+
+    /**
+     * Whether leader events are flushed after each leadership change. Default is true.
+     * Disable it to test the debouncing, with {@link #advanceTime(Duration)}.
+     *
+     * @param autoFlushEvents false to publish leader events only when the time is advanced or the events are flushed.
+     */
+    public void setAutoFlushEvents(boolean autoFlushEvents) {
+        this.autoFlushEvents = autoFlushEvents;
+    }
+
+    /**
+     * @return the virtual time scheduler running the debounced leader events.
+     */
+    public VirtualTimeTaskScheduler getEventScheduler() {
+        return eventScheduler;
+    }
+
+    /**
+     * Internal method to deliver the leader events after the leadership of a group changed.
+     */
+    void onLeadershipChanged() {
+        if (autoFlushEvents) {
+            flushEvents();
+        }
+    }
+
     /**
      * Internal method to register a handler for a group.
      *
@@ -36,6 +36,7 @@ class TestLeaderStateIndicator implements LeaderStateIndicator {
             if (eventHandler != null) {
                 eventHandler.accept(true);
             }
+            testSupport.onLeadershipChanged();
         }
     }
 
@@ -0,0 +1,197 @@
+package community.solace.spring.integration.leader.support;
+
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.Trigger;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.PriorityQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A {@link TaskScheduler} running on a virtual clock.
+ * Tasks are never run in the background, but by the thread calling {@link #advanceTime(Duration)} or {@link #flush()},
+ * in the order they are due. Only one-shot tasks are supported.
+ */
+public class VirtualTimeTaskScheduler implements TaskScheduler {
+
+    /**
+     * Bounds {@link #flush()}, a task rescheduling itself would never let it end.
+     */
+    public static final int MAX_FLUSHED_TASKS = 10_000;
+
+    private final PriorityQueue<VirtualTask> tasks = new PriorityQueue<>();
+    private final VirtualClock clock;
+    private long sequence;
+
+    public VirtualTimeTaskScheduler() {
+        this(Instant.EPOCH);
+    }
+
+    public VirtualTimeTaskScheduler(Instant start) {
+        this.clock = new VirtualClock(start);
+    }
+
+    @Override
+    public Clock getClock() {
+        return clock;
+    }
+
+    @Override
+    public synchronized ScheduledFuture<?> schedule(Runnable task, Instant startTime) {
+        VirtualTask virtualTask = new VirtualTask(task, startTime, sequence++);
+        tasks.add(virtualTask);
+        return virtualTask;
+    }
+
+    /**
+     * Moves the clock forward and runs all tasks becoming due, on the calling thread.
+     */
+    public void advanceTime(Duration duration) {
+        Instant target = clock.instant().plus(duration);
+        runUntil(target);
+        clock.advanceTo(target);
+    }
+
+    /**
+     * Runs all scheduled tasks, including the ones scheduled by the tasks run, e.g. a batch following an event.
+     * The clock is moved forward to the time the last task was due.
+     *
+     * @throws IllegalStateException if there are still tasks after running {@value #MAX_FLUSHED_TASKS},
+     *                               e.g. a task rescheduling itself. Use {@link #advanceTime(Duration)} for such tasks.
+     */
+    public void flush() {
+        int count = 0;
+        VirtualTask task;
+        while (count < MAX_FLUSHED_TASKS && (task = pollDue(Instant.MAX)) != null) {
+            clock.advanceTo(task.startTime);
+            task.run();
+            count++;
+        }
+
+        if (count == MAX_FLUSHED_TASKS && getPendingCount() > 0) {
+            throw new IllegalStateException("Still " + getPendingCount() + " scheduled tasks after flushing " + MAX_FLUSHED_TASKS
+                    + " tasks, probably a task rescheduling itself. Advance the time instead of flushing.");
+        }
+    }
+
+    /**
+     * @return the number of scheduled tasks, which were neither run nor cancelled.
+     */
+    public synchronized int getPendingCount() {
+        return (int) tasks.stream().filter(task -> !task.isCancelled()).count();
+    }
+
+    private void runUntil(Instant target) {
+        VirtualTask task;
+        while ((task = pollDue(target)) != null) {
+            clock.advanceTo(task.startTime);
+            task.run();
+        }
+    }
+
+    private synchronized VirtualTask pollDue(Instant target) {
+        VirtualTask next = tasks.peek();
+        if (next == null || next.startTime.isAfter(target)) {
+            return null;
+        }
+        return tasks.poll();
+    }
+
+    @Override
+    public ScheduledFuture<?> schedule(Runnable task, Trigger trigger) {
+        throw new UnsupportedOperationException("Triggers are not supported in virtual time");
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleAtFixedRate(Runnable task, Instant startTime, Duration period) {
+        throw new UnsupportedOperationException("Periodic tasks are not supported in virtual time");
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleAtFixedRate(Runnable task, Duration period) {
+        throw new UnsupportedOperationException("Periodic tasks are not supported in virtual time");
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleWithFixedDelay(Runnable task, Instant startTime, Duration delay) {
+        throw new UnsupportedOperationException("Periodic tasks are not supported in virtual time");
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleWithFixedDelay(Runnable task, Duration delay) {
+        throw new UnsupportedOperationException("Periodic tasks are not supported in virtual time");
+    }
+
+    private class VirtualTask extends FutureTask<Object> implements ScheduledFuture<Object> {
+        private final Instant startTime;
+        private final long sequence;
+
+        VirtualTask(Runnable task, Instant startTime, long sequence) {
+            super(task, null);
+            this.startTime = startTime;
+            this.sequence = sequence;
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(Duration.between(clock.instant(), startTime));
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            if (other instanceof VirtualTask task) {
+                int result = startTime.compareTo(task.startTime);
+                return result != 0 ? result : Long.compare(sequence, task.sequence);
+            }
+            return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+        }
+
+        @Override
+        protected void done() {
+            if (isCancelled()) {
+                return;
+            }
+            try {
+                get();
+            } catch (Exception e) {
+                throw new IllegalStateException("Scheduled task failed", e.getCause());
+            }
+        }
+    }
+
+    private static class VirtualClock extends Clock {
+        private volatile Instant now;
+
+        VirtualClock(Instant start) {
+            this.now = start;
+        }
+
+        synchronized void advanceTo(Instant instant) {
+            if (instant.isAfter(now)) {
+                now = instant;
+            }
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException("The virtual clock is always UTC");
+        }
+    }
+}
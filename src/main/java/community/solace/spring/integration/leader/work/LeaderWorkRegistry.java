@@ -0,0 +1,120 @@
+package community.solace.spring.integration.leader.work;
+
+import com.solacesystems.jcsmp.BytesMessage;
+import com.solacesystems.jcsmp.BytesXMLMessage;
+import com.solacesystems.jcsmp.JCSMPException;
+import com.solacesystems.jcsmp.TextMessage;
+import com.solacesystems.jcsmp.XMLMessageListener;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.integration.support.MessageBuilder;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageDeliveryException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Dispatches the messages published to the leader queue of a group to the work handler of that group.
+ * <p>
+ * The exclusive leader queue delivers its messages only to the flow of the leader, in order.
+ * Handlers run on the JCSMP context thread, one message at a time. A message is acknowledged when its handler returned.
+ * <p>
+ * If the handler failed, or no handler is registered, the message stays unacknowledged and the leader stops handling
+ * the messages of the group: the messages delivered after it are left unacknowledged as well. The leader yields and
+ * binds its flow again, so all unacknowledged messages are redelivered in order, the failed one first, on the next
+ * leader or on this node, if no other candidate is waiting. A message that always fails is redelivered until the
+ * maximum redelivery count of the queue is reached.
+ */
+public class LeaderWorkRegistry {
+
+    private static final Log logger = LogFactory.getLog(LeaderWorkRegistry.class);
+
+    public static final String ROLE_HEADER = "solace_leader_role";
+    public static final String CORRELATION_ID_HEADER = "solace_correlationId";
+    public static final String APPLICATION_MESSAGE_ID_HEADER = "solace_applicationMessageId";
+    public static final String REDELIVERED_HEADER = "solace_redelivered";
+
+    private final Map<String, Consumer<Message<byte[]>>> handlers = new ConcurrentHashMap<>();
+
+    /**
+     * Registers the handler of the work messages of a group, replacing a handler registered before.
+     */
+    public void register(String role, Consumer<Message<byte[]>> handler) {
+        handlers.put(role, handler);
+    }
+
+    /**
+     * Sends the work messages of a group to a Spring Integration channel.
+     * The message is acknowledged when the channel accepted it, so use a direct channel to acknowledge after handling.
+     */
+    public void registerChannel(String role, MessageChannel channel) {
+        register(role, message -> {
+            if (!channel.send(message)) {
+                throw new MessageDeliveryException(message, "Channel did not accept the work message of group " + role);
+            }
+        });
+    }
+
+    public void unregister(String role) {
+        handlers.remove(role);
+    }
+
+    /**
+     * @return the listener of the leader flow of the group.
+     */
+    public XMLMessageListener listenerFor(String role) {
+        return new XMLMessageListener() {
+            @Override
+            public void onReceive(BytesXMLMessage message) {
+                dispatch(role, message);
+            }
+
+            @Override
+            public void onException(JCSMPException exception) {
+                logger.error("Work flow of group " + role + " failed", exception);
+            }
+        };
+    }
+
+    /**
+     * @throws RuntimeException if the handler failed or is missing, the message was not acknowledged.
+     */
+    private void dispatch(String role, BytesXMLMessage xmlMessage) {
+        Consumer<Message<byte[]>> handler = handlers.get(role);
+        if (handler == null) {
+            throw new IllegalStateException("No work handler registered for group " + role);
+        }
+
+        handler.accept(toMessage(role, xmlMessage));
+        xmlMessage.ackMessage();
+    }
+
+    private static Message<byte[]> toMessage(String role, BytesXMLMessage xmlMessage) {
+        MessageBuilder<byte[]> builder = MessageBuilder.withPayload(payload(xmlMessage))
+                .setHeader(ROLE_HEADER, role)
+                .setHeader(REDELIVERED_HEADER, xmlMessage.getRedelivered());
+        if (xmlMessage.getCorrelationId() != null) {
+            builder.setHeader(CORRELATION_ID_HEADER, xmlMessage.getCorrelationId());
+        }
+        if (xmlMessage.getApplicationMessageId() != null) {
+            builder.setHeader(APPLICATION_MESSAGE_ID_HEADER, xmlMessage.getApplicationMessageId());
+        }
+        return builder.build();
+    }
+
+    private static byte[] payload(BytesXMLMessage xmlMessage) {
+        if (xmlMessage instanceof BytesMessage bytesMessage) {
+            return bytesMessage.getData() == null ? new byte[0] : bytesMessage.getData();
+        }
+        if (xmlMessage instanceof TextMessage textMessage) {
+            return textMessage.getText() == null ? new byte[0] : textMessage.getText().getBytes(StandardCharsets.UTF_8);
+        }
+        byte[] bytes = new byte[xmlMessage.getAttachmentContentLength()];
+        xmlMessage.readAttachmentBytes(bytes);
+        return bytes;
+    }
+}
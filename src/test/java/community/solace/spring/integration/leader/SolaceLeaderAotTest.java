@@ -0,0 +1,78 @@
+package community.solace.spring.integration.leader;
+
+import community.solace.spring.integration.leader.aspect.LeaderAware;
+import community.solace.spring.integration.leader.forward.LeaderInvocation;
+import community.solace.spring.integration.leader.leader.SolaceLeaderConfig;
+import community.solace.spring.integration.leader.support.SolaceLeaderTestConfiguration;
+import org.junit.Assert;
+import org.junit.Test;
+import org.springframework.aot.generate.ClassNameGenerator;
+import org.springframework.aot.generate.DefaultGenerationContext;
+import org.springframework.aot.generate.GeneratedFiles;
+import org.springframework.aot.generate.InMemoryGeneratedFiles;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.context.annotation.AnnotationConfigUtils;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.aot.ApplicationContextAotGenerator;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.javapoet.ClassName;
+
+import java.io.IOException;
+import java.util.Set;
+
+/**
+ * Runs the Spring AOT processing, as the spring-boot-maven-plugin does with the process-aot goal.
+ */
+public class SolaceLeaderAotTest {
+
+    @Test
+    public void aotProcessingGeneratesBeanDefinitionsAndHints() throws IOException {
+        InMemoryGeneratedFiles generatedFiles = new InMemoryGeneratedFiles();
+        DefaultGenerationContext generationContext = new DefaultGenerationContext(
+                new ClassNameGenerator(ClassName.get(TestConfig.class)), generatedFiles);
+
+        try (GenericApplicationContext applicationContext = new GenericApplicationContext()) {
+            AnnotationConfigUtils.registerAnnotationConfigProcessors(applicationContext);
+            applicationContext.registerBean(TestConfig.class);
+            new ApplicationContextAotGenerator().processAheadOfTime(applicationContext, generationContext);
+        }
+        generationContext.writeGeneratedContent();
+
+        Set<String> sources = generatedFiles.getGeneratedFiles(GeneratedFiles.Kind.SOURCE).keySet();
+        String autoConfigurationSource = sources.stream()
+                .filter(path -> path.endsWith("SolaceLeaderAutoConfiguration__BeanDefinitions.java"))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("No bean definitions generated for SolaceLeaderAutoConfiguration: " + sources));
+        String autoConfigurationDefinitions = generatedFiles.getGeneratedFileContent(GeneratedFiles.Kind.SOURCE, autoConfigurationSource);
+        Assert.assertTrue(autoConfigurationDefinitions.contains("getSolaceLeaderInitiatorBeanDefinition"));
+        Assert.assertTrue(autoConfigurationDefinitions.contains("getLeaderAwareAdvisorBeanDefinition"));
+
+        RuntimeHints hints = generationContext.getRuntimeHints();
+        Assert.assertTrue("@ImportRuntimeHints", RuntimeHintsPredicates.reflection().onType(SolaceBinderClientInfoProvider.class).test(hints));
+        Assert.assertTrue(RuntimeHintsPredicates.serialization().onType(LeaderInvocation.class).test(hints));
+        Assert.assertTrue("Property binding", RuntimeHintsPredicates.reflection().onType(SolaceLeaderConfig.class).test(hints));
+        Assert.assertTrue("@Reflective on @LeaderAware",
+                RuntimeHintsPredicates.reflection().onMethodInvocation(LeaderService.class, "work").test(hints));
+    }
+
+    public static class LeaderService {
+        @LeaderAware("aot-group")
+        public void work() {
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ImportAutoConfiguration(SolaceLeaderAutoConfiguration.class)
+    @Import(SolaceLeaderTestConfiguration.class)
+    static class TestConfig {
+
+        @Bean
+        public LeaderService leaderService() {
+            return new LeaderService();
+        }
+    }
+}
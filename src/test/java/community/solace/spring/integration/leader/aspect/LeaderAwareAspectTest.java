@@ -1,13 +1,19 @@
 package community.solace.spring.integration.leader.aspect;
 
+import community.solace.spring.integration.leader.leader.LeaderState;
+import community.solace.spring.integration.leader.leader.SolaceContext;
 import community.solace.spring.integration.leader.leader.SolaceLeaderInitiator;
+import org.aopalliance.intercept.MethodInvocation;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 
+import org.springframework.aop.ProxyMethodInvocation;
+import org.springframework.aop.framework.ProxyFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.EnableAspectJAutoProxy;
@@ -15,8 +21,14 @@ import org.springframework.integration.leader.Context;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.context.junit4.SpringRunner;
 
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(SpringRunner.class)
@@ -31,6 +43,12 @@ public class LeaderAwareAspectTest {
     @Autowired
     private TestBean testBean;
 
+    @Autowired
+    private LeaderInvocationBuffer leaderInvocationBuffer;
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
     @Before
     public void setUp() {
         this.testBean.reset();
@@ -64,6 +82,113 @@ public class LeaderAwareAspectTest {
         Assert.assertFalse(testBean.isInvoked());
     }
 
+    @Test
+    public void testDeferredMethodIsInvokedOnGrant() throws Exception {
+        // given
+        Context context = mock(Context.class);
+        when(context.isLeader()).thenReturn(false);
+        when(solaceLeaderInitiator.getContext(anyString())).thenReturn(context);
+
+        // when
+        CompletableFuture<String> result = testBean.deferredMethod();
+
+        // then
+        Assert.assertFalse(testBean.isInvoked());
+        Assert.assertFalse(result.isDone());
+
+        SolaceContext solaceContext = mock(SolaceContext.class);
+        when(solaceContext.getRole()).thenReturn(ROLE_NAME);
+        when(solaceContext.isLeader()).thenReturn(true);
+        leaderInvocationBuffer.onStateChanged(solaceContext, LeaderState.STANDBY, LeaderState.LEADER);
+
+        Assert.assertEquals("done", result.get(5, TimeUnit.SECONDS));
+        Assert.assertTrue(testBean.isInvoked());
+    }
+
+    @Test
+    public void testAnnotatedInterfaceMethodIsNotInvokedWhenNotLeader() {
+        // given
+        Context context = mock(Context.class);
+        when(context.isLeader()).thenReturn(false);
+        when(solaceLeaderInitiator.getContext(anyString())).thenReturn(context);
+        TestService target = new TestService();
+        LeaderAwareAdvisor advisor = new LeaderAwareAdvisor();
+        advisor.setApplicationContext(applicationContext);
+        ProxyFactory proxyFactory = new ProxyFactory(target);
+        proxyFactory.addAdvisor(advisor);
+
+        // when
+        ((TestApi) proxyFactory.getProxy()).testMethod();
+
+        // then
+        Assert.assertFalse(target.invoked);
+    }
+
+    @Test
+    public void testInvocationIsNotClonedWhenIsLeader() throws Throwable {
+        // given
+        Context context = mock(Context.class);
+        when(context.isLeader()).thenReturn(true);
+        when(solaceLeaderInitiator.getContext(anyString())).thenReturn(context);
+        ProxyMethodInvocation invocation = mockInvocation("deferredMethod");
+
+        // when
+        interceptor().invoke(invocation);
+
+        // then
+        verify(invocation).proceed();
+        verify(invocation, never()).invocableClone();
+    }
+
+    @Test
+    public void testDeferredInvocationIsClonedWhenDeferred() throws Throwable {
+        // given
+        Context context = mock(Context.class);
+        when(context.isLeader()).thenReturn(false);
+        when(solaceLeaderInitiator.getContext(anyString())).thenReturn(context);
+        ProxyMethodInvocation invocation = mockInvocation("deferredMethod");
+        MethodInvocation clone = mock(MethodInvocation.class);
+        when(invocation.invocableClone()).thenReturn(clone);
+
+        // when
+        interceptor().invoke(invocation);
+
+        // then
+        verify(invocation).invocableClone();
+        verify(invocation, never()).proceed();
+        verify(clone, never()).proceed();
+    }
+
+    private LeaderAwareMethodInterceptor interceptor() {
+        LeaderAwareMethodInterceptor interceptor = new LeaderAwareMethodInterceptor();
+        interceptor.setApplicationContext(applicationContext);
+        return interceptor;
+    }
+
+    private ProxyMethodInvocation mockInvocation(String methodName) throws NoSuchMethodException {
+        ProxyMethodInvocation invocation = mock(ProxyMethodInvocation.class);
+        when(invocation.getMethod()).thenReturn(TestBean.class.getDeclaredMethod(methodName));
+        when(invocation.getThis()).thenReturn(new TestBean());
+        when(invocation.getArguments()).thenReturn(new Object[0]);
+        return invocation;
+    }
+
+    interface TestApi {
+
+        @LeaderAware(value = ROLE_NAME)
+        void testMethod();
+    }
+
+    static class TestService implements TestApi {
+
+        private boolean invoked = false;
+
+        @Override
+        public void testMethod() {
+            this.invoked = true;
+        }
+    }
+
     static class TestBean {
 
         private boolean invoked = false;
@@ -73,6 +198,12 @@ public class LeaderAwareAspectTest {
             this.invoked = true;
         }
 
+        @LeaderAware(value = ROLE_NAME, onFollower = FollowerMode.DEFER)
+        CompletableFuture<String> deferredMethod() {
+            this.invoked = true;
+            return CompletableFuture.completedFuture("done");
+        }
+
         void reset() {
             this.invoked = false;
         }
@@ -91,6 +222,11 @@ public class LeaderAwareAspectTest {
             return new LeaderAwareAspect();
         }
 
+        @Bean
+        public LeaderInvocationBuffer leaderInvocationBuffer() {
+            return new LeaderInvocationBuffer(10, Duration.ofSeconds(30), DeferOverflowPolicy.REJECT, Runnable::run);
+        }
+
         @Bean
         public TestBean testBean() {
             return new TestBean();
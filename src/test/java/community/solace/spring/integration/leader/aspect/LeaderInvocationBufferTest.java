@@ -0,0 +1,113 @@
+package community.solace.spring.integration.leader.aspect;
+
+import community.solace.spring.integration.leader.leader.LeaderState;
+import community.solace.spring.integration.leader.leader.SolaceContext;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class LeaderInvocationBufferTest {
+
+    private static final String ROLE = "orders";
+
+    private final SolaceContext context = mock(SolaceContext.class);
+    private final List<Integer> invoked = new CopyOnWriteArrayList<>();
+
+    {
+        when(context.getRole()).thenReturn(ROLE);
+    }
+
+    @Test
+    public void invocationsRunInOrderOnGrant() throws Exception {
+        LeaderInvocationBuffer buffer = createBuffer(10, DeferOverflowPolicy.REJECT);
+        CompletableFuture<Object> first = buffer.defer(ROLE, () -> invoke(1));
+        CompletableFuture<Object> second = buffer.defer(ROLE, () -> CompletableFuture.completedFuture(invoke(2)));
+        Assert.assertTrue(invoked.isEmpty());
+        Assert.assertEquals(2, buffer.getBufferedCount(ROLE));
+
+        grant(buffer);
+
+        Assert.assertEquals(List.of(1, 2), invoked);
+        Assert.assertEquals(1, first.get());
+        Assert.assertEquals("The result of a returned future is unwrapped", 2, second.get());
+        Assert.assertEquals(0, buffer.getBufferedCount(ROLE));
+    }
+
+    @Test
+    public void invocationRunsIfDeferredWhileLeader() throws Exception {
+        LeaderInvocationBuffer buffer = createBuffer(10, DeferOverflowPolicy.REJECT);
+        grant(buffer);
+
+        Assert.assertEquals(1, buffer.defer(ROLE, () -> invoke(1)).get());
+    }
+
+    @Test(expected = RejectedExecutionException.class)
+    public void fullBufferRejects() {
+        LeaderInvocationBuffer buffer = createBuffer(1, DeferOverflowPolicy.REJECT);
+        buffer.defer(ROLE, () -> invoke(1));
+        buffer.defer(ROLE, () -> invoke(2));
+    }
+
+    @Test
+    public void fullBufferDropsOldest() throws Exception {
+        LeaderInvocationBuffer buffer = createBuffer(1, DeferOverflowPolicy.DROP_OLDEST);
+        CompletableFuture<Object> dropped = buffer.defer(ROLE, () -> invoke(1));
+        CompletableFuture<Object> kept = buffer.defer(ROLE, () -> invoke(2));
+
+        grant(buffer);
+
+        Assert.assertEquals(List.of(2), invoked);
+        Assert.assertEquals(2, kept.get());
+        assertFailedWith(dropped, CancellationException.class);
+    }
+
+    @Test
+    public void timedOutInvocationsAreDiscarded() throws Exception {
+        LeaderInvocationBuffer buffer = new LeaderInvocationBuffer(10, Duration.ofMillis(50), DeferOverflowPolicy.REJECT, Runnable::run);
+        CompletableFuture<Object> expired = buffer.defer(ROLE, () -> invoke(1));
+        assertFailedWith(expired, TimeoutException.class);
+
+        grant(buffer);
+
+        Assert.assertTrue(invoked.isEmpty());
+    }
+
+    private static LeaderInvocationBuffer createBuffer(int capacity, DeferOverflowPolicy overflowPolicy) {
+        return new LeaderInvocationBuffer(capacity, Duration.ofSeconds(30), overflowPolicy, Runnable::run);
+    }
+
+    private void grant(LeaderInvocationBuffer buffer) {
+        when(context.isLeader()).thenReturn(true);
+        buffer.onStateChanged(context, LeaderState.STANDBY, LeaderState.LEADER);
+    }
+
+    private Object invoke(int value) {
+        invoked.add(value);
+        return value;
+    }
+
+    private static void assertFailedWith(CompletableFuture<Object> future, Class<? extends Throwable> expected) throws InterruptedException {
+        try {
+            future.get(5, TimeUnit.SECONDS);
+            Assert.fail(expected.getSimpleName() + " expected");
+        } catch (CancellationException e) {
+            Assert.assertEquals(expected, CancellationException.class);
+        } catch (ExecutionException e) {
+            Assert.assertEquals(expected, e.getCause().getClass());
+        } catch (TimeoutException e) {
+            Assert.fail("Not completed");
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package community.solace.spring.integration.leader.discovery;
+
+import community.solace.spring.integration.leader.leader.LeaderState;
+import community.solace.spring.integration.leader.leader.SolaceContext;
+import community.solace.spring.integration.leader.leader.SolaceLeaderInitiator;
+import community.solace.spring.integration.leader.support.VirtualTimeTaskScheduler;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class LeaderDiscoveryTest {
+
+    private static final String ROLE = "orders";
+
+    private final InMemoryTransport transport = new InMemoryTransport();
+    private final VirtualTimeTaskScheduler scheduler = new VirtualTimeTaskScheduler();
+    private final SolaceContext context = mock(SolaceContext.class);
+
+    {
+        when(context.getRole()).thenReturn(ROLE);
+    }
+
+    @Test
+    public void leaderIsAnnouncedToAllNodes() {
+        LeaderDiscovery nodeA = startNode("a");
+        LeaderDiscovery nodeB = startNode("b");
+
+        nodeA.onStateChanged(context, LeaderState.STANDBY, LeaderState.LEADER);
+
+        LeaderInfo leader = nodeB.getLeaderInfo(ROLE).orElseThrow();
+        Assert.assertEquals("a", leader.instanceId());
+        Assert.assertEquals(Map.of("endpoint", "http://a"), leader.metadata());
+        Assert.assertEquals(leader, nodeA.getLeaderInfo(ROLE).orElseThrow());
+    }
+
+    @Test
+    public void startingNodeQueriesTheCurrentLeaders() {
+        LeaderDiscovery nodeA = startNode("a");
+        nodeA.onStateChanged(context, LeaderState.STANDBY, LeaderState.LEADER);
+
+        LeaderDiscovery nodeB = startNode("b");
+
+        Assert.assertEquals("a", nodeB.getLeaderInfo(ROLE).orElseThrow().instanceId());
+    }
+
+    @Test
+    public void failoverReplacesTheLeader() {
+        LeaderDiscovery nodeA = startNode("a");
+        LeaderDiscovery nodeB = startNode("b");
+        nodeA.onStateChanged(context, LeaderState.STANDBY, LeaderState.LEADER);
+        long epochOfA = nodeB.getLeaderInfo(ROLE).orElseThrow().epoch();
+
+        nodeA.onStateChanged(context, LeaderState.LEADER, LeaderState.YIELDING);
+        Assert.assertTrue(nodeB.getLeaderInfo(ROLE).isEmpty());
+
+        nodeB.onStateChanged(context, LeaderState.STANDBY, LeaderState.LEADER);
+        LeaderInfo leader = nodeA.getLeaderInfo(ROLE).orElseThrow();
+        Assert.assertEquals("b", leader.instanceId());
+        Assert.assertTrue(leader.epoch() > epochOfA);
+    }
+
+    @Test
+    public void outdatedAnnouncementsAreIgnored() {
+        LeaderDiscovery node = startNode("a");
+        node.onAnnouncement(new LeaderAnnouncement(LeaderAnnouncement.Type.ANNOUNCE, ROLE, "new", 200, Map.of()));
+
+        node.onAnnouncement(new LeaderAnnouncement(LeaderAnnouncement.Type.ANNOUNCE, ROLE, "old", 100, Map.of()));
+        node.onAnnouncement(new LeaderAnnouncement(LeaderAnnouncement.Type.RESIGN, ROLE, "old", 100, Map.of()));
+
+        Assert.assertEquals("new", node.getLeaderInfo(ROLE).orElseThrow().instanceId());
+    }
+
+    @Test
+    public void crashedLeaderExpires() {
+        LeaderDiscovery nodeA = startNode("a");
+        LeaderDiscovery nodeB = startNode("b");
+        nodeA.onStateChanged(context, LeaderState.STANDBY, LeaderState.LEADER);
+
+        scheduler.advanceTime(Duration.ofSeconds(60));
+        Assert.assertEquals("Announced again while alive", "a", nodeB.getLeaderInfo(ROLE).orElseThrow().instanceId());
+
+        nodeA.stop();
+        scheduler.advanceTime(Duration.ofSeconds(31));
+
+        Assert.assertTrue(nodeB.getLeaderInfo(ROLE).isEmpty());
+        Assert.assertTrue(nodeB.getLeaders().isEmpty());
+    }
+
+    @Test
+    public void encodeDecode() {
+        LeaderAnnouncement announcement = new LeaderAnnouncement(LeaderAnnouncement.Type.ANNOUNCE, ROLE, "a", 42,
+                Map.of("endpoint", "http://a:8080/path?x=1"));
+
+        Assert.assertEquals(announcement, LeaderAnnouncement.decode(announcement.encode()));
+    }
+
+    private LeaderDiscovery startNode(String instanceId) {
+        LeaderDiscovery discovery = new LeaderDiscovery(mock(SolaceLeaderInitiator.class), transport, instanceId,
+                Map.of("endpoint", "http://" + instanceId), Runnable::run, Duration.ofSeconds(30), scheduler);
+        discovery.start();
+        return discovery;
+    }
+
+    /**
+     * Delivers the announcements synchronously to all nodes.
+     */
+    private static class InMemoryTransport implements LeaderAnnouncementTransport {
+        private final List<Consumer<LeaderAnnouncement>> listeners = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void start(Consumer<LeaderAnnouncement> listener) {
+            listeners.add(listener);
+        }
+
+        @Override
+        public void publish(LeaderAnnouncement announcement) {
+            listeners.forEach(listener -> listener.accept(announcement));
+        }
+
+        @Override
+        public void stop() {
+        }
+    }
+}
@@ -0,0 +1,225 @@
+package community.solace.spring.integration.leader.forward;
+
+import community.solace.spring.integration.leader.aspect.FollowerMode;
+import community.solace.spring.integration.leader.aspect.LeaderAware;
+import community.solace.spring.integration.leader.leader.LeaderState;
+import community.solace.spring.integration.leader.leader.SolaceContext;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.util.LinkedMultiValueMap;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class LeaderInvocationForwarderTest {
+
+    private static final String ROLE = "orders";
+    private static final String FILTER = "maxdepth=20;java.base/*;community.solace.spring.integration.leader.forward.*;!*";
+
+    private final InMemoryTransport transport = new InMemoryTransport();
+    private final Calculator calculator = new Calculator();
+    private final LeaderInvocationForwarder leader = createNode();
+    private final LeaderInvocationForwarder follower = createNode();
+    private final ExecutorService callers = Executors.newFixedThreadPool(5);
+
+    @After
+    public void tearDown() {
+        callers.shutdownNow();
+        leader.destroy();
+        follower.destroy();
+    }
+
+    @Test
+    public void followerReturnsTheResultOfTheLeader() throws Throwable {
+        becomeLeader(leader);
+
+        Assert.assertEquals(5, follower.forward(ROLE, calculator, method("add"), new Object[]{2, 3}, null));
+        Assert.assertEquals(1, calculator.invocations.size());
+    }
+
+    @Test
+    public void exceptionOfTheLeaderIsRethrown() throws Throwable {
+        becomeLeader(leader);
+
+        try {
+            follower.forward(ROLE, calculator, method("divide"), new Object[]{1, 0}, null);
+            Assert.fail("ArithmeticException expected");
+        } catch (ArithmeticException e) {
+            Assert.assertEquals("/ by zero", e.getMessage());
+        }
+    }
+
+    @Test
+    public void concurrentInvocationsAreBatched() throws Exception {
+        becomeLeader(leader);
+        transport.hold = new CountDownLatch(1);
+
+        Future<Object> first = callers.submit(() -> forward(0));
+        awaitRequests(1);
+        List<Future<Object>> others = List.of(
+                callers.submit(() -> forward(1)),
+                callers.submit(() -> forward(2)),
+                callers.submit(() -> forward(3)),
+                callers.submit(() -> forward(4)));
+        Thread.sleep(100);
+        transport.hold.countDown();
+
+        Assert.assertEquals(0, first.get(5, TimeUnit.SECONDS));
+        for (int i = 0; i < others.size(); i++) {
+            Assert.assertEquals(i + 1, others.get(i).get(5, TimeUnit.SECONDS));
+        }
+        Assert.assertEquals("The queued invocations are sent in one request", 2, transport.requests.size());
+    }
+
+    @Test(expected = LeaderForwardingException.class)
+    public void followerTimesOutWithoutLeader() throws Throwable {
+        follower.forward(ROLE, calculator, method("add"), new Object[]{2, 3}, Duration.ofMillis(100));
+    }
+
+    @Test
+    public void leaderRejectsArgumentsNotAllowedByTheFilter() throws Throwable {
+        becomeLeader(leader);
+
+        try {
+            follower.forward(ROLE, calculator, method("describe"), new Object[]{new LinkedMultiValueMap<>()}, null);
+            Assert.fail("LeaderForwardingException expected");
+        } catch (LeaderForwardingException e) {
+            Assert.assertTrue(e.getMessage(), e.getMessage().contains("deserialization-filter"));
+        }
+        Assert.assertTrue(calculator.invocations.isEmpty());
+    }
+
+    @Test
+    public void leaderRejectsMethodsNotForwardedForTheGroup() throws Throwable {
+        becomeLeader(leader);
+
+        for (String name : new String[]{"reset", "audit"}) {
+            try {
+                follower.forward(ROLE, calculator, method(name), new Object[0], null);
+                Assert.fail("LeaderForwardingException expected for " + name);
+            } catch (LeaderForwardingException e) {
+                Assert.assertTrue(e.getMessage(), e.getMessage().contains("Not a @LeaderAware(onFollower = FORWARD) method"));
+            }
+        }
+        Assert.assertTrue(calculator.invocations.isEmpty());
+    }
+
+    private Object forward(int value) throws Exception {
+        try {
+            return follower.forward(ROLE, calculator, method("add"), new Object[]{value, 0}, null);
+        } catch (Exception e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new IllegalStateException(t);
+        }
+    }
+
+    private void awaitRequests(int count) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (transport.requests.size() < count && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    private void becomeLeader(LeaderInvocationForwarder node) {
+        SolaceContext context = mock(SolaceContext.class);
+        when(context.getRole()).thenReturn(ROLE);
+        node.onStateChanged(context, LeaderState.STANDBY, LeaderState.LEADER);
+    }
+
+    private LeaderInvocationForwarder createNode() {
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerSingleton("calculator", calculator);
+        LeaderInvocationForwarder forwarder = new LeaderInvocationForwarder(transport, beanFactory, FILTER, Duration.ofSeconds(5), 100);
+        forwarder.afterSingletonsInstantiated();
+        return forwarder;
+    }
+
+    private static Method method(String name) {
+        for (Method method : Calculator.class.getMethods()) {
+            if (method.getName().equals(name)) {
+                return method;
+            }
+        }
+        throw new IllegalArgumentException(name);
+    }
+
+    public static class Calculator {
+        final List<String> invocations = new CopyOnWriteArrayList<>();
+
+        @LeaderAware(value = ROLE, onFollower = FollowerMode.FORWARD)
+        public int add(int a, int b) {
+            invocations.add("add");
+            return a + b;
+        }
+
+        @LeaderAware(value = ROLE, onFollower = FollowerMode.FORWARD)
+        public int divide(int a, int b) {
+            invocations.add("divide");
+            return a / b;
+        }
+
+        @LeaderAware(value = ROLE, onFollower = FollowerMode.FORWARD)
+        public String describe(Object value) {
+            invocations.add("describe");
+            return String.valueOf(value);
+        }
+
+        public void reset() {
+            invocations.add("reset");
+        }
+
+        @LeaderAware(value = "billing", onFollower = FollowerMode.FORWARD)
+        public void audit() {
+            invocations.add("audit");
+        }
+    }
+
+    private static class InMemoryTransport implements LeaderInvocationTransport {
+        private final Map<String, Function<byte[], CompletableFuture<byte[]>>> handlers = new ConcurrentHashMap<>();
+        private final List<byte[]> requests = new CopyOnWriteArrayList<>();
+        private volatile CountDownLatch hold = new CountDownLatch(0);
+
+        @Override
+        public CompletableFuture<byte[]> request(String role, byte[] payload, Duration timeout) {
+            requests.add(payload);
+            Function<byte[], CompletableFuture<byte[]>> handler = handlers.get(role);
+            if (handler == null) {
+                return new CompletableFuture<byte[]>().orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS);
+            }
+            return CompletableFuture.runAsync(() -> {
+                try {
+                    hold.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }).thenCompose(v -> handler.apply(payload));
+        }
+
+        @Override
+        public void serve(String role, Function<byte[], CompletableFuture<byte[]>> handler) {
+            handlers.put(role, handler);
+        }
+
+        @Override
+        public void stopServing(String role) {
+            handlers.remove(role);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package community.solace.spring.integration.leader.journal;
+
+import community.solace.spring.integration.leader.leader.LeaderState;
+import community.solace.spring.integration.leader.leader.SolaceContext;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class LeaderTransitionJournalTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void transitionsAreReadBack() throws Exception {
+        Path directory = folder.getRoot().toPath();
+        try (LeaderTransitionJournal journal = new LeaderTransitionJournal(directory, "node-a", 4096, 2, clockAt(1000))) {
+            SolaceContext billing = context("billing");
+            journal.onStateChanged(billing, LeaderState.NOT_JOINED, LeaderState.JOINING);
+            journal.onStateChanged(billing, LeaderState.JOINING, LeaderState.STANDBY);
+            journal.onStateChanged(billing, LeaderState.STANDBY, LeaderState.LEADER);
+            journal.onStateChanged(billing, LeaderState.LEADER, LeaderState.YIELDING);
+            journal.onStateChanged(billing, LeaderState.YIELDING, LeaderState.LEADER);
+        }
+
+        List<LeaderJournalEntry> entries = LeaderJournalReader.merge(List.of(directory));
+
+        assertThat(entries, hasSize(5));
+        LeaderJournalEntry last = entries.get(4);
+        assertThat(last.node(), is("node-a"));
+        assertThat(last.role(), is("billing"));
+        assertThat(last.timestamp(), is(Instant.ofEpochMilli(1000)));
+        assertThat(last.from(), is(LeaderState.YIELDING));
+        assertThat(last.to(), is(LeaderState.LEADER));
+        assertThat("Became the leader twice", last.epoch(), is(2L));
+        assertThat("The flow was bound again after yielding", last.flow(), is(2L));
+    }
+
+    @Test
+    public void rotatesSegmentsAndKeepsTheRoleTable() throws Exception {
+        Path directory = folder.getRoot().toPath();
+        try (LeaderTransitionJournal journal = new LeaderTransitionJournal(directory, "node-a", 1024, 2, clockAt(1000))) {
+            SolaceContext billing = context("billing");
+            for (int i = 0; i < 40; i++) {
+                journal.onStateChanged(billing, LeaderState.STANDBY, LeaderState.LEADER);
+                journal.onStateChanged(billing, LeaderState.LEADER, LeaderState.STANDBY);
+            }
+        }
+
+        try (Stream<Path> files = Files.list(directory)) {
+            assertThat(files.count(), is(2L));
+        }
+        List<LeaderJournalEntry> entries = LeaderJournalReader.merge(List.of(directory));
+        assertThat(entries.stream().map(LeaderJournalEntry::role).distinct().toList(), contains("billing"));
+        assertThat(entries.stream().map(LeaderJournalEntry::segment).toList(), everyItem(greaterThan(1L)));
+        assertThat(entries.get(entries.size() - 1).epoch(), is(40L));
+    }
+
+    @Test
+    public void journalsOfSeveralNodesAreMergedByTimestamp() throws Exception {
+        Path directory = folder.getRoot().toPath();
+        SolaceContext billing = context("billing");
+        try (LeaderTransitionJournal a = new LeaderTransitionJournal(directory, "node-a", 4096, 2, clockAt(1000));
+             LeaderTransitionJournal b = new LeaderTransitionJournal(directory, "node-b", 4096, 2, clockAt(2000))) {
+            b.onStateChanged(billing, LeaderState.STANDBY, LeaderState.LEADER);
+            a.onStateChanged(billing, LeaderState.LEADER, LeaderState.STANDBY);
+        }
+        try (LeaderTransitionJournal a = new LeaderTransitionJournal(directory, "node-a", 4096, 2, clockAt(3000))) {
+            a.onStateChanged(billing, LeaderState.STANDBY, LeaderState.LEADER);
+        }
+
+        List<LeaderJournalEntry> entries = LeaderJournalReader.merge(List.of(directory));
+
+        assertThat(entries.stream().map(e -> e.node() + ":" + e.to()).toList(),
+                contains("node-a:STANDBY", "node-b:LEADER", "node-a:LEADER"));
+        assertThat("A restarted node continues with the next segment", entries.get(2).segment(), is(2L));
+    }
+
+    private static SolaceContext context(String role) {
+        SolaceContext context = mock(SolaceContext.class);
+        when(context.getRole()).thenReturn(role);
+        return context;
+    }
+
+    private static Clock clockAt(long millis) {
+        return Clock.fixed(Instant.ofEpochMilli(millis), ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,229 @@
+package community.solace.spring.integration.leader.leader;
+
+import com.solacesystems.jcsmp.JCSMPException;
+import com.solacesystems.jcsmp.JCSMPSession;
+import community.solace.spring.integration.leader.queue.LeaderStateIndicatorProvider;
+import community.solace.spring.integration.leader.queue.SolaceLeaderViaQueue;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.integration.leader.Context;
+import org.springframework.integration.leader.DefaultCandidate;
+import org.springframework.integration.leader.event.OnGrantedEvent;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Measures the failover latency from the moment the current leader dies or yields, until the next
+ * candidate received {@code onGranted} and the {@link OnGrantedEvent} was published.
+ * <p>
+ * Runs through {@link SolaceLeaderInitiator}, {@link LeaderEventDebouncer} and {@link SolaceLeaderViaQueue}
+ * on a {@link SimulatedBroker}. Not part of the regular test run, execute it with:
+ * <pre>
+ * mvn test -Pbenchmark
+ * mvn test -Pbenchmark -Dbenchmark.iterations=50 -Dbenchmark.groups=1,10,100,1000
+ * </pre>
+ */
+public class FailoverLatencyBenchmark {
+
+    private static final int ITERATIONS = Integer.getInteger("benchmark.iterations", 20);
+    private static final int WARMUP = Integer.getInteger("benchmark.warmup", 3);
+    private static final int[] GROUP_COUNTS = parse(System.getProperty("benchmark.groups", "1,10,100"));
+    private static final int[] DEBOUNCE_MILLIS = parse(System.getProperty("benchmark.debounce", "0,100,500"));
+    private static final Duration CALLBACK_WORK = Duration.parse(System.getProperty("benchmark.callbackWork", "PT0.001S"));
+
+    enum Trigger {
+        CRASH,
+        YIELD
+    }
+
+    /**
+     * How the candidate handles the work of {@code onGranted}.
+     */
+    enum CallbackMode {
+        // The work is done on the flow event thread.
+        INLINE,
+        // The work is handed over to an executor.
+        EXECUTOR
+    }
+
+    @Test
+    public void failoverLatency() throws Exception {
+        System.out.printf("%n%-6s %-9s %7s %9s | %-43s | %-43s%n", "", "", "", "",
+                "onGranted [ms]", "OnGrantedEvent [ms]");
+        System.out.printf("%-6s %-9s %7s %9s | %s | %s%n", "cause", "callback", "groups", "debounce",
+                Percentiles.HEADER, Percentiles.HEADER);
+
+        for (Trigger trigger : Trigger.values()) {
+            for (CallbackMode mode : CallbackMode.values()) {
+                for (int groups : GROUP_COUNTS) {
+                    for (int debounce : DEBOUNCE_MILLIS) {
+                        run(trigger, mode, groups, Duration.ofMillis(debounce));
+                    }
+                }
+            }
+        }
+    }
+
+    private void run(Trigger trigger, CallbackMode mode, int groups, Duration debounce) throws Exception {
+        List<Long> granted = new ArrayList<>();
+        List<Long> published = new ArrayList<>();
+
+        for (int i = 0; i < WARMUP + ITERATIONS; i++) {
+            Failover failover = new Failover(mode, groups, debounce);
+            try {
+                failover.trigger(trigger);
+                if (i >= WARMUP) {
+                    granted.addAll(failover.grantedLatencies.values());
+                    published.addAll(failover.publishedLatencies.values());
+                }
+            } finally {
+                failover.close();
+            }
+        }
+
+        System.out.printf("%-6s %-9s %7d %9s | %s | %s%n", trigger, mode, groups, debounce.toMillis() + "ms",
+                Percentiles.of(granted), Percentiles.of(published));
+    }
+
+    /**
+     * Two nodes sharing {@code groups} groups. Node "a" is the leader of all groups, node "b" is waiting.
+     */
+    private static class Failover implements AutoCloseable {
+        private final SimulatedBroker broker = new SimulatedBroker();
+        private final ExecutorService callbackExecutor = Executors.newSingleThreadExecutor();
+        private final SolaceLeaderInitiator nodeA;
+        private final SolaceLeaderInitiator nodeB;
+        private final List<String> roles = new ArrayList<>();
+
+        private final Map<String, Long> grantedLatencies = new ConcurrentHashMap<>();
+        private final Map<String, Long> publishedLatencies = new ConcurrentHashMap<>();
+        private final CountDownLatch grantedOnA;
+        private final CountDownLatch grantedOnB;
+        private final CountDownLatch publishedOnB;
+        private volatile long start;
+
+        private Failover(CallbackMode mode, int groups, Duration debounce) throws JCSMPException, InterruptedException {
+            grantedOnA = new CountDownLatch(groups);
+            grantedOnB = new CountDownLatch(groups);
+            publishedOnB = new CountDownLatch(groups);
+
+            nodeA = createNode("a", debounce, event -> {
+            });
+            nodeB = createNode("b", debounce, event -> {
+                if (event instanceof OnGrantedEvent granted) {
+                    publishedLatencies.put(granted.getRole(), System.nanoTime() - start);
+                    publishedOnB.countDown();
+                }
+            });
+
+            for (int i = 0; i < groups; i++) {
+                String role = "benchmark-" + i;
+                roles.add(role);
+                nodeA.joinGroup(new BenchmarkCandidate(role, mode, grantedOnA::countDown), false, false);
+                nodeB.joinGroup(new BenchmarkCandidate(role, mode, () -> {
+                    grantedLatencies.put(role, System.nanoTime() - start);
+                    grantedOnB.countDown();
+                }), false, false);
+            }
+            assertTrue("node a did not become leader", grantedOnA.await(1, TimeUnit.MINUTES));
+        }
+
+        private SolaceLeaderInitiator createNode(String node, Duration debounce, ApplicationEventPublisher publisher) throws JCSMPException {
+            JCSMPSession session = broker.createSession(node);
+            LeaderStateIndicatorProvider provider = (roleName, eventHandler, onError) ->
+                    new SolaceLeaderViaQueue(session, roleName, eventHandler, onError);
+
+            SolaceLeaderConfig config = new SolaceLeaderConfig();
+            config.setPermitAnonymousGroups(true);
+            config.setEventDebounce(debounce);
+
+            SolaceLeaderInitiator initiator = new SolaceLeaderInitiator(provider, config, null, new SimpleMeterRegistry());
+            initiator.setApplicationEventPublisher(publisher);
+            return initiator;
+        }
+
+        private void trigger(Trigger trigger) throws InterruptedException {
+            start = System.nanoTime();
+            if (trigger == Trigger.CRASH) {
+                broker.crash("a");
+            } else {
+                roles.forEach(nodeA::yieldLeaderShip);
+            }
+            assertTrue("node b did not become leader", grantedOnB.await(1, TimeUnit.MINUTES));
+            assertTrue("node b did not publish granted events", publishedOnB.await(1, TimeUnit.MINUTES));
+        }
+
+        @Override
+        public void close() throws Exception {
+            broker.close();
+            nodeA.destroy();
+            nodeB.destroy();
+            callbackExecutor.shutdownNow();
+        }
+
+        private class BenchmarkCandidate extends DefaultCandidate {
+            private final CallbackMode mode;
+            private final Runnable onGranted;
+
+            private BenchmarkCandidate(String role, CallbackMode mode, Runnable onGranted) {
+                super(UUID.randomUUID().toString(), role);
+                this.mode = mode;
+                this.onGranted = onGranted;
+            }
+
+            @Override
+            public void onGranted(Context ctx) {
+                onGranted.run();
+                if (mode == CallbackMode.INLINE) {
+                    simulateWork();
+                } else {
+                    callbackExecutor.execute(BenchmarkCandidate::simulateWork);
+                }
+            }
+
+            private static void simulateWork() {
+                LockSupport.parkNanos(CALLBACK_WORK.toNanos());
+            }
+        }
+    }
+
+    private record Percentiles(double p50, double p90, double p99, double max) {
+        private static final String HEADER = String.format("%10s %10s %10s %10s", "p50", "p90", "p99", "max");
+
+        static Percentiles of(List<Long> nanos) {
+            long[] sorted = nanos.stream().mapToLong(Long::longValue).sorted().toArray();
+            return new Percentiles(at(sorted, 0.50), at(sorted, 0.90), at(sorted, 0.99), at(sorted, 1.0));
+        }
+
+        private static double at(long[] sorted, double percentile) {
+            if (sorted.length == 0) {
+                return Double.NaN;
+            }
+            int index = (int) Math.ceil(percentile * sorted.length) - 1;
+            return sorted[Math.max(index, 0)] / 1_000_000.0;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%10.3f %10.3f %10.3f %10.3f", p50, p90, p99, max);
+        }
+    }
+
+    private static int[] parse(String values) {
+        return Arrays.stream(values.split(",")).map(String::trim).mapToInt(Integer::parseInt).toArray();
+    }
+}
@@ -0,0 +1,180 @@
+package community.solace.spring.integration.leader.leader;
+
+import community.solace.spring.integration.leader.queue.LeaderStateIndicator;
+import community.solace.spring.integration.leader.queue.LeaderStateIndicatorProvider;
+import community.solace.spring.integration.leader.support.SimulatedLeaderCluster;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.integration.leader.Context;
+import org.springframework.integration.leader.DefaultCandidate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertTrue;
+
+public class LeaderActivationSchedulerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch blocked = new CountDownLatch(1);
+    private final CountDownLatch unblock = new CountDownLatch(1);
+    private final List<String> granted = new CopyOnWriteArrayList<>();
+    private SolaceLeaderInitiator initiator;
+
+    @Before
+    public void setUp() {
+        SolaceLeaderConfig leaderConfig = new SolaceLeaderConfig();
+        leaderConfig.setPermitAnonymousGroups(true);
+        leaderConfig.setActivationConcurrency(1);
+        leaderConfig.setActivationPriorities(Map.of("high", 10));
+
+        initiator = new SolaceLeaderInitiator(new SimulatedLeaderCluster().createNode("a"), leaderConfig, null, new SimpleMeterRegistry());
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        unblock.countDown();
+        initiator.destroy();
+    }
+
+    @Test
+    public void activatesOneGroupAtATime_inPriorityOrder() throws Exception {
+        join("blocker");
+        assertTrue(blocked.await(5, TimeUnit.SECONDS));
+
+        join("low");
+        join("high");
+        assertThat("Waiting for the activation", initiator.getContext("high").isLeader(), is(false));
+
+        unblock.countDown();
+        awaitLeader("low");
+
+        assertThat(granted, contains("blocker", "high", "low"));
+    }
+
+    @Test
+    public void pendingActivationIsCancelledWhenTheFlowIsUnbound() throws Exception {
+        join("blocker");
+        assertTrue(blocked.await(5, TimeUnit.SECONDS));
+        join("left");
+
+        initiator.leaveGroup("left");
+        unblock.countDown();
+        join("after");
+        awaitLeader("after");
+
+        assertThat(granted, contains("blocker", "after"));
+    }
+
+    @Test
+    public void queuedActivationOfAnUnboundFlowIsDropped() throws Exception {
+        AtomicReference<Consumer<Boolean>> flowEvents = new AtomicReference<>();
+        LeaderStateIndicatorProvider provider = (roleName, eventHandler, onError) -> {
+            flowEvents.set(eventHandler);
+            return new LeaderStateIndicator() {
+                @Override
+                public void start(String candidateName) {
+                }
+
+                @Override
+                public void stop() {
+                }
+
+                @Override
+                public boolean isActive() {
+                    return false;
+                }
+            };
+        };
+        SolaceLeaderConfig leaderConfig = new SolaceLeaderConfig();
+        leaderConfig.setPermitAnonymousGroups(true);
+        leaderConfig.setActivationConcurrency(2);
+        SolaceLeaderInitiator unboundInitiator = new SolaceLeaderInitiator(provider, leaderConfig, null, new SimpleMeterRegistry());
+        try {
+            unboundInitiator.joinGroup(new DefaultCandidate("blocker", "blocker") {
+                @Override
+                public void onGranted(Context ctx) {
+                    if (blocked.getCount() > 0) {
+                        blocked.countDown();
+                        try {
+                            unblock.await(5, TimeUnit.SECONDS);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                    }
+                }
+            }, false, false);
+            flowEvents.get().accept(true);
+            assertTrue(blocked.await(5, TimeUnit.SECONDS));
+
+            // Queued behind the blocked grant, then the flow is unbound by the yield.
+            flowEvents.get().accept(true);
+            Thread.sleep(200);
+            unboundInitiator.yieldLeaderShip("blocker", 60_000);
+            unblock.countDown();
+            Thread.sleep(200);
+
+            assertThat(unboundInitiator.getGroupStates().get("blocker"), is(LeaderState.YIELDING));
+        } finally {
+            unboundInitiator.destroy();
+        }
+    }
+
+    @Test
+    public void recordsTheActivationWait() throws Exception {
+        LeaderActivationScheduler scheduler = new LeaderActivationScheduler(1, Map.of(), meterRegistry);
+        CountDownLatch done = new CountDownLatch(2);
+        scheduler.submit("a", activation -> done.countDown());
+        scheduler.submit("b", activation -> done.countDown());
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertThat(meterRegistry.get("leader_activation_wait").timer().count(), is(2L));
+        scheduler.close();
+    }
+
+    @Test
+    public void closeRemovesTheMeters() throws Exception {
+        SimpleMeterRegistry closedRegistry = new SimpleMeterRegistry();
+        LeaderActivationScheduler scheduler = new LeaderActivationScheduler(1, Map.of(), closedRegistry);
+
+        scheduler.close();
+
+        assertThat(closedRegistry.getMeters(), is(empty()));
+    }
+
+    private void join(String role) {
+        initiator.joinGroup(new DefaultCandidate(role, role) {
+            @Override
+            public void onGranted(Context ctx) {
+                granted.add(role);
+                if (role.equals("blocker")) {
+                    blocked.countDown();
+                    try {
+                        unblock.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            }
+        }, false, false);
+    }
+
+    private void awaitLeader(String role) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!initiator.getContext(role).isLeader() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertTrue(initiator.getContext(role).isLeader());
+    }
+}
@@ -0,0 +1,99 @@
+package community.solace.spring.integration.leader.leader;
+
+import community.solace.spring.integration.leader.support.VirtualTimeTaskScheduler;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.integration.leader.event.OnGrantedEvent;
+import org.springframework.integration.leader.event.OnRevokedEvent;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+public class LeaderEventDebouncerTest {
+
+    private final VirtualTimeTaskScheduler scheduler = new VirtualTimeTaskScheduler();
+    private ApplicationEventPublisher applicationEventPublisher;
+
+    @Before
+    public void setUp() {
+        applicationEventPublisher = mock(ApplicationEventPublisher.class);
+    }
+
+    @Test
+    public void publishesOnlyTheLastEventOfAGroupWithinTheDelay() {
+        LeaderEventDebouncer debouncer = new LeaderEventDebouncer(applicationEventPublisher, Duration.ofMillis(500), null, scheduler);
+
+        debouncer.publishOnGranted(this, null, "a");
+        scheduler.advanceTime(Duration.ofMillis(100));
+        debouncer.publishOnRevoked(this, null, "a");
+        scheduler.advanceTime(Duration.ofMillis(499));
+        verifyNoInteractions(applicationEventPublisher);
+
+        scheduler.advanceTime(Duration.ofMillis(1));
+
+        assertThat(publishedEvents(), contains(instanceOf(OnRevokedEvent.class)));
+        assertThat(debouncer.getPendingCount(), is(0));
+    }
+
+    @Test
+    public void batchContainsTheLastChangeOfEachGroupWithinTheWindow() {
+        LeaderEventDebouncer debouncer = new LeaderEventDebouncer(applicationEventPublisher, Duration.ofMillis(500), Duration.ofMillis(100), scheduler);
+
+        debouncer.publishOnGranted(this, null, "a");
+        debouncer.publishOnGranted(this, null, "b");
+        debouncer.publishOnRevoked(this, null, "c");
+        scheduler.advanceTime(Duration.ofMillis(500));
+        debouncer.publishOnRevoked(this, null, "b");
+        scheduler.advanceTime(Duration.ofMillis(99));
+        assertThat(batchEvents(), empty());
+
+        scheduler.advanceTime(Duration.ofMillis(1));
+        assertThat("b was revoked after the window started, but was not yet published", batchEvents(), hasSize(1));
+        LeadershipChangeBatchEvent batch = batchEvents().get(0);
+        assertThat(batch.getGrantedRoles(), is(Set.of("a", "b")));
+        assertThat(batch.getRevokedRoles(), is(Set.of("c")));
+
+        scheduler.flush();
+        assertThat(batchEvents(), hasSize(2));
+        assertThat(batchEvents().get(1).getGrantedRoles(), empty());
+        assertThat(batchEvents().get(1).getRevokedRoles(), is(Set.of("b")));
+    }
+
+    @Test
+    public void noBatchWithoutWindow() {
+        LeaderEventDebouncer debouncer = new LeaderEventDebouncer(applicationEventPublisher, Duration.ZERO, Duration.ZERO, scheduler);
+
+        debouncer.publishOnGranted(this, null, "a");
+        scheduler.flush();
+
+        assertThat(publishedEvents(), contains(instanceOf(OnGrantedEvent.class)));
+    }
+
+    private List<ApplicationEvent> publishedEvents() {
+        ArgumentCaptor<ApplicationEvent> captor = ArgumentCaptor.forClass(ApplicationEvent.class);
+        verify(applicationEventPublisher, atLeast(0)).publishEvent(captor.capture());
+        return captor.getAllValues();
+    }
+
+    private List<LeadershipChangeBatchEvent> batchEvents() {
+        return publishedEvents().stream()
+                .filter(LeadershipChangeBatchEvent.class::isInstance)
+                .map(LeadershipChangeBatchEvent.class::cast)
+                .toList();
+    }
+}
@@ -0,0 +1,112 @@
+package community.solace.spring.integration.leader.leader;
+
+import community.solace.spring.integration.leader.support.SimulatedLeaderCluster;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.Assert;
+import org.junit.Test;
+import org.springframework.integration.leader.DefaultCandidate;
+
+import java.util.Set;
+
+public class LeaderMetricsTest {
+
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    public void aggregateModeCountsGroupsPerState() {
+        LeaderMetrics metrics = new LeaderMetrics(registry, SolaceLeaderConfig.MetricsMode.AGGREGATE, Set.of(), 0);
+        SolaceContext a = create(metrics, "a");
+        SolaceContext b = create(metrics, "b");
+
+        move(metrics, a, LeaderState.JOINING);
+        move(metrics, a, LeaderState.LEADER);
+        move(metrics, b, LeaderState.JOINING);
+        move(metrics, b, LeaderState.FAILED);
+
+        Assert.assertEquals(1.0, groups("leader"), 0);
+        Assert.assertEquals(1.0, groups("failed"), 0);
+        Assert.assertEquals(0.0, groups("not_joined"), 0);
+        Assert.assertEquals(2.0, registry.get("leader_transitions").tag("state", "joining").counter().count(), 0);
+        Assert.assertTrue("No per group gauges", registry.find("leader_status").gauges().isEmpty());
+
+        metrics.onRemoved(b);
+        Assert.assertEquals(0.0, groups("failed"), 0);
+    }
+
+    @Test
+    public void aggregateModeKeepsGaugesOfAllowedAndRecentlyChangedGroups() {
+        LeaderMetrics metrics = new LeaderMetrics(registry, SolaceLeaderConfig.MetricsMode.AGGREGATE, Set.of("important"), 2);
+        create(metrics, "important");
+        SolaceContext a = create(metrics, "a");
+        SolaceContext b = create(metrics, "b");
+        SolaceContext c = create(metrics, "c");
+
+        move(metrics, a, LeaderState.JOINING);
+        move(metrics, b, LeaderState.JOINING);
+        move(metrics, c, LeaderState.JOINING);
+
+        Assert.assertNotNull(registry.find("leader_status").tag("group", "important").gauge());
+        Assert.assertNull("Least recently changed", registry.find("leader_status").tag("group", "a").gauge());
+        Assert.assertNotNull(registry.find("leader_status").tag("group", "b").gauge());
+        Assert.assertNotNull(registry.find("leader_status").tag("group", "c").gauge());
+    }
+
+    @Test
+    public void perGroupModeRegistersAGaugePerGroup() {
+        LeaderMetrics metrics = new LeaderMetrics(registry, SolaceLeaderConfig.MetricsMode.PER_GROUP, Set.of(), 0);
+        SolaceContext a = create(metrics, "a");
+        move(metrics, a, LeaderState.JOINING);
+        move(metrics, a, LeaderState.LEADER);
+
+        Assert.assertEquals(1.0, registry.get("leader_status").tag("group", "a").gauge().value(), 0);
+
+        metrics.onRemoved(a);
+        Assert.assertNull(registry.find("leader_status").tag("group", "a").gauge());
+    }
+
+    @Test
+    public void initiatorsOfTheSimulatedNodesHaveTheirOwnMeters() throws Exception {
+        SimulatedLeaderCluster cluster = new SimulatedLeaderCluster();
+        SimulatedLeaderCluster.Node nodeA = cluster.createNode("a");
+        SimulatedLeaderCluster.Node nodeB = cluster.createNode("b");
+        SolaceLeaderConfig leaderConfig = new SolaceLeaderConfig();
+        leaderConfig.setPermitAnonymousGroups(true);
+        leaderConfig.setMetricsMode(SolaceLeaderConfig.MetricsMode.PER_GROUP);
+        leaderConfig.setActivationConcurrency(1);
+        SolaceLeaderInitiator initiatorA = new SolaceLeaderInitiator(nodeA, leaderConfig, null, nodeA.getMeterRegistry());
+        SolaceLeaderInitiator initiatorB = new SolaceLeaderInitiator(nodeB, leaderConfig, null, nodeB.getMeterRegistry());
+        initiatorA.joinGroup("demo", false);
+        initiatorB.joinGroup("demo", false);
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!initiatorA.getContext("demo", false).isLeader() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+
+        Assert.assertEquals(1.0, nodeA.getMeterRegistry().get("leader_status").tag("group", "demo").gauge().value(), 0);
+        Assert.assertEquals(0.0, nodeB.getMeterRegistry().get("leader_status").tag("group", "demo").gauge().value(), 0);
+        Assert.assertEquals(1.0, nodeB.getMeterRegistry().get("leader_groups").tag("state", "standby").gauge().value(), 0);
+
+        initiatorA.destroy();
+        Assert.assertTrue(nodeA.getMeterRegistry().getMeters().isEmpty());
+        Assert.assertNotNull(nodeB.getMeterRegistry().find("leader_activation_wait").timer());
+        initiatorB.destroy();
+        Assert.assertTrue(nodeB.getMeterRegistry().getMeters().isEmpty());
+    }
+
+    private double groups(String state) {
+        return registry.get("leader_groups").tag("state", state).gauge().value();
+    }
+
+    private static SolaceContext create(LeaderMetrics metrics, String role) {
+        SolaceContext context = new SolaceContext(new DefaultCandidate(role + "-id", role), null, Runnable::run, false);
+        metrics.onCreated(context);
+        return context;
+    }
+
+    private static void move(LeaderMetrics metrics, SolaceContext context, LeaderState to) {
+        LeaderState from = context.getState();
+        Assert.assertTrue(context.moveTo(to));
+        metrics.onStateChanged(context, from, to);
+    }
+}
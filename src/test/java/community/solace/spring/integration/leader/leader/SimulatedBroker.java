@@ -0,0 +1,94 @@
+package community.solace.spring.integration.leader.leader;
+
+import com.solacesystems.jcsmp.*;
+import com.solacesystems.jcsmp.impl.flow.FlowEventArgsImpl;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Simulates the exclusive queue semantics of a Solace broker on top of mocked {@link JCSMPSession}s.
+ * The first bound flow of a queue is active, all others are inactive in bind order.
+ * Flow events of a session are dispatched on a dedicated thread, like the JCSMP context thread.
+ */
+class SimulatedBroker implements AutoCloseable {
+
+    private final Map<String, List<Binding>> bindings = new HashMap<>();
+    private final List<ExecutorService> dispatchers = new ArrayList<>();
+
+    JCSMPSession createSession(String node) throws JCSMPException {
+        ExecutorService dispatcher = Executors.newSingleThreadExecutor(r -> new Thread(r, "jcsmp-context-" + node));
+        dispatchers.add(dispatcher);
+
+        JCSMPSession session = mock(JCSMPSession.class);
+        when(session.createFlow(any(), any(ConsumerFlowProperties.class), any(), any())).thenAnswer(invocation -> {
+            if (invocation.getArgument(0) == null) {
+                // Test flow created while provisioning the queue.
+                return mock(FlowReceiver.class);
+            }
+
+            ConsumerFlowProperties flowProperties = invocation.getArgument(1);
+            Binding binding = new Binding(node, flowProperties.getEndpoint().getName(), invocation.getArgument(3), dispatcher);
+
+            FlowReceiver flowReceiver = mock(FlowReceiver.class);
+            doAnswer(i -> {
+                bind(binding);
+                return null;
+            }).when(flowReceiver).start();
+            doAnswer(i -> {
+                unbind(binding);
+                return null;
+            }).when(flowReceiver).close();
+            return flowReceiver;
+        });
+        return session;
+    }
+
+    /**
+     * Simulates the death of a node: all flows of the node are unbound without notifying the node.
+     */
+    synchronized void crash(String node) {
+        for (List<Binding> queueBindings : bindings.values()) {
+            queueBindings.stream()
+                    .filter(b -> b.node.equals(node))
+                    .toList()
+                    .forEach(this::unbind);
+        }
+    }
+
+    private synchronized void bind(Binding binding) {
+        List<Binding> queueBindings = bindings.computeIfAbsent(binding.queue, q -> new ArrayList<>());
+        queueBindings.add(binding);
+        binding.dispatch(queueBindings.size() == 1 ? FlowEvent.FLOW_ACTIVE : FlowEvent.FLOW_INACTIVE);
+    }
+
+    private synchronized void unbind(Binding binding) {
+        List<Binding> queueBindings = bindings.get(binding.queue);
+        if (queueBindings == null) {
+            return;
+        }
+        boolean wasActive = !queueBindings.isEmpty() && queueBindings.get(0) == binding;
+        queueBindings.remove(binding);
+        if (wasActive && !queueBindings.isEmpty()) {
+            queueBindings.get(0).dispatch(FlowEvent.FLOW_ACTIVE);
+        }
+    }
+
+    @Override
+    public void close() {
+        dispatchers.forEach(ExecutorService::shutdownNow);
+    }
+
+    private record Binding(String node, String queue, FlowEventHandler handler, ExecutorService dispatcher) {
+        void dispatch(FlowEvent event) {
+            dispatcher.execute(() -> handler.handleEvent(null, new FlowEventArgsImpl(event, null, null, 0)));
+        }
+    }
+}
@@ -4,6 +4,8 @@ import com.solacesystems.jcsmp.*;
 import com.solacesystems.jcsmp.impl.flow.FlowEventArgsImpl;
 import community.solace.spring.integration.leader.queue.LeaderStateIndicatorProvider;
 import community.solace.spring.integration.leader.queue.SolaceLeaderViaQueue;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
@@ -19,6 +21,12 @@ import org.springframework.integration.leader.event.OnRevokedEvent;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import static org.mockito.Mockito.*;
 
@@ -30,6 +38,7 @@ public class SolaceLeaderInitiatorTest {
     private SolaceLeaderInitiator solaceLeaderInitiator;
     private ApplicationEventPublisher eventPublisher;
     private final SolaceLeaderConfig leaderConfig = new SolaceLeaderConfig();
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
 
     @Before
     public void setUp() throws Exception {
@@ -55,7 +64,7 @@ public class SolaceLeaderInitiatorTest {
         LeaderStateIndicatorProvider provider = (roleName, eventHandler, onError) ->
                 new SolaceLeaderViaQueue(session, roleName, eventHandler, onError);
 
-        solaceLeaderInitiator = new SolaceLeaderInitiator(provider, leaderConfig, null);
+        solaceLeaderInitiator = new SolaceLeaderInitiator(provider, leaderConfig, null, meterRegistry);
         solaceLeaderInitiator.setApplicationEventPublisher(eventPublisher);
     }
 
@@ -310,6 +319,246 @@ public class SolaceLeaderInitiatorTest {
         Assert.assertNull(context);
     }
 
+    @Test
+    public void joinGroupAsync_awaitLeadership() throws Exception {
+        ArgumentCaptor<FlowEventHandler> flowEventHandlerCaptor = ArgumentCaptor.forClass(FlowEventHandler.class);
+        FlowReceiver flowReceiver = mockFlow(flowEventHandlerCaptor);
+
+        Context context = solaceLeaderInitiator.joinGroupAsync(ROLE).get(5, TimeUnit.SECONDS);
+        verify(flowReceiver).start();
+        Assert.assertFalse(context.isLeader());
+
+        CompletableFuture<Context> leadership = solaceLeaderInitiator.awaitLeadership(ROLE, Duration.ofSeconds(5));
+        Assert.assertFalse(leadership.isDone());
+
+        flowEventHandlerCaptor.getValue().handleEvent(null, new FlowEventArgsImpl(FlowEvent.FLOW_ACTIVE, null, null, 0));
+
+        Assert.assertSame(context, leadership.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void awaitLeadership_timeout() throws Exception {
+        ArgumentCaptor<FlowEventHandler> flowEventHandlerCaptor = ArgumentCaptor.forClass(FlowEventHandler.class);
+        joinGroup(ROLE, flowEventHandlerCaptor);
+
+        CompletableFuture<Context> leadership = solaceLeaderInitiator.awaitLeadership(ROLE, Duration.ofMillis(50));
+
+        try {
+            leadership.get(5, TimeUnit.SECONDS);
+            Assert.fail("leadership was not expected");
+        } catch (ExecutionException e) {
+            Assert.assertTrue(e.getCause() instanceof TimeoutException);
+        }
+    }
+
+    @Test
+    public void awaitLeadership_notJoined() {
+        CompletableFuture<Context> leadership = solaceLeaderInitiator.awaitLeadership(ROLE, Duration.ofSeconds(5));
+
+        Assert.assertTrue(leadership.isCompletedExceptionally());
+    }
+
+    @Test
+    public void yieldAsync_completesWhenFlowIsReBound() throws Exception {
+        ArgumentCaptor<FlowEventHandler> flowEventHandlerCaptor = ArgumentCaptor.forClass(FlowEventHandler.class);
+        FlowReceiver flowReceiver = mockFlow(flowEventHandlerCaptor);
+        solaceLeaderInitiator.joinGroup(createCandidate(ROLE), false, false);
+        flowEventHandlerCaptor.getValue().handleEvent(null, new FlowEventArgsImpl(FlowEvent.FLOW_ACTIVE, null, null, 0));
+
+        SolaceContext context = (SolaceContext) solaceLeaderInitiator.getContext(ROLE);
+        context.yieldAsync().get(5, TimeUnit.SECONDS);
+
+        verify(flowReceiver).close();
+        verify(flowReceiver, times(2)).start();
+        Assert.assertFalse(context.isLeader());
+    }
+
+    @Test
+    public void stateTransitions_joinGrantYield() throws Exception {
+        List<String> transitions = new CopyOnWriteArrayList<>();
+        solaceLeaderInitiator.addStateListener((c, from, to) -> transitions.add(from + "->" + to));
+
+        ArgumentCaptor<FlowEventHandler> flowEventHandlerCaptor = ArgumentCaptor.forClass(FlowEventHandler.class);
+        joinGroup(ROLE, flowEventHandlerCaptor);
+        SolaceContext context = (SolaceContext) solaceLeaderInitiator.getContext(ROLE);
+        Assert.assertEquals(LeaderState.STANDBY, context.getState());
+
+        flowEventHandlerCaptor.getValue().handleEvent(null, new FlowEventArgsImpl(FlowEvent.FLOW_ACTIVE, null, null, 0));
+        Assert.assertEquals(LeaderState.LEADER, context.getState());
+
+        context.yield();
+        Assert.assertEquals(LeaderState.STANDBY, context.getState());
+
+        Assert.assertEquals(List.of(
+                "NOT_JOINED->JOINING",
+                "JOINING->STANDBY",
+                "STANDBY->LEADER",
+                "LEADER->YIELDING",
+                "YIELDING->STANDBY"
+        ), transitions);
+    }
+
+    @Test
+    public void stateTransitions_flowStartFailed() throws Exception {
+        FlowReceiver flowReceiver = mockFlow(ArgumentCaptor.forClass(FlowEventHandler.class));
+        doThrow(new JCSMPException("bind failed")).when(flowReceiver).start();
+
+        solaceLeaderInitiator.joinGroup(createCandidate(ROLE), false, false);
+
+        SolaceContext context = (SolaceContext) solaceLeaderInitiator.getContext(ROLE);
+        Assert.assertEquals(LeaderState.FAILED, context.getState());
+        Assert.assertFalse(context.isJoined());
+        Assert.assertEquals(-1, context.getGaugeValue(), 0);
+    }
+
+    @Test
+    public void yieldWithCooldown_keepsFlowUnbound() throws Exception {
+        ArgumentCaptor<FlowEventHandler> flowEventHandlerCaptor = ArgumentCaptor.forClass(FlowEventHandler.class);
+        FlowReceiver flowReceiver = mockFlow(flowEventHandlerCaptor);
+        solaceLeaderInitiator.joinGroup(createCandidate(ROLE), false, false);
+        flowEventHandlerCaptor.getValue().handleEvent(null, new FlowEventArgsImpl(FlowEvent.FLOW_ACTIVE, null, null, 0));
+
+        SolaceContext context = (SolaceContext) solaceLeaderInitiator.getContext(ROLE);
+        CompletableFuture<Void> rebound = context.yield(Duration.ofMillis(300));
+
+        verify(flowReceiver).close();
+        Assert.assertEquals(LeaderState.YIELDING, context.getState());
+        Assert.assertFalse(context.isLeader());
+        Thread.sleep(100);
+        verify(flowReceiver, times(1)).start();
+
+        rebound.get(5, TimeUnit.SECONDS);
+        verify(flowReceiver, times(2)).start();
+        Assert.assertEquals(LeaderState.STANDBY, context.getState());
+    }
+
+    @Test
+    public void yieldToPeer_rejoinsAfterPeerBecameActive() throws Exception {
+        ArgumentCaptor<FlowEventHandler> flowEventHandlerCaptor = ArgumentCaptor.forClass(FlowEventHandler.class);
+        FlowReceiver flowReceiver = mockFlow(flowEventHandlerCaptor);
+        Candidate candidate = createCandidate(ROLE);
+        solaceLeaderInitiator.joinGroup(candidate, false, false);
+        flowEventHandlerCaptor.getValue().handleEvent(null, new FlowEventArgsImpl(FlowEvent.FLOW_ACTIVE, null, null, 0));
+
+        SolaceContext context = (SolaceContext) solaceLeaderInitiator.getContext(ROLE);
+        CompletableFuture<Void> rebound = context.yieldToPeer(Duration.ofMillis(50), Duration.ofSeconds(30));
+
+        // First probe: no one else took over, the probe flow becomes active.
+        verify(flowReceiver, timeout(1000).times(2)).start();
+        flowEventHandlerCaptor.getValue().handleEvent(null, new FlowEventArgsImpl(FlowEvent.FLOW_ACTIVE, null, null, 0));
+        verify(flowReceiver, timeout(1000).times(2)).close();
+        Assert.assertEquals(LeaderState.YIELDING, context.getState());
+
+        // Second probe: the peer is active.
+        verify(flowReceiver, timeout(1000).times(3)).start();
+        flowEventHandlerCaptor.getValue().handleEvent(null, new FlowEventArgsImpl(FlowEvent.FLOW_INACTIVE, null, null, 0));
+
+        rebound.get(5, TimeUnit.SECONDS);
+        Assert.assertEquals(LeaderState.STANDBY, context.getState());
+        verify(candidate, times(1)).onGranted(any(Context.class));
+    }
+
+    @Test
+    public void drain_keepsMatchingGroupsUnboundUntilUndrain() throws Exception {
+        ArgumentCaptor<FlowEventHandler> flowEventHandlerCaptor = ArgumentCaptor.forClass(FlowEventHandler.class);
+        FlowReceiver flowReceiver = mockFlow(flowEventHandlerCaptor);
+        Candidate leaderCandidate = createCandidate("tenant-a");
+        solaceLeaderInitiator.joinGroup(leaderCandidate, false, false);
+        flowEventHandlerCaptor.getValue().handleEvent(null, new FlowEventArgsImpl(FlowEvent.FLOW_ACTIVE, null, null, 0));
+        solaceLeaderInitiator.joinGroup(createCandidate("tenant-b"), false, false);
+        solaceLeaderInitiator.joinGroup(createCandidate("other"), false, false);
+        verify(flowReceiver, times(3)).start();
+
+        List<String> drained = solaceLeaderInitiator.drain("tenant-.*").get(5, TimeUnit.SECONDS);
+
+        Assert.assertEquals(List.of("tenant-a", "tenant-b"), drained);
+        verify(flowReceiver, times(2)).close();
+        Assert.assertFalse(solaceLeaderInitiator.getContext("tenant-a").isLeader());
+        Assert.assertTrue(solaceLeaderInitiator.isDrained());
+        Assert.assertEquals("drained", solaceLeaderInitiator.getGroupStatus().get("tenant-b"));
+        Assert.assertEquals(LeaderState.STANDBY, ((SolaceContext) solaceLeaderInitiator.getContext("other")).getState());
+
+        // Groups joined or yielded while drained do not bind.
+        solaceLeaderInitiator.joinGroup(createCandidate("tenant-c"), false, false);
+        Assert.assertEquals(LeaderState.NOT_JOINED, ((SolaceContext) solaceLeaderInitiator.getContext("tenant-c")).getState());
+        verify(flowReceiver, times(3)).start();
+
+        solaceLeaderInitiator.undrain().get(5, TimeUnit.SECONDS);
+
+        verify(flowReceiver, times(6)).start();
+        Assert.assertFalse(solaceLeaderInitiator.isDrained());
+        for (String role : List.of("tenant-a", "tenant-b", "tenant-c")) {
+            Assert.assertEquals(LeaderState.STANDBY, ((SolaceContext) solaceLeaderInitiator.getContext(role)).getState());
+        }
+    }
+
+    @Test
+    public void undrain_keepsTheGroupsOfAnotherDrainUnbound() throws Exception {
+        ArgumentCaptor<FlowEventHandler> flowEventHandlerCaptor = ArgumentCaptor.forClass(FlowEventHandler.class);
+        FlowReceiver flowReceiver = mockFlow(flowEventHandlerCaptor);
+        solaceLeaderInitiator.joinGroup(createCandidate("tenant-a"), false, false);
+        solaceLeaderInitiator.joinGroup(createCandidate("billing"), false, false);
+        solaceLeaderInitiator.drain("tenant-.*").get(5, TimeUnit.SECONDS);
+        solaceLeaderInitiator.drain("billing|tenant-a").get(5, TimeUnit.SECONDS);
+        verify(flowReceiver, times(2)).start();
+
+        solaceLeaderInitiator.undrain("tenant-.*").get(5, TimeUnit.SECONDS);
+
+        Assert.assertTrue("The second drain is still active", solaceLeaderInitiator.isDrained());
+        Assert.assertEquals("drained", solaceLeaderInitiator.getGroupStatus().get("tenant-a"));
+        Assert.assertEquals("drained", solaceLeaderInitiator.getGroupStatus().get("billing"));
+        verify(flowReceiver, times(2)).start();
+
+        solaceLeaderInitiator.undrain("billing|tenant-a").get(5, TimeUnit.SECONDS);
+
+        Assert.assertFalse(solaceLeaderInitiator.isDrained());
+        verify(flowReceiver, times(4)).start();
+    }
+
+    @Test
+    public void stop_yieldsLeaderGroupsWithoutReBinding() throws Exception {
+        ArgumentCaptor<FlowEventHandler> flowEventHandlerCaptor = ArgumentCaptor.forClass(FlowEventHandler.class);
+        FlowReceiver flowReceiver = mockFlow(flowEventHandlerCaptor);
+        solaceLeaderInitiator.joinGroup(createCandidate("yielding"), false, true);
+        flowEventHandlerCaptor.getValue().handleEvent(null, new FlowEventArgsImpl(FlowEvent.FLOW_ACTIVE, null, null, 0));
+        solaceLeaderInitiator.joinGroup(createCandidate("staying"), false, false);
+        flowEventHandlerCaptor.getValue().handleEvent(null, new FlowEventArgsImpl(FlowEvent.FLOW_ACTIVE, null, null, 0));
+
+        solaceLeaderInitiator.start();
+        solaceLeaderInitiator.stop();
+
+        Assert.assertFalse(solaceLeaderInitiator.isRunning());
+        verify(flowReceiver, times(1)).close();
+        verify(flowReceiver, times(2)).start();
+        Assert.assertEquals(LeaderState.YIELDING, ((SolaceContext) solaceLeaderInitiator.getContext("yielding")).getState());
+        Assert.assertTrue(solaceLeaderInitiator.getContext("staying").isLeader());
+    }
+
+    @Test
+    public void leaveGroup_releasesFlowGaugeAndQueue() throws Exception {
+        ArgumentCaptor<FlowEventHandler> flowEventHandlerCaptor = ArgumentCaptor.forClass(FlowEventHandler.class);
+        FlowReceiver flowReceiver = mockFlow(flowEventHandlerCaptor);
+        Candidate candidate = createCandidate("tenant-1");
+        solaceLeaderInitiator.joinGroup(candidate, false, false);
+        flowEventHandlerCaptor.getValue().handleEvent(null, new FlowEventArgsImpl(FlowEvent.FLOW_ACTIVE, null, null, 0));
+        SolaceContext context = (SolaceContext) solaceLeaderInitiator.getContext("tenant-1");
+        Assert.assertNotNull(meterRegistry.find("leader_status").tag("group", "tenant-1").gauge());
+
+        Assert.assertTrue(solaceLeaderInitiator.leaveGroup("tenant-1", true));
+
+        verify(flowReceiver).close();
+        verify(candidate, atLeastOnce()).onRevoked(context);
+        verify(session).deprovision(any(Queue.class), eq((long) JCSMPSession.FLAG_IGNORE_DOES_NOT_EXIST));
+        Assert.assertEquals(LeaderState.NOT_JOINED, context.getState());
+        Assert.assertNull(solaceLeaderInitiator.getContext("tenant-1", false));
+        Assert.assertNull(meterRegistry.find("leader_status").tag("group", "tenant-1").gauge());
+        Assert.assertFalse(solaceLeaderInitiator.leaveGroup("tenant-1"));
+
+        // A left group can be joined again.
+        solaceLeaderInitiator.joinGroup("tenant-1");
+        Assert.assertTrue(((SolaceContext) solaceLeaderInitiator.getContext("tenant-1", false)).isJoined());
+    }
+
     private FlowReceiver mockFlow(ArgumentCaptor<FlowEventHandler> flowEventHandlerCaptor) throws JCSMPException {
         FlowReceiver flowReceiver = mock(FlowReceiver.class);
         when(session.createFlow(
@@ -0,0 +1,117 @@
+package community.solace.spring.integration.leader.leader;
+
+import community.solace.spring.integration.leader.support.SimulatedLeaderCluster;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.integration.leader.DefaultCandidate;
+
+import javax.management.MBeanServer;
+import javax.management.MBeanServerFactory;
+import javax.management.Notification;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+import javax.management.openmbean.TabularData;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.arrayContaining;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class SolaceLeaderManagementTest {
+
+    private final SimulatedLeaderCluster cluster = new SimulatedLeaderCluster();
+    private final MBeanServer mBeanServer = MBeanServerFactory.newMBeanServer();
+    private ObjectName objectName;
+    private final List<Notification> notifications = new CopyOnWriteArrayList<>();
+    private SolaceLeaderInitiator initiator;
+    private SolaceLeaderInitiator peer;
+    private SolaceLeaderManagement management;
+
+    @Before
+    public void setUp() throws Exception {
+        SolaceLeaderConfig leaderConfig = new SolaceLeaderConfig();
+        leaderConfig.setPermitAnonymousGroups(true);
+        SimulatedLeaderCluster.Node nodeA = cluster.createNode("a");
+        SimulatedLeaderCluster.Node nodeB = cluster.createNode("b");
+        initiator = new SolaceLeaderInitiator(nodeA, leaderConfig, null, nodeA.getMeterRegistry());
+        peer = new SolaceLeaderInitiator(nodeB, leaderConfig, null, nodeB.getMeterRegistry());
+
+        objectName = ObjectName.getInstance("community.solace.spring.integration.leader:type=SolaceLeader");
+        management = new SolaceLeaderManagement(initiator);
+        mBeanServer.registerMBean(management, objectName);
+        mBeanServer.addNotificationListener(objectName, (notification, handback) -> notifications.add(notification), null, null);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        initiator.destroy();
+        peer.destroy();
+    }
+
+    @Test
+    public void groupsAreExportedAsTabularData() throws Exception {
+        initiator.joinGroup(new DefaultCandidate("a", "demo"), false, false);
+        initiator.joinGroup(new DefaultCandidate("a", "other"), false, false);
+        initiator.yieldLeaderShip("other", 60_000);
+
+        TabularData groups = (TabularData) mBeanServer.getAttribute(objectName, "Groups");
+        CompositeData demo = (CompositeData) groups.get(new Object[]{"demo"}).get("value");
+        CompositeData other = (CompositeData) groups.get(new Object[]{"other"}).get("value");
+
+        assertThat(demo.get("state"), is("LEADER"));
+        assertThat(demo.get("leader"), is(true));
+        assertThat(other.get("state"), is("YIELDING"));
+        assertThat((String[]) mBeanServer.getAttribute(objectName, "LeaderGroups"), arrayContaining("demo"));
+    }
+
+    @Test
+    public void notifiesEveryTransitionOfTheLeadership() throws Exception {
+        initiator.joinGroup(new DefaultCandidate("a", "demo"), false, false);
+        peer.joinGroup(new DefaultCandidate("b", "demo"), false, false);
+
+        initiator.yieldLeaderShip("demo");
+        peer.yieldLeaderShip("demo");
+        management.onStateChanged(context("demo"), LeaderState.LEADER, LeaderState.STANDBY);
+        management.onStateChanged(context("failing"), LeaderState.JOINING, LeaderState.FAILED);
+
+        assertThat(notifications.stream().map(Notification::getType).toList(), contains(
+                SolaceLeaderMXBean.GRANTED_NOTIFICATION,
+                SolaceLeaderMXBean.YIELDED_NOTIFICATION,
+                SolaceLeaderMXBean.GRANTED_NOTIFICATION,
+                SolaceLeaderMXBean.REVOKED_NOTIFICATION,
+                SolaceLeaderMXBean.FAILED_TO_ACQUIRE_NOTIFICATION
+        ));
+        CompositeData transition = (CompositeData) notifications.get(1).getUserData();
+        assertThat(transition.get("role"), is("demo"));
+        assertThat(transition.get("from"), is("LEADER"));
+        assertThat(transition.get("to"), is("YIELDING"));
+        assertThat(notifications.get(0).getSource(), is(objectName));
+    }
+
+    @Test
+    public void lastTransitionIsForgottenWhenTheGroupIsLeft() {
+        initiator.joinGroup(new DefaultCandidate("a", "demo"), false, false);
+        initiator.joinGroup(new DefaultCandidate("a", "left"), false, false);
+        initiator.leaveGroup("left");
+
+        // Joined again without notifying the management, only the transitions before are known.
+        management.destroy();
+        initiator.joinGroup(new DefaultCandidate("a", "left"), false, false);
+
+        assertThat(management.getGroup("demo").getLastTransition(), is(notNullValue()));
+        assertThat(management.getGroup("left").getLastTransition(), is(nullValue()));
+    }
+
+    private static SolaceContext context(String role) {
+        SolaceContext context = mock(SolaceContext.class);
+        when(context.getRole()).thenReturn(role);
+        return context;
+    }
+}
@@ -0,0 +1,143 @@
+package community.solace.spring.integration.leader.listener;
+
+import community.solace.spring.integration.leader.SolaceLeaderAutoConfiguration;
+import community.solace.spring.integration.leader.leader.SolaceContext;
+import community.solace.spring.integration.leader.leader.SolaceLeaderInitiator;
+import community.solace.spring.integration.leader.scope.LeaderScoped;
+import community.solace.spring.integration.leader.support.SolaceLeaderTestConfiguration;
+import community.solace.spring.integration.leader.support.SolaceLeaderTestSupport;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+@RunWith(SpringRunner.class)
+@SpringBootTest(properties = {
+        "spring.leader.permit-anonymous-groups=true",
+        "listener.role=listener-group"
+})
+public class LeaderListenerRegistryTest {
+
+    private static final String ROLE = "listener-group";
+    private static final String OTHER_ROLE = "other-listener-group";
+    private static final List<String> SCOPED_CALLS = new CopyOnWriteArrayList<>();
+
+    @Autowired
+    private SolaceLeaderInitiator leaderInitiator;
+
+    @Autowired
+    private SolaceLeaderTestSupport leaderSupport;
+
+    @Autowired
+    private Listeners listeners;
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @Before
+    public void setUp() {
+        for (String role : List.of(ROLE, OTHER_ROLE)) {
+            if (leaderInitiator.getContext(role, false) == null) {
+                leaderInitiator.joinGroup(role);
+            }
+            leaderSupport.setLeadership(role, false);
+        }
+        listeners.calls.clear();
+        SCOPED_CALLS.clear();
+    }
+
+    @Test
+    public void listenersOfTheGroupAreInvokedOnTransition() {
+        leaderSupport.setLeadership(ROLE, true);
+        Assert.assertEquals(List.of("granted " + ROLE), listeners.calls);
+
+        leaderSupport.setLeadership(ROLE, false);
+        Assert.assertEquals(List.of("granted " + ROLE, "revoked"), listeners.calls);
+    }
+
+    @Test
+    public void listenersOfOtherGroupsAreNotInvoked() {
+        leaderSupport.setLeadership(OTHER_ROLE, true);
+        leaderSupport.setLeadership(OTHER_ROLE, false);
+
+        Assert.assertTrue(listeners.calls.isEmpty());
+    }
+
+    @Test
+    public void listenersOfALazyBeanAreRegisteredWhenItIsCreated() {
+        Listeners lazyListeners = applicationContext.getBean("lazyListeners", Listeners.class);
+
+        leaderSupport.setLeadership(ROLE, true);
+
+        Assert.assertEquals(List.of("granted " + ROLE), lazyListeners.calls);
+    }
+
+    @Test
+    public void listenersOfALeaderScopedBeanAreIgnored() {
+        leaderSupport.setLeadership(ROLE, true);
+        leaderSupport.setLeadership(ROLE, false);
+
+        Assert.assertTrue(SCOPED_CALLS.isEmpty());
+    }
+
+    public static class Listeners {
+        final List<String> calls = new CopyOnWriteArrayList<>();
+
+        @OnLeaderGranted("${listener.role}")
+        public void granted(SolaceContext context) {
+            calls.add("granted " + context.getRole());
+        }
+
+        @OnLeaderRevoked(ROLE)
+        public void revoked() {
+            calls.add("revoked");
+        }
+    }
+
+    public static class ScopedListeners {
+        @OnLeaderGranted(ROLE)
+        public void granted() {
+            SCOPED_CALLS.add("granted");
+        }
+
+        @OnLeaderRevoked(ROLE)
+        public void revoked() {
+            SCOPED_CALLS.add("revoked");
+        }
+    }
+
+    @Configuration
+    @ImportAutoConfiguration(SolaceLeaderAutoConfiguration.class)
+    @Import(SolaceLeaderTestConfiguration.class)
+    static class TestConfig {
+
+        @Bean
+        public Listeners listeners() {
+            return new Listeners();
+        }
+
+        @Bean
+        @Lazy
+        public Listeners lazyListeners() {
+            return new Listeners();
+        }
+
+        @Bean
+        @LeaderScoped(ROLE)
+        public ScopedListeners scopedListeners() {
+            return new ScopedListeners();
+        }
+    }
+}
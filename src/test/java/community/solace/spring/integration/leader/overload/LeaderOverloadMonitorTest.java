@@ -0,0 +1,156 @@
+package community.solace.spring.integration.leader.overload;
+
+import com.solacesystems.jcsmp.JCSMPException;
+import community.solace.spring.integration.leader.leader.LeaderState;
+import community.solace.spring.integration.leader.leader.SolaceContext;
+import community.solace.spring.integration.leader.leader.SolaceLeaderConfig;
+import community.solace.spring.integration.leader.leader.SolaceLeaderInitiator;
+import community.solace.spring.integration.leader.queue.LeaderStateIndicator;
+import community.solace.spring.integration.leader.queue.LeaderStateIndicatorProvider;
+import community.solace.spring.integration.leader.support.SimulatedLeaderCluster;
+import community.solace.spring.integration.leader.support.VirtualTimeTaskScheduler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+public class LeaderOverloadMonitorTest {
+
+    private final SimulatedLeaderCluster cluster = new SimulatedLeaderCluster();
+    private final VirtualTimeTaskScheduler scheduler = new VirtualTimeTaskScheduler();
+    private final AtomicReference<Double> load = new AtomicReference<>(0.0);
+    private SolaceLeaderInitiator initiator;
+    private SolaceLeaderInitiator peer;
+    private LeaderOverloadMonitor monitor;
+
+    @Before
+    public void setUp() {
+        SolaceLeaderConfig leaderConfig = new SolaceLeaderConfig();
+        leaderConfig.setPermitAnonymousGroups(true);
+        SimulatedLeaderCluster.Node nodeA = cluster.createNode("a");
+        SimulatedLeaderCluster.Node nodeB = cluster.createNode("b");
+        initiator = new SolaceLeaderInitiator(nodeA, leaderConfig, null, nodeA.getMeterRegistry());
+        peer = new SolaceLeaderInitiator(nodeB, leaderConfig, null, nodeB.getMeterRegistry());
+
+        monitor = new LeaderOverloadMonitor(initiator, load::get, Set.of("demo"), 0.8,
+                Duration.ofSeconds(30), Duration.ofSeconds(60), Duration.ofSeconds(5), Duration.ofSeconds(5), Duration.ofSeconds(30), scheduler);
+        monitor.start();
+
+        for (String group : new String[]{"demo", "other"}) {
+            initiator.joinGroup(group, false);
+            peer.joinGroup(group, false);
+        }
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        monitor.stop();
+        monitor.destroy();
+        initiator.destroy();
+        peer.destroy();
+    }
+
+    @Test
+    public void yieldsAfterTheWindowAndTheMinimumTenure() {
+        load.set(2.0);
+        scheduler.advanceTime(Duration.ofSeconds(35));
+        assertThat("Overloaded for the window, but the minimum tenure is not reached", cluster.getLeader("demo"), is("a"));
+
+        scheduler.advanceTime(Duration.ofSeconds(25));
+
+        assertThat(cluster.getLeader("demo"), is("b"));
+        assertThat("Not opted in", cluster.getLeader("other"), is("a"));
+    }
+
+    @Test
+    public void staysOverloadedUntilTheLoadDroppedBelowTheRecoveryRatio() {
+        scheduler.advanceTime(Duration.ofSeconds(60));
+        load.set(1.0);
+        scheduler.advanceTime(Duration.ofSeconds(5));
+        load.set(0.9);
+        scheduler.advanceTime(Duration.ofSeconds(20));
+        assertThat(monitor.isOverloaded(), is(true));
+
+        load.set(0.5);
+        scheduler.advanceTime(Duration.ofSeconds(5));
+        load.set(1.0);
+        scheduler.advanceTime(Duration.ofSeconds(25));
+
+        assertThat("The window started again after the recovery", cluster.getLeader("demo"), is("a"));
+        scheduler.advanceTime(Duration.ofSeconds(10));
+        assertThat(cluster.getLeader("demo"), is("b"));
+    }
+
+    @Test
+    public void singleNodeProbesForAPeerOnlyAfterTheCooldown() throws Exception {
+        SimulatedLeaderCluster singleNodeCluster = new SimulatedLeaderCluster();
+        SimulatedLeaderCluster.Node node = singleNodeCluster.createNode("single");
+        AtomicInteger binds = new AtomicInteger();
+        LeaderStateIndicatorProvider countingProvider = (roleName, eventHandler, onError) -> {
+            LeaderStateIndicator flow = node.create(roleName, eventHandler, onError);
+            return new LeaderStateIndicator() {
+                @Override
+                public void start(String candidateName) throws JCSMPException {
+                    binds.incrementAndGet();
+                    flow.start(candidateName);
+                }
+
+                @Override
+                public void stop() {
+                    flow.stop();
+                }
+
+                @Override
+                public boolean isActive() {
+                    return flow.isActive();
+                }
+            };
+        };
+        SolaceLeaderConfig leaderConfig = new SolaceLeaderConfig();
+        leaderConfig.setPermitAnonymousGroups(true);
+        SolaceLeaderInitiator single = new SolaceLeaderInitiator(countingProvider, leaderConfig, null, node.getMeterRegistry());
+        LeaderOverloadMonitor singleMonitor = new LeaderOverloadMonitor(single, () -> 2.0, Set.of("demo"), 0.8,
+                Duration.ofSeconds(30), Duration.ofSeconds(60), Duration.ofSeconds(5), Duration.ofMillis(100), Duration.ofMillis(500), scheduler);
+        try {
+            singleMonitor.start();
+            single.joinGroup("demo", false);
+            scheduler.advanceTime(Duration.ofSeconds(60));
+
+            SolaceContext context = (SolaceContext) single.getContext("demo", false);
+            assertThat(context.getState(), is(LeaderState.YIELDING));
+            long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+            while (context.getState() != LeaderState.LEADER && System.nanoTime() - deadline < 0) {
+                Thread.sleep(10);
+            }
+
+            assertThat("No peer took over", context.getState(), is(LeaderState.LEADER));
+            assertThat("The join and one probe per cooldown within the yield timeout", binds.get(), lessThanOrEqualTo(8));
+        } finally {
+            singleMonitor.stop();
+            singleMonitor.destroy();
+            single.destroy();
+        }
+    }
+
+    @Test
+    public void meterLoadIsTheHighestRatioToTheThreshold() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        meterRegistry.gauge("process.cpu.usage", 0.45);
+        meterRegistry.timer("jvm.gc.pause").record(Duration.ofMillis(300));
+
+        MeterOverloadPolicy policy = new MeterOverloadPolicy(meterRegistry, Map.of("process.cpu.usage", 0.9, "jvm.gc.pause", 0.2));
+
+        assertThat(policy.getLoad(), closeTo(1.5, 0.001));
+    }
+}
@@ -0,0 +1,59 @@
+package community.solace.spring.integration.leader.queue;
+
+import com.solacesystems.jcsmp.Context;
+import com.solacesystems.jcsmp.JCSMPProperties;
+import com.solacesystems.jcsmp.JCSMPSession;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+public class SolaceLeaderSessionPoolTest {
+
+    private final List<JCSMPSession> sessions = IntStream.range(0, 4)
+            .mapToObj(i -> mock(JCSMPSession.class, "session-" + i))
+            .toList();
+
+    @Test
+    public void explicitAssignment() {
+        SolaceLeaderSessionPool pool = new SolaceLeaderSessionPool(sessions, List.of(), Map.of("billing", 2));
+
+        Assert.assertSame(sessions.get(2), pool.getSession("billing"));
+    }
+
+    @Test
+    public void hashAssignmentIsStableAndSpreadsGroups() {
+        SolaceLeaderSessionPool pool = new SolaceLeaderSessionPool(sessions, List.of(), Map.of());
+
+        Set<Integer> used = new HashSet<>();
+        for (int i = 0; i < 100; i++) {
+            String role = "group-" + i;
+            Assert.assertEquals(pool.getSessionIndex(role), pool.getSessionIndex(role));
+            used.add(pool.getSessionIndex(role));
+        }
+        Assert.assertEquals(Set.of(0, 1, 2, 3), used);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void assignmentOutOfRange() throws Exception {
+        new SolaceLeaderSessionPool(new JCSMPProperties(), null, 2, Map.of("billing", 2));
+    }
+
+    @Test
+    public void destroyClosesSessionsAndContexts() {
+        Context context = mock(Context.class);
+        SolaceLeaderSessionPool pool = new SolaceLeaderSessionPool(sessions, List.of(context), Map.of());
+
+        pool.destroy();
+
+        sessions.forEach(session -> verify(session).closeSession());
+        verify(context).destroy();
+    }
+}
@@ -0,0 +1,36 @@
+package community.solace.spring.integration.leader.queue;
+
+import com.solacesystems.jcsmp.JCSMPSession;
+import com.solacesystems.jcsmp.JCSMPStreamingPublishCorrelatingEventHandler;
+import com.solacesystems.jcsmp.XMLMessageConsumer;
+import com.solacesystems.jcsmp.XMLMessageListener;
+import com.solacesystems.jcsmp.XMLMessageProducer;
+import org.junit.Test;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class SolaceTopicDispatcherTest {
+
+    @Test
+    public void destroyClosesTheProducerAndTheConsumer() throws Exception {
+        JCSMPSession session = mock(JCSMPSession.class);
+        XMLMessageProducer producer = mock(XMLMessageProducer.class);
+        XMLMessageConsumer consumer = mock(XMLMessageConsumer.class);
+        when(session.getMessageProducer(any(JCSMPStreamingPublishCorrelatingEventHandler.class))).thenReturn(producer);
+        when(session.getMessageConsumer(any(XMLMessageListener.class))).thenReturn(consumer);
+        SolaceTopicDispatcher dispatcher = new SolaceTopicDispatcher(session);
+
+        dispatcher.subscribe("leader/announce/>", message -> {
+        });
+        dispatcher.destroy();
+
+        verify(consumer).start();
+        verify(consumer).close();
+        verify(producer).close();
+        verify(session, never()).closeSession();
+    }
+}
@@ -0,0 +1,258 @@
+package community.solace.spring.integration.leader.scheduling;
+
+import community.solace.spring.integration.leader.SolaceLeaderAutoConfiguration;
+import community.solace.spring.integration.leader.leader.JoinGroupConfig;
+import community.solace.spring.integration.leader.leader.SolaceLeaderConfig;
+import community.solace.spring.integration.leader.leader.SolaceLeaderInitiator;
+import community.solace.spring.integration.leader.support.SimulatedLeaderCluster;
+import community.solace.spring.integration.leader.support.SolaceLeaderTestConfiguration;
+import community.solace.spring.integration.leader.support.SolaceLeaderTestSupport;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.annotation.Scope;
+import org.springframework.scheduling.support.CronExpression;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+@RunWith(SpringRunner.class)
+@SpringBootTest(properties = {
+        "spring.leader.join-groups[0].group-name=" + LeaderJobSchedulerTest.ROLE,
+        "spring.leader.join-groups[0].join-type=ON_READINESS"
+})
+public class LeaderJobSchedulerTest {
+
+    static final String ROLE = "job-group";
+    private static final String JOB = "settlement";
+    private static final Path STORE_FILE = createStoreFile();
+
+    @Autowired
+    private SolaceLeaderTestSupport leaderSupport;
+
+    @Autowired
+    private Settlement settlement;
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @Before
+    public void setUp() {
+        leaderSupport.setLeadership(ROLE, false);
+        settlement.fireTimes.clear();
+    }
+
+    @AfterClass
+    public static void tearDown() throws IOException {
+        Files.deleteIfExists(STORE_FILE);
+    }
+
+    @Test
+    public void newLeaderCatchesUpTheLatestMissedRuns() throws Exception {
+        Instant lastRun = Instant.now().truncatedTo(ChronoUnit.SECONDS).minusSeconds(60);
+        new FileLeaderJobStore(STORE_FILE).setLastFireTime(JOB, lastRun);
+
+        leaderSupport.setLeadership(ROLE, true);
+        Thread.sleep(1500);
+        leaderSupport.setLeadership(ROLE, false);
+
+        List<Instant> fireTimes = List.copyOf(settlement.fireTimes);
+        Assert.assertTrue("catch-up and at least one regular run expected: " + fireTimes, fireTimes.size() >= 4);
+        // The 3 latest missed runs, in order.
+        Assert.assertEquals(fireTimes.get(1), fireTimes.get(0).plusSeconds(1));
+        Assert.assertEquals(fireTimes.get(2), fireTimes.get(1).plusSeconds(1));
+        Assert.assertTrue(fireTimes.get(0).isAfter(lastRun.plusSeconds(50)));
+
+        Instant lastFireTime = new FileLeaderJobStore(STORE_FILE).getLastFireTime(JOB).orElseThrow();
+        Assert.assertEquals(fireTimes.get(fireTimes.size() - 1), lastFireTime);
+
+        int runs = settlement.fireTimes.size();
+        Thread.sleep(1500);
+        Assert.assertEquals("No runs on standby", runs, settlement.fireTimes.size());
+    }
+
+    @Test
+    public void noCatchUpWithoutPreviousRun() throws Exception {
+        Files.deleteIfExists(STORE_FILE);
+
+        leaderSupport.setLeadership(ROLE, true);
+        Thread.sleep(500);
+        leaderSupport.setLeadership(ROLE, false);
+
+        Assert.assertTrue(settlement.fireTimes.stream().noneMatch(t -> t.isBefore(Instant.now().minusSeconds(2))));
+    }
+
+    @Test
+    public void schedulingDoesNotJoinAFirstUseGroup() throws Exception {
+        JoinGroupConfig joinGroup = new JoinGroupConfig();
+        joinGroup.setGroupName("lazy");
+        joinGroup.setJoinType(SolaceLeaderConfig.LEADER_GROUP_JOIN.FIRST_USE);
+        SolaceLeaderConfig leaderConfig = new SolaceLeaderConfig();
+        leaderConfig.setJoinGroups(List.of(joinGroup));
+        SimulatedLeaderCluster.Node node = new SimulatedLeaderCluster().createNode("a");
+        SolaceLeaderInitiator initiator = new SolaceLeaderInitiator(node, leaderConfig, null, node.getMeterRegistry());
+        LeaderJobScheduler scheduler = new LeaderJobScheduler(initiator, new InMemoryLeaderJobStore());
+        try {
+            scheduler.schedule(new LeaderJob("lazy-job", "lazy", "* * * * * *", fireTime -> {
+            }));
+
+            Assert.assertNull(initiator.getContext("lazy", false));
+        } finally {
+            scheduler.destroy();
+            initiator.destroy();
+        }
+    }
+
+    @Test
+    public void nodeLocalStoreDoesNotRepeatTheRunsOfAnotherLeader() throws Exception {
+        SimulatedLeaderCluster.Node node = new SimulatedLeaderCluster().createNode("a");
+        SolaceLeaderInitiator initiator = new SolaceLeaderInitiator(node, new SolaceLeaderConfig(), null, node.getMeterRegistry());
+        LeaderJob job = new LeaderJob("hourly", "local", CronExpression.parse("0 0 * * * *"), ZoneOffset.UTC,
+                CatchUpPolicy.LATEST, LeaderJob.DEFAULT_MAX_CATCH_UP_RUNS, fireTime -> {
+        });
+        // This process ran 10:00, another leader ran 11:00, and the leadership came back at 11:30.
+        Instant now = Instant.parse("2026-01-01T11:30:00Z");
+        InMemoryLeaderJobStore localStore = new InMemoryLeaderJobStore();
+        localStore.setLastFireTime(job.name(), Instant.parse("2026-01-01T10:00:00Z"));
+        FileLeaderJobStore sharedStore = new FileLeaderJobStore(STORE_FILE);
+        sharedStore.setLastFireTime(job.name(), Instant.parse("2026-01-01T10:00:00Z"));
+        LeaderJobScheduler localScheduler = new LeaderJobScheduler(initiator, localStore);
+        LeaderJobScheduler sharedScheduler = new LeaderJobScheduler(initiator, sharedStore);
+        try {
+            Assert.assertEquals(List.of(), localScheduler.missedFireTimes(job, now));
+            // Only a shared store would know that 11:00 already ran, this one missed it.
+            Assert.assertEquals(List.of(Instant.parse("2026-01-01T11:00:00Z")), sharedScheduler.missedFireTimes(job, now));
+        } finally {
+            localScheduler.destroy();
+            sharedScheduler.destroy();
+            initiator.destroy();
+        }
+    }
+
+    @Test
+    public void failedRunIsRetriedBeforeTheNextRun() throws Exception {
+        SolaceLeaderConfig leaderConfig = new SolaceLeaderConfig();
+        leaderConfig.setPermitAnonymousGroups(true);
+        SimulatedLeaderCluster.Node node = new SimulatedLeaderCluster().createNode("a");
+        SolaceLeaderInitiator initiator = new SolaceLeaderInitiator(node, leaderConfig, null, node.getMeterRegistry());
+        InMemoryLeaderJobStore sharedStore = new InMemoryLeaderJobStore() {
+            @Override
+            public boolean isShared() {
+                return true;
+            }
+        };
+        sharedStore.setLastFireTime("failing", Instant.now().truncatedTo(ChronoUnit.SECONDS));
+        LeaderJobScheduler scheduler = new LeaderJobScheduler(initiator, sharedStore);
+        List<Instant> attempts = new CopyOnWriteArrayList<>();
+        List<Instant> completed = new CopyOnWriteArrayList<>();
+        try {
+            scheduler.schedule(new LeaderJob("failing", "failing", CronExpression.parse("* * * * * *"), ZoneOffset.UTC,
+                    CatchUpPolicy.ALL, LeaderJob.DEFAULT_MAX_CATCH_UP_RUNS, fireTime -> {
+                attempts.add(fireTime);
+                if (attempts.size() == 1) {
+                    throw new IllegalStateException("settlement failed");
+                }
+                completed.add(fireTime);
+            }));
+            initiator.joinGroup("failing", false);
+            Thread.sleep(2500);
+        } finally {
+            scheduler.destroy();
+            initiator.destroy();
+        }
+
+        Assert.assertTrue("a retry and a regular run expected: " + attempts, completed.size() >= 2);
+        Assert.assertEquals("The failed run is retried first", attempts.get(0), completed.get(0));
+        for (int i = 1; i < completed.size(); i++) {
+            Assert.assertEquals(completed.get(i - 1).plusSeconds(1), completed.get(i));
+        }
+    }
+
+    @Test
+    public void jobsOfLazyBeansAreScheduledAndPrototypesAreIgnored() throws Exception {
+        LateSettlement lazySettlement = applicationContext.getBean("lazySettlement", LateSettlement.class);
+        LateSettlement prototypeSettlement = applicationContext.getBean("prototypeSettlement", LateSettlement.class);
+        applicationContext.getBean("prototypeSettlement", LateSettlement.class);
+
+        leaderSupport.setLeadership(ROLE, true);
+        Thread.sleep(1500);
+        leaderSupport.setLeadership(ROLE, false);
+
+        Assert.assertFalse("The lazy bean was created after the startup", lazySettlement.lateFireTimes.isEmpty());
+        Assert.assertTrue(prototypeSettlement.lateFireTimes.isEmpty());
+    }
+
+    private static Path createStoreFile() {
+        try {
+            Path file = Files.createTempFile("leader-jobs", ".properties");
+            Files.delete(file);
+            return file;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public static class Settlement {
+        final List<Instant> fireTimes = new CopyOnWriteArrayList<>();
+
+        @LeaderScheduled(value = ROLE, cron = "* * * * * *", name = JOB, catchUp = CatchUpPolicy.ALL, maxCatchUpRuns = 3)
+        public void settle(Instant fireTime) {
+            fireTimes.add(fireTime);
+        }
+    }
+
+    public static class LateSettlement {
+        final List<Instant> lateFireTimes = new CopyOnWriteArrayList<>();
+
+        @LeaderScheduled(value = ROLE, cron = "* * * * * *")
+        public void settleLate(Instant fireTime) {
+            lateFireTimes.add(fireTime);
+        }
+    }
+
+    @Configuration
+    @ImportAutoConfiguration(SolaceLeaderAutoConfiguration.class)
+    @Import(SolaceLeaderTestConfiguration.class)
+    static class TestConfig {
+
+        @Bean
+        public LeaderJobStore leaderJobStore() {
+            return new FileLeaderJobStore(STORE_FILE);
+        }
+
+        @Bean
+        public Settlement settlement() {
+            return new Settlement();
+        }
+
+        @Bean
+        @Lazy
+        public LateSettlement lazySettlement() {
+            return new LateSettlement();
+        }
+
+        @Bean
+        @Scope("prototype")
+        public LateSettlement prototypeSettlement() {
+            return new LateSettlement();
+        }
+    }
+}
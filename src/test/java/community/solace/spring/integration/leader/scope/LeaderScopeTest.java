@@ -0,0 +1,99 @@
+package community.solace.spring.integration.leader.scope;
+
+import community.solace.spring.integration.leader.SolaceLeaderAutoConfiguration;
+import community.solace.spring.integration.leader.leader.SolaceLeaderInitiator;
+import community.solace.spring.integration.leader.support.SolaceLeaderTestConfiguration;
+import community.solace.spring.integration.leader.support.SolaceLeaderTestSupport;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.support.ScopeNotActiveException;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+@RunWith(SpringRunner.class)
+@SpringBootTest(properties = "spring.leader.permit-anonymous-groups=true")
+public class LeaderScopeTest {
+
+    private static final String ROLE = "scope-group";
+
+    @Autowired
+    private SolaceLeaderInitiator leaderInitiator;
+
+    @Autowired
+    private SolaceLeaderTestSupport leaderSupport;
+
+    @Autowired
+    private LeaderOnlyResource resource;
+
+    @Before
+    public void setUp() {
+        if (leaderInitiator.getContext(ROLE, false) == null) {
+            leaderInitiator.joinGroup(ROLE);
+        }
+        leaderSupport.setLeadership(ROLE, false);
+        LeaderOnlyResource.created.set(0);
+        LeaderOnlyResource.destroyed.set(0);
+    }
+
+    @Test
+    public void beanIsCreatedLazilyOnGrantAndDestroyedOnRevoke() {
+        Assert.assertEquals(0, LeaderOnlyResource.created.get());
+
+        leaderSupport.setLeadership(ROLE, true);
+        Assert.assertEquals(0, LeaderOnlyResource.created.get());
+
+        Assert.assertEquals("work done", resource.work());
+        resource.work();
+        Assert.assertEquals(1, LeaderOnlyResource.created.get());
+
+        leaderSupport.setLeadership(ROLE, false);
+        Assert.assertEquals(1, LeaderOnlyResource.destroyed.get());
+
+        leaderSupport.setLeadership(ROLE, true);
+        resource.work();
+        Assert.assertEquals("A new leadership creates a new instance", 2, LeaderOnlyResource.created.get());
+    }
+
+    @Test(expected = ScopeNotActiveException.class)
+    public void beanIsNotAvailableOnStandby() {
+        resource.work();
+    }
+
+    public static class LeaderOnlyResource {
+        static final AtomicInteger created = new AtomicInteger();
+        static final AtomicInteger destroyed = new AtomicInteger();
+
+        public LeaderOnlyResource() {
+            created.incrementAndGet();
+        }
+
+        public String work() {
+            return "work done";
+        }
+
+        public void close() {
+            destroyed.incrementAndGet();
+        }
+    }
+
+    @Configuration
+    @ImportAutoConfiguration(SolaceLeaderAutoConfiguration.class)
+    @Import(SolaceLeaderTestConfiguration.class)
+    static class TestConfig {
+
+        @Bean(destroyMethod = "close")
+        @LeaderScoped(ROLE)
+        public LeaderOnlyResource leaderOnlyResource() {
+            return new LeaderOnlyResource();
+        }
+    }
+}
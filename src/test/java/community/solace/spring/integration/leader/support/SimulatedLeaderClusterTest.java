@@ -0,0 +1,80 @@
+package community.solace.spring.integration.leader.support;
+
+import community.solace.spring.integration.leader.leader.SolaceLeaderConfig;
+import community.solace.spring.integration.leader.leader.SolaceLeaderInitiator;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+public class SimulatedLeaderClusterTest {
+
+    private static final String GROUP = "cluster-group";
+
+    private final SimulatedLeaderCluster cluster = new SimulatedLeaderCluster();
+    private final List<SimulatedLeaderCluster.Node> nodes = new ArrayList<>();
+    private final List<SolaceLeaderInitiator> initiators = new ArrayList<>();
+
+    @Before
+    public void setUp() {
+        SolaceLeaderConfig leaderConfig = new SolaceLeaderConfig();
+        leaderConfig.setPermitAnonymousGroups(true);
+
+        for (String name : List.of("a", "b", "c")) {
+            SimulatedLeaderCluster.Node node = cluster.createNode(name);
+            nodes.add(node);
+            initiators.add(new SolaceLeaderInitiator(node, leaderConfig, null, node.getMeterRegistry()));
+        }
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        for (SolaceLeaderInitiator initiator : initiators) {
+            initiator.destroy();
+        }
+    }
+
+    @Test
+    public void firstBoundNodeIsLeader_nextInLineTakesOverOnYield() {
+        initiators.forEach(initiator -> initiator.joinGroup(GROUP));
+
+        assertThat(cluster.getBindOrder(GROUP), contains("a", "b", "c"));
+        assertThat(isLeader(0), is(true));
+        assertThat(isLeader(1), is(false));
+        assertThat(isLeader(2), is(false));
+
+        initiators.get(0).yieldLeaderShip(GROUP);
+
+        assertThat(cluster.getBindOrder(GROUP), contains("b", "c", "a"));
+        assertThat(isLeader(0), is(false));
+        assertThat(isLeader(1), is(true));
+        assertThat(isLeader(2), is(false));
+    }
+
+    @Test
+    public void crashedLeaderIsReplaced_withoutNotifyingTheCrashedNode() {
+        initiators.forEach(initiator -> initiator.joinGroup(GROUP));
+
+        nodes.get(0).crash();
+
+        assertThat(cluster.getLeader(GROUP), is("b"));
+        assertThat(isLeader(1), is(true));
+        assertThat("A crashed node does not learn about the takeover", isLeader(0), is(true));
+
+        nodes.get(1).crash();
+        initiators.get(2).leaveGroup(GROUP);
+
+        assertThat(cluster.getLeader(GROUP), nullValue());
+    }
+
+    private boolean isLeader(int node) {
+        return initiators.get(node).getContext(GROUP).isLeader();
+    }
+}
@@ -0,0 +1,82 @@
+package community.solace.spring.integration.leader.support;
+
+import community.solace.spring.integration.leader.SolaceLeaderAutoConfiguration;
+import community.solace.spring.integration.leader.discovery.LeaderAnnouncement;
+import community.solace.spring.integration.leader.discovery.LeaderAnnouncementTransport;
+import community.solace.spring.integration.leader.leader.SolaceLeaderInitiator;
+import community.solace.spring.integration.leader.overload.LeaderOverloadPolicy;
+import community.solace.spring.integration.leader.queue.SolaceTopicDispatcher;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import java.util.function.Consumer;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.mock;
+
+@RunWith(SpringRunner.class)
+@SpringBootTest(properties = {
+        "spring.leader.permit-anonymous-groups=true",
+        "spring.leader.overload-yield-enabled=true",
+        "spring.leader.discovery-enabled=true"
+})
+public class SolaceLeaderTestConfigurationTest {
+
+    @Autowired
+    private SolaceLeaderTestSupport leaderSupport;
+
+    @Autowired
+    private SolaceLeaderInitiator initiator;
+
+    @Test(timeout = 10_000)
+    public void periodicTasksDoNotRunOnTheEventScheduler() {
+        String group = "periodic-group";
+        initiator.joinGroup(group);
+
+        leaderSupport.setLeadership(group, true);
+        leaderSupport.setLeadership(group, false);
+
+        assertThat("Only the one-shot debounce tasks", leaderSupport.getEventScheduler().getPendingCount(), is(0));
+    }
+
+    @Configuration
+    @ImportAutoConfiguration(SolaceLeaderAutoConfiguration.class)
+    @Import(SolaceLeaderTestConfiguration.class)
+    static class TestConfig {
+
+        @Bean
+        public LeaderOverloadPolicy leaderOverloadPolicy() {
+            return () -> 0.0;
+        }
+
+        @Bean
+        public SolaceTopicDispatcher solaceTopicDispatcher() {
+            return mock(SolaceTopicDispatcher.class);
+        }
+
+        @Bean
+        public LeaderAnnouncementTransport leaderAnnouncementTransport() {
+            return new LeaderAnnouncementTransport() {
+                @Override
+                public void start(Consumer<LeaderAnnouncement> listener) {
+                }
+
+                @Override
+                public void publish(LeaderAnnouncement announcement) {
+                }
+
+                @Override
+                public void stop() {
+                }
+            };
+        }
+    }
+}
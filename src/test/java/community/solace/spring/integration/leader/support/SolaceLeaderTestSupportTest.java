@@ -7,11 +7,17 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.annotation.Import;
 import org.springframework.integration.leader.Context;
+import org.springframework.integration.leader.event.OnGrantedEvent;
+import org.springframework.integration.leader.event.OnRevokedEvent;
 import org.springframework.test.context.junit4.SpringRunner;
 
+import java.time.Duration;
 import java.util.Collections;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.notNullValue;
 
@@ -40,6 +46,9 @@ public class SolaceLeaderTestSupportTest {
     @Autowired
     private TestApplication.LeaderAwareService leaderAwareService;
 
+    @Autowired
+    private TestApplication.LeaderEventRecorder leaderEventRecorder;
+
     @Test
     public void testLeaderAwareReadinessGroup() {
         String group = "readiness-group";
@@ -126,4 +135,36 @@ public class SolaceLeaderTestSupportTest {
         leaderSupport.setLeadership(group, true);
         assertThat("Should be leader now", context.isLeader(), is(true));
     }
+
+    @Test
+    public void testLeaderEventsArePublishedSynchronously() {
+        String group = "synchronous-events-group";
+        initiator.joinGroup(group);
+
+        leaderSupport.setLeadership(group, true);
+
+        assertThat(leaderEventRecorder.getEvents(group), hasSize(1));
+        assertThat(leaderEventRecorder.getEvents(group).get(0), instanceOf(OnGrantedEvent.class));
+    }
+
+    @Test
+    public void testLeaderEventsAreDebouncedInVirtualTime() {
+        String group = "virtual-time-group";
+        initiator.joinGroup(group);
+        leaderSupport.setAutoFlushEvents(false);
+        try {
+            leaderSupport.setLeadership(group, true);
+            leaderSupport.advanceTime(Duration.ofMillis(100));
+            leaderSupport.setLeadership(group, false);
+
+            leaderSupport.advanceTime(Duration.ofMillis(499));
+            assertThat("Still within the debounce window", leaderEventRecorder.getEvents(group), empty());
+
+            leaderSupport.advanceTime(Duration.ofMillis(1));
+            assertThat(leaderEventRecorder.getEvents(group), hasSize(1));
+            assertThat(leaderEventRecorder.getEvents(group).get(0), instanceOf(OnRevokedEvent.class));
+        } finally {
+            leaderSupport.setAutoFlushEvents(true);
+        }
+    }
 }
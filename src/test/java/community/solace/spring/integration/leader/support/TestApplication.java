@@ -1,8 +1,14 @@
 package community.solace.spring.integration.leader.support;
 import community.solace.spring.integration.leader.aspect.LeaderAware;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.event.EventListener;
+import org.springframework.integration.leader.event.AbstractLeaderEvent;
+import org.springframework.stereotype.Component;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
 @SpringBootApplication
 public class TestApplication {
     @Service
@@ -33,4 +39,18 @@ public class TestApplication {
             return testGroupExecuted;
         }
     }
+
+    @Component
+    public static class LeaderEventRecorder {
+        private final List<AbstractLeaderEvent> events = new CopyOnWriteArrayList<>();
+
+        @EventListener
+        public void onLeaderEvent(AbstractLeaderEvent event) {
+            events.add(event);
+        }
+
+        public List<AbstractLeaderEvent> getEvents(String role) {
+            return events.stream().filter(event -> role.equals(event.getRole())).toList();
+        }
+    }
 }
@@ -0,0 +1,55 @@
+package community.solace.spring.integration.leader.support;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+
+public class VirtualTimeTaskSchedulerTest {
+
+    private final VirtualTimeTaskScheduler scheduler = new VirtualTimeTaskScheduler();
+    private final AtomicInteger runs = new AtomicInteger();
+
+    @Test
+    public void flushRunsTheTasksScheduledByTheTasksRun() {
+        scheduler.schedule(() -> scheduler.schedule(runs::incrementAndGet, Instant.EPOCH.plusSeconds(2)), Instant.EPOCH.plusSeconds(1));
+
+        scheduler.flush();
+
+        assertThat(runs.get(), is(1));
+        assertThat(scheduler.getClock().instant(), is(Instant.EPOCH.plusSeconds(2)));
+    }
+
+    @Test(timeout = 5_000)
+    public void flushFailsOnATaskReschedulingItself() {
+        scheduleEverySecond();
+
+        IllegalStateException e = Assert.assertThrows(IllegalStateException.class, scheduler::flush);
+
+        assertThat(e.getMessage(), containsString("rescheduling itself"));
+        assertThat(runs.get(), is(VirtualTimeTaskScheduler.MAX_FLUSHED_TASKS));
+    }
+
+    @Test
+    public void advanceTimeRunsTheRescheduledTasksDueUntilTheTarget() {
+        scheduleEverySecond();
+
+        scheduler.advanceTime(Duration.ofSeconds(3));
+
+        assertThat(runs.get(), is(3));
+        assertThat(scheduler.getClock().instant(), is(Instant.EPOCH.plusSeconds(3)));
+    }
+
+    private void scheduleEverySecond() {
+        scheduler.schedule(() -> {
+            runs.incrementAndGet();
+            scheduleEverySecond();
+        }, scheduler.getClock().instant().plusSeconds(1));
+    }
+}
@@ -0,0 +1,160 @@
+package community.solace.spring.integration.leader.work;
+
+import com.solacesystems.jcsmp.BytesMessage;
+import com.solacesystems.jcsmp.ConsumerFlowProperties;
+import com.solacesystems.jcsmp.FlowEvent;
+import com.solacesystems.jcsmp.FlowEventHandler;
+import com.solacesystems.jcsmp.FlowReceiver;
+import com.solacesystems.jcsmp.JCSMPProperties;
+import com.solacesystems.jcsmp.JCSMPSession;
+import com.solacesystems.jcsmp.XMLMessageListener;
+import com.solacesystems.jcsmp.impl.flow.FlowEventArgsImpl;
+import community.solace.spring.integration.leader.leader.SolaceLeaderConfig;
+import community.solace.spring.integration.leader.leader.SolaceLeaderInitiator;
+import community.solace.spring.integration.leader.queue.SolaceLeaderViaQueue;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.integration.channel.DirectChannel;
+import org.springframework.messaging.Message;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.ArgumentMatchers.notNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class LeaderWorkRegistryTest {
+
+    private final LeaderWorkRegistry registry = new LeaderWorkRegistry();
+
+    @Test
+    public void messageIsAcknowledgedAfterTheHandlerReturned() {
+        List<Message<byte[]>> received = new ArrayList<>();
+        registry.register("billing", received::add);
+        BytesMessage message = bytesMessage("work");
+
+        registry.listenerFor("billing").onReceive(message);
+
+        assertThat(received, hasSize(1));
+        assertThat(new String(received.get(0).getPayload()), is("work"));
+        assertThat(received.get(0).getHeaders().get(LeaderWorkRegistry.ROLE_HEADER), is("billing"));
+        assertThat(received.get(0).getHeaders().get(LeaderWorkRegistry.CORRELATION_ID_HEADER), is("c-1"));
+        verify(message).ackMessage();
+    }
+
+    @Test
+    public void messageStaysUnacknowledgedIfTheHandlerFailedOrIsMissing() {
+        registry.register("billing", m -> {
+            throw new IllegalStateException("failed");
+        });
+        BytesMessage failed = bytesMessage("failed");
+        BytesMessage unhandled = bytesMessage("unhandled");
+
+        assertThrows(IllegalStateException.class, () -> registry.listenerFor("billing").onReceive(failed));
+        assertThrows(IllegalStateException.class, () -> registry.listenerFor("settlement").onReceive(unhandled));
+
+        verify(failed, never()).ackMessage();
+        verify(unhandled, never()).ackMessage();
+    }
+
+    @Test
+    public void messagesAreSentToTheChannel() {
+        DirectChannel channel = new DirectChannel();
+        List<String> received = new ArrayList<>();
+        channel.subscribe(m -> received.add(new String((byte[]) m.getPayload())));
+        registry.registerChannel("billing", channel);
+
+        registry.listenerFor("billing").onReceive(bytesMessage("first"));
+        registry.listenerFor("billing").onReceive(bytesMessage("second"));
+
+        assertThat(received, contains("first", "second"));
+    }
+
+    @Test
+    public void leaderFlowUsesClientAcknowledgements() throws Exception {
+        JCSMPSession session = mock(JCSMPSession.class);
+        when(session.createFlow(isNull(), any(ConsumerFlowProperties.class), any(), any())).thenReturn(mock(FlowReceiver.class));
+        ArgumentCaptor<XMLMessageListener> listener = ArgumentCaptor.forClass(XMLMessageListener.class);
+        ArgumentCaptor<ConsumerFlowProperties> flowProperties = ArgumentCaptor.forClass(ConsumerFlowProperties.class);
+        when(session.createFlow(listener.capture(), flowProperties.capture(), isNull(), notNull())).thenReturn(mock(FlowReceiver.class));
+        List<Message<byte[]>> received = new ArrayList<>();
+        registry.register("billing", received::add);
+
+        SolaceLeaderViaQueue leaderViaQueue = new SolaceLeaderViaQueue(session, "billing", null, e -> {
+        }, registry.listenerFor("billing"), 10);
+        leaderViaQueue.start("billing");
+        listener.getValue().onReceive(bytesMessage("work"));
+
+        assertThat(flowProperties.getValue().getAckMode(), is(JCSMPProperties.SUPPORTED_MESSAGE_ACK_CLIENT));
+        assertThat(flowProperties.getValue().getTransportWindowSize(), is(10));
+        assertThat(received, hasSize(1));
+    }
+
+    @Test
+    public void failedMessageIsRedeliveredBeforeTheNewerMessages() throws Exception {
+        JCSMPSession session = mock(JCSMPSession.class);
+        when(session.createFlow(isNull(), any(ConsumerFlowProperties.class), any(), any())).thenReturn(mock(FlowReceiver.class));
+        ArgumentCaptor<XMLMessageListener> listener = ArgumentCaptor.forClass(XMLMessageListener.class);
+        ArgumentCaptor<FlowEventHandler> flowEvents = ArgumentCaptor.forClass(FlowEventHandler.class);
+        when(session.createFlow(listener.capture(), any(ConsumerFlowProperties.class), isNull(), flowEvents.capture()))
+                .thenReturn(mock(FlowReceiver.class));
+        List<String> received = new ArrayList<>();
+        AtomicBoolean failing = new AtomicBoolean(true);
+        registry.register("billing", m -> {
+            String payload = new String(m.getPayload());
+            if (failing.getAndSet(false)) {
+                throw new IllegalStateException("failed " + payload);
+            }
+            received.add(payload);
+        });
+        SolaceLeaderConfig leaderConfig = new SolaceLeaderConfig();
+        leaderConfig.setPermitAnonymousGroups(true);
+        SolaceLeaderInitiator initiator = new SolaceLeaderInitiator((roleName, eventHandler, onError) -> new SolaceLeaderViaQueue(
+                session, roleName, eventHandler, onError, registry.listenerFor(roleName), 10), leaderConfig, null, new SimpleMeterRegistry());
+        try {
+            initiator.joinGroup("billing", false);
+            flowEvents.getValue().handleEvent(null, new FlowEventArgsImpl(FlowEvent.FLOW_ACTIVE, null, null, 0));
+            BytesMessage first = bytesMessage("first");
+            BytesMessage second = bytesMessage("second");
+
+            listener.getValue().onReceive(first);
+            listener.getValue().onReceive(second);
+            verify(first, never()).ackMessage();
+            verify(second, never()).ackMessage();
+            assertThat("Not handled before the failed message", received, hasSize(0));
+
+            // The leader yields and binds a new flow, which receives the unacknowledged messages again.
+            verify(session, timeout(5000).times(2)).createFlow(notNull(), any(ConsumerFlowProperties.class), isNull(), notNull());
+            BytesMessage firstRedelivered = bytesMessage("first");
+            BytesMessage secondRedelivered = bytesMessage("second");
+            listener.getValue().onReceive(firstRedelivered);
+            listener.getValue().onReceive(secondRedelivered);
+
+            assertThat(received, contains("first", "second"));
+            verify(firstRedelivered).ackMessage();
+            verify(secondRedelivered).ackMessage();
+        } finally {
+            initiator.destroy();
+        }
+    }
+
+    private static BytesMessage bytesMessage(String payload) {
+        BytesMessage message = mock(BytesMessage.class);
+        when(message.getData()).thenReturn(payload.getBytes());
+        when(message.getCorrelationId()).thenReturn("c-1");
+        return message;
+    }
+}